@@ -0,0 +1,37 @@
+package com.oseak.myFestaBackend.common.exception;
+
+import com.oseak.myFestaBackend.common.exception.code.BaseErrorCode;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+/**
+ * 처리량 제한(admission control)으로 요청을 거절할 때 사용하는 예외 클래스입니다.
+ *
+ * <p>{@link OsaekException}과 동일하게 에러 코드를 전달하며,
+ * 클라이언트가 재시도하기 전까지 기다려야 하는 시간(초)을 함께 담습니다.
+ * 전역 예외 핸들러에서 {@code Retry-After} 헤더로 변환됩니다.</p>
+ *
+ * <pre>
+ * 예시:
+ * throw new OsaekThrottleException(ClientErrorCode.PASSWORD_HASHING_BUSY, 1);
+ * </pre>
+ */
+@Schema(description = "처리량 제한 예외 클래스")
+@Getter
+public class OsaekThrottleException extends OsaekException {
+
+	/**
+	 * 재시도까지 대기해야 하는 시간(초)
+	 */
+	private final long retryAfterSeconds;
+
+	/**
+	 * @param errorCode         에러 코드 enum (HTTP 429 계열)
+	 * @param retryAfterSeconds 재시도까지 대기 시간(초)
+	 */
+	public OsaekThrottleException(BaseErrorCode errorCode, long retryAfterSeconds) {
+		super(errorCode);
+		this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+	}
+}
@@ -27,6 +27,8 @@ public enum ClientErrorCode implements BaseErrorCode {
 	SHORT_CODE_INVALID(HttpStatus.BAD_REQUEST, "OSAEK-20002", "short.code.invalid"),
 	// 권한 없음
 	FORBIDDEN(HttpStatus.FORBIDDEN, "OSAEK-20003", "validation.forbidden"),
+	// 키셋 페이지네이션 커서
+	CURSOR_INVALID(HttpStatus.BAD_REQUEST, "OSAEK-20004", "validation.cursor_invalid"),
 	// 회원 조회 관련
 	USER_ID_NOT_FOUND(HttpStatus.NOT_FOUND, "OSAEK-10001", "user.id.not_found"),
 	USER_EMAIL_NOT_FOUND(HttpStatus.NOT_FOUND, "OSAEK-10002", "user.email.not_found"),
@@ -41,6 +43,7 @@ public enum ClientErrorCode implements BaseErrorCode {
 	AUTH_ACCOUNT_DISABLED(HttpStatus.FORBIDDEN, "OSAEK-10006", "auth.account.disabled"),
 	AUTH_ACCOUNT_WITHDRAWN(HttpStatus.FORBIDDEN, "OSAEK-10007", "auth.account.withdrawn"),
 	AUTH_LOGIN_METHOD_INVALID(HttpStatus.FORBIDDEN, "OSAEK-10007", "auth.login.method.invalid"),
+	AUTH_LOGIN_ATTEMPT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "OSAEK-10010", "auth.login.attempt_exceeded"),
 
 	// 권한 관련
 	USER_UNAUTHORIZED_ACCESS(HttpStatus.FORBIDDEN, "OSAEK-10008", "user.unauthorized"),
@@ -58,6 +61,7 @@ public enum ClientErrorCode implements BaseErrorCode {
 	PASSWORD_NOT_FOUND(HttpStatus.UNAUTHORIZED, "OSAEK-10215", "password.not_found"),
 	PASSWORD_NOT_CORRECT(HttpStatus.UNAUTHORIZED, "OSAEK-10216", "password.not_correct"),
 	OAUTH_PASSWORD_CANT_CHANGE(HttpStatus.NOT_ACCEPTABLE, "OSAEK-10217", "password.cant_change"),
+	PASSWORD_HASHING_BUSY(HttpStatus.TOO_MANY_REQUESTS, "OSAEK-10218", "password.hashing_busy"),
 
 	// 지역 코드 관련
 	AREA_CODE_NOT_FOUND(HttpStatus.NOT_FOUND, "OSAEK-10009", "area.code.not_found"),
@@ -78,6 +82,10 @@ public enum ClientErrorCode implements BaseErrorCode {
 	FILE_SIZE_EXCEED(HttpStatus.BAD_REQUEST, "OSAEK-10515", "file.size_exceed"),
 	MEDIA_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "OSAEK-10516", "media.upload.fail"),
 	THUMBNAIL_GENERATION_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "OSAEK-10517", "thumbnail.generation.fail"),
+	MEDIA_PROCESSING_BUSY(HttpStatus.TOO_MANY_REQUESTS, "OSAEK-10518", "media.processing_busy"),
+	UPLOAD_KEY_INVALID(HttpStatus.BAD_REQUEST, "OSAEK-10519", "upload.key_invalid"),
+	UPLOAD_OBJECT_NOT_FOUND(HttpStatus.BAD_REQUEST, "OSAEK-10520", "upload.object_not_found"),
+	UPLOAD_ALREADY_COMPLETED(HttpStatus.CONFLICT, "OSAEK-10521", "upload.already_completed"),
 
 	// 축제 관련
 	FESTA_ID_NULL(HttpStatus.BAD_REQUEST, "OSAEK-30002", "festa.id.null"),
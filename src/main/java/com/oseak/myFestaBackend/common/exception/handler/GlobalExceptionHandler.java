@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.oseak.myFestaBackend.common.exception.OsaekException;
+import com.oseak.myFestaBackend.common.exception.OsaekThrottleException;
 import com.oseak.myFestaBackend.common.exception.code.BaseErrorCode;
 import com.oseak.myFestaBackend.common.exception.code.ClientErrorCode;
 import com.oseak.myFestaBackend.common.exception.code.ServerErrorCode;
@@ -50,6 +51,33 @@ public class GlobalExceptionHandler {
 		return buildErrorResponse(errorCode);
 	}
 
+	/**
+	 * {@link OsaekThrottleException} 예외를 처리하는 핸들러입니다.
+	 *
+	 * <p>처리량 제한으로 거절된 요청에 대해 에러 코드의 HTTP 상태(429)와 함께
+	 * 재시도까지 대기할 시간을 {@code Retry-After} 헤더로 내려줍니다.</p>
+	 *
+	 * @param ex OsaekThrottleException (재시도 대기 시간을 포함하는 커스텀 예외)
+	 * @return CommonResponse 형태의 HTTP 응답 (Retry-After 헤더 포함)
+	 */
+	@ExceptionHandler(OsaekThrottleException.class)
+	public ResponseEntity<CommonResponse<Void>> handleOsaekThrottleException(OsaekThrottleException ex) {
+		BaseErrorCode errorCode = ex.getErrorCode();
+		log.warn("Request throttled: {}, retryAfter={}s", errorCode.getCode(), ex.getRetryAfterSeconds());
+
+		HttpHeaders headers = buildDefaultHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+
+		String localizedMessage = messageUtil.getMessage(errorCode.getMessageKey());
+		return ResponseEntity
+			.status(errorCode.getHttpStatus())
+			.headers(headers)
+			.body(CommonResponse.fail(
+				errorCode.getCode(),
+				localizedMessage
+			));
+	}
+
 	/**
 	 * 처리되지 않은 모든 예외를 처리합니다.
 	 *
@@ -254,6 +254,19 @@ public class JwtUtil {
 		return null;
 	}
 
+	// 만료된 액세스 토큰의 클레임으로 새 액세스 토큰 생성 (서버는 리프레시 토큰 원문을 보관하지 않음)
+	public String reissueAccessToken(String expiredAccessToken) {
+		Claims claims = getAllClaimsFromToken(expiredAccessToken);
+
+		Map<String, Object> newClaims = new HashMap<>();
+		newClaims.put("email", claims.get("email", String.class));
+		newClaims.put("nickname", claims.get("nickname", String.class));
+		newClaims.put("provider", claims.get("provider", String.class));
+		newClaims.put("tokenType", "ACCESS");
+
+		return createToken(newClaims, claims.getSubject(), accessTokenExpiration);
+	}
+
 	public String refreshAccessToken(String refreshToken, Long memberId) {
 		if (!validateToken(refreshToken) || !isRefreshToken(refreshToken)) {
 			throw new OsaekException(JWT_REFRESH_TOKEN_INVALID);
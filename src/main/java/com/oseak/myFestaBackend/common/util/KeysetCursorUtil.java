@@ -0,0 +1,40 @@
+package com.oseak.myFestaBackend.common.util;
+
+import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.oseak.myFestaBackend.common.exception.OsaekException;
+
+/**
+ * (생성 시각, id) 키셋 페이지네이션 커서를 불투명 문자열로 변환하는 유틸
+ * 클라이언트는 응답의 nextCursor를 그대로 다음 요청에 넘기기만 하면 됨
+ */
+public final class KeysetCursorUtil {
+	private KeysetCursorUtil() {
+	}
+
+	private static final String DELIMITER = "|";
+
+	public static String encode(LocalDateTime createdAt, Long id) {
+		String raw = createdAt + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static Cursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int delimiterIndex = raw.lastIndexOf(DELIMITER);
+			return new Cursor(LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+				Long.parseLong(raw.substring(delimiterIndex + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+			throw new OsaekException(CURSOR_INVALID);
+		}
+	}
+
+	public record Cursor(LocalDateTime createdAt, Long id) {
+	}
+}
@@ -0,0 +1,28 @@
+package com.oseak.myFestaBackend.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 저장할 고정 길이 다이제스트(SHA-256, hex 64자)를 만드는 유틸
+ * DB에는 다이제스트만 저장하고, 조회 시에도 같은 방식으로 변환한 값으로 찾음
+ */
+public final class TokenHashUtil {
+	private TokenHashUtil() {
+	}
+
+	public static final int HASH_LENGTH = 64;
+
+	public static String sha256Hex(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hashed);
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256은 모든 JVM에서 지원되므로 발생하지 않음
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.oseak.myFestaBackend.config;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -12,15 +13,60 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+	/**
+	 * 미디어 처리 스레드풀
+	 * 작업 큐에서 가져온 작업만 실행하며, 가져오는 수를 worker-concurrency 이하로 제한하므로 스레드가 부족하지 않음
+	 * 썸네일 생성(CPU) 동시 실행 수는 MediaProcessingGovernor가 별도로 제한
+	 * 요청 스레드에서 실행(CallerRunsPolicy)하지 않고 거절
+	 */
 	@Bean(name = "mediaProcessingExecutor")
-	public Executor mediaProcessingExecutor() {
+	public Executor mediaProcessingExecutor(
+		@Value("${app.media.processing.worker-concurrency:10}") int workerConcurrency) {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		executor.setCorePoolSize(5);
-		executor.setMaxPoolSize(10);
-		executor.setQueueCapacity(100);
+		executor.setCorePoolSize(workerConcurrency);
+		executor.setMaxPoolSize(workerConcurrency);
+		executor.setQueueCapacity(workerConcurrency);
 		executor.setThreadNamePrefix("MediaProcessor-");
-		executor.setRejectedExecutionHandler(new
-			ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 축제 통계 정합성 점검 구간 실행 스레드풀
+	 * 구간마다 커넥션 2개(스트리밍 조회 + 보정 UPDATE)를 쓰므로 스레드 수를 커넥션 풀의 절반 이하로 제한해
+	 * 점검 중에도 다른 요청이 쓸 커넥션을 남겨 둠 (기본 풀 10개 → 스레드 2개, 커넥션 4개)
+	 */
+	@Bean(name = "statisticReconcileExecutor")
+	public ThreadPoolTaskExecutor statisticReconcileExecutor(
+		@Value("${app.festa.statistic-reconcile.parallelism:2}") int parallelism,
+		@Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+		int threads = Math.max(1, Math.min(parallelism, connectionPoolSize / 4));
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setThreadNamePrefix("StatReconciler-");
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 비밀번호 해시(BCrypt) 전용 스레드풀
+	 * CPU 바운드 작업이므로 코어 수만큼만 실행하고, 대기열이 가득 차면 호출 스레드에서 실행하지 않고 즉시 거절
+	 */
+	@Bean(name = "passwordHashingExecutor")
+	public ThreadPoolTaskExecutor passwordHashingExecutor(
+		@Value("${app.auth.password-hashing.pool-size:0}") int poolSize,
+		@Value("${app.auth.password-hashing.queue-capacity:64}") int queueCapacity) {
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("PasswordHasher-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 		executor.initialize();
 		return executor;
 	}
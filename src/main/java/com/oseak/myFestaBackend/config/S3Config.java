@@ -1,5 +1,7 @@
 package com.oseak.myFestaBackend.config;
 
+import java.net.URI;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,7 +10,13 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 public class S3Config {
@@ -21,6 +29,12 @@ public class S3Config {
 	@Value("${aws.s3.region}")
 	private String region;
 
+	// S3 호환 저장소(MinIO 등)를 쓸 때의 엔드포인트, 비우면 AWS S3
+	@Value("${aws.s3.endpoint:}")
+	private String endpoint;
+	@Value("${aws.s3.path-style-access:false}")
+	private boolean pathStyleAccess;
+
 	@Bean
 	public Region awsRegion() {
 		return Region.of(region);
@@ -30,9 +44,57 @@ public class S3Config {
 	public S3Client s3Client() {
 		AwsCredentials credentialsProvider = AwsBasicCredentials.create(accessKey, secretKey);
 
-		return S3Client.builder()
+		S3ClientBuilder builder = S3Client.builder()
+			.region(awsRegion())
+			.credentialsProvider(StaticCredentialsProvider.create(credentialsProvider))
+			.forcePathStyle(pathStyleAccess);
+		if (!endpoint.isBlank()) {
+			builder.endpointOverride(URI.create(endpoint));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 미디어 업로드용 비동기 클라이언트
+	 * threshold를 넘는 파일은 멀티파트 업로드로 나누어 파트를 병렬 전송
+	 */
+	@Bean
+	public S3AsyncClient s3AsyncClient(
+		@Value("${aws.s3.multipart.threshold-bytes:16777216}") long thresholdBytes,
+		@Value("${aws.s3.multipart.part-size-bytes:8388608}") long partSizeBytes) {
+		AwsCredentials credentialsProvider = AwsBasicCredentials.create(accessKey, secretKey);
+
+		S3AsyncClientBuilder builder = S3AsyncClient.builder()
+			.region(awsRegion())
+			.credentialsProvider(StaticCredentialsProvider.create(credentialsProvider))
+			.forcePathStyle(pathStyleAccess)
+			.multipartEnabled(true)
+			.multipartConfiguration(MultipartConfiguration.builder()
+				.thresholdInBytes(thresholdBytes)
+				.minimumPartSizeInBytes(partSizeBytes)
+				.build());
+		if (!endpoint.isBlank()) {
+			builder.endpointOverride(URI.create(endpoint));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 클라이언트가 API 서버를 거치지 않고 S3에 직접 올리도록 presigned URL을 만드는 데 사용
+	 */
+	@Bean
+	public S3Presigner s3Presigner() {
+		AwsCredentials credentialsProvider = AwsBasicCredentials.create(accessKey, secretKey);
+
+		S3Presigner.Builder builder = S3Presigner.builder()
 			.region(awsRegion())
 			.credentialsProvider(StaticCredentialsProvider.create(credentialsProvider))
-			.build();
+			.serviceConfiguration(S3Configuration.builder()
+				.pathStyleAccessEnabled(pathStyleAccess)
+				.build());
+		if (!endpoint.isBlank()) {
+			builder.endpointOverride(URI.create(endpoint));
+		}
+		return builder.build();
 	}
 }
@@ -2,6 +2,8 @@ package com.oseak.myFestaBackend.config;
 
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,7 +12,9 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -21,6 +25,9 @@ import com.oseak.myFestaBackend.common.exception.OsaekException;
 import com.oseak.myFestaBackend.common.exception.code.ClientErrorCode;
 import com.oseak.myFestaBackend.common.response.CommonResponse;
 import com.oseak.myFestaBackend.config.filter.JwtAuthenticationFilter;
+import com.oseak.myFestaBackend.config.security.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,10 +43,15 @@ public class SecurityConfig {
 	}
 
 	// 암호화를 진행하기 위한 함수
+	// BCrypt 연산은 전용 스레드풀에서 수행하고, 포화 시 즉시 429로 거절
 	@Bean
-	public BCryptPasswordEncoder bCryptPasswordEncoder() {
+	public PasswordEncoder passwordEncoder(
+		@Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+		@Value("${app.auth.password-hashing.timeout-ms:3000}") long timeoutMillis,
+		MeterRegistry meterRegistry) {
 
-		return new BCryptPasswordEncoder(10);
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(10),
+			passwordHashingExecutor.getThreadPoolExecutor(), timeoutMillis, meterRegistry);
 	}
 
 	@Bean
@@ -1,14 +1,64 @@
 package com.oseak.myFestaBackend.config;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
 @Configuration
 public class WebClientConfig {
+	@Primary
 	@Bean
 	public WebClient webClient(WebClient.Builder builder) {
 		return builder.build();
 	}
-}
 
+	/**
+	 * 카카오 OAuth/API 전용 WebClient
+	 * - 커넥션 풀 크기와 대기 큐를 제한해 카카오 응답 지연이 서버 전체로 번지지 않도록 함
+	 * - 연결/응답/읽기 타임아웃 적용, keep-alive로 커넥션 재사용
+	 * - 유휴 커넥션은 카카오 측에서 끊기 전에 백그라운드에서 정리
+	 */
+	@Bean
+	public WebClient kakaoWebClient(WebClient.Builder builder,
+		@Value("${app.kakao.http.max-connections:50}") int maxConnections,
+		@Value("${app.kakao.http.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+		@Value("${app.kakao.http.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMillis,
+		@Value("${app.kakao.http.max-idle-time-ms:30000}") long maxIdleTimeMillis,
+		@Value("${app.kakao.http.connect-timeout-ms:2000}") int connectTimeoutMillis,
+		@Value("${app.kakao.http.response-timeout-ms:5000}") long responseTimeoutMillis) {
+
+		ConnectionProvider connectionProvider = ConnectionProvider.builder("kakao")
+			.maxConnections(maxConnections)
+			.pendingAcquireMaxCount(pendingAcquireMaxCount)
+			.pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+			.maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+			.evictInBackground(Duration.ofMillis(maxIdleTimeMillis))
+			.metrics(true)
+			.build();
+
+		HttpClient httpClient = HttpClient.create(connectionProvider)
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+			.option(ChannelOption.SO_KEEPALIVE, true)
+			.keepAlive(true)
+			.responseTimeout(Duration.ofMillis(responseTimeoutMillis))
+			.doOnConnected(connection -> connection
+				.addHandlerLast(new ReadTimeoutHandler(responseTimeoutMillis, TimeUnit.MILLISECONDS))
+				.addHandlerLast(new WriteTimeoutHandler(responseTimeoutMillis, TimeUnit.MILLISECONDS)));
+
+		return builder.clone()
+			.clientConnector(new ReactorClientHttpConnector(httpClient))
+			.build();
+	}
+}
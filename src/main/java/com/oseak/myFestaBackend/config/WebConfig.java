@@ -4,11 +4,20 @@ import java.util.concurrent.TimeUnit;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.oseak.myFestaBackend.config.interceptor.MediaUploadAdmissionInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+
+	private final MediaUploadAdmissionInterceptor mediaUploadAdmissionInterceptor;
+
 	/**
 	 * 정적 리소스 핸들러 등록
 	 * 클라이언트가 "/images/profiles/**" 경로로 요청할 경우,
@@ -21,5 +30,14 @@ public class WebConfig implements WebMvcConfigurer {
 			.addResourceLocations("classpath:/static/images/profiles/")
 			.setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic());
 	}
+
+	/**
+	 * 파일 본문을 직접 받는 업로드 API는 본문을 읽기 전에 미디어 처리 포화 여부를 확인해 429로 거절
+	 */
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(mediaUploadAdmissionInterceptor)
+			.addPathPatterns("/stories/upload");
+	}
 }
 
@@ -1,6 +1,7 @@
 package com.oseak.myFestaBackend.config.filter;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -145,11 +146,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			MemberRefreshToken refreshTokenEntity = memberRefreshTokenRepository
 				.findByMemberId(memberId).orElse(null);
 
-			if (refreshTokenEntity != null &&
-				jwtUtil.validateToken(refreshTokenEntity.getToken()) &&
-				jwtUtil.isRefreshToken(refreshTokenEntity.getToken())) {
+			if (refreshTokenEntity != null && !refreshTokenEntity.isExpired(LocalDateTime.now())) {
 
-				String newAccessToken = jwtUtil.refreshAccessToken(refreshTokenEntity.getToken(), memberId);
+				String newAccessToken = jwtUtil.reissueAccessToken(expiredAccessToken);
 				log.debug("Successfully refreshed access token for member: {}", memberId);
 				return newAccessToken;
 			}
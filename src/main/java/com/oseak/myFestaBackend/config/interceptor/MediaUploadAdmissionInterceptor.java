@@ -0,0 +1,34 @@
+package com.oseak.myFestaBackend.config.interceptor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.oseak.myFestaBackend.service.MediaProcessingGovernor;
+import com.oseak.myFestaBackend.service.MediaProcessingJobService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 멀티파트 업로드 요청의 본문을 읽기 전에 미디어 처리 포화 여부를 확인
+ * - multipart 파싱을 지연(spring.servlet.multipart.resolve-lazily=true)시켜 두었으므로
+ *   이 인터셉터는 파일 본문이 spool 디스크에 기록되기 전에 실행된다
+ * - 작업 큐가 포화면 OsaekThrottleException을 던져 전역 예외 핸들러가 429 + Retry-After로 응답
+ *   (클라이언트가 Expect: 100-continue를 보냈다면 본문 전송 자체가 생략됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class MediaUploadAdmissionInterceptor implements HandlerInterceptor {
+
+	private final MediaProcessingGovernor mediaProcessingGovernor;
+	private final MediaProcessingJobService mediaProcessingJobService;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if ("POST".equals(request.getMethod())) {
+			mediaProcessingGovernor.admit(mediaProcessingJobService.countBacklog());
+		}
+		return true;
+	}
+}
@@ -0,0 +1,110 @@
+package com.oseak.myFestaBackend.config.security;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.oseak.myFestaBackend.common.exception.OsaekException;
+import com.oseak.myFestaBackend.common.exception.OsaekThrottleException;
+import com.oseak.myFestaBackend.common.exception.code.ClientErrorCode;
+import com.oseak.myFestaBackend.common.exception.code.ServerErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 연산을 전용 스레드풀에서 수행하는 PasswordEncoder
+ * - 동시에 실행되는 해시 연산 수를 코어 수 이내로 제한해 요청 스레드가 CPU를 독점하지 않도록 함
+ * - 대기열이 가득 차거나 제한 시간 안에 처리되지 않으면 즉시 429(PASSWORD_HASHING_BUSY)로 거절
+ * - 대기열 길이, 실행 중인 작업 수, 연산 지연 시간, 거절 횟수를 메트릭으로 노출
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private static final long RETRY_AFTER_SECONDS = 1;
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMillis;
+
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter rejectedCounter;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolExecutor executor, long timeoutMillis,
+		MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.executor = executor;
+		this.timeoutMillis = timeoutMillis;
+
+		Gauge.builder("auth.password.hashing.queue.size", executor, e -> e.getQueue().size())
+			.description("비밀번호 해시 대기열 길이")
+			.register(meterRegistry);
+		Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+			.description("실행 중인 비밀번호 해시 작업 수")
+			.register(meterRegistry);
+
+		this.encodeTimer = Timer.builder("auth.password.hashing.latency")
+			.tag("operation", "encode")
+			.register(meterRegistry);
+		this.matchesTimer = Timer.builder("auth.password.hashing.latency")
+			.tag("operation", "matches")
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+			.description("포화로 거절된 비밀번호 해시 요청 수")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return execute(() -> delegate.encode(rawPassword), encodeTimer);
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	private <T> T execute(Callable<T> task, Timer timer) {
+		Future<T> future;
+		try {
+			future = executor.submit(() -> timer.recordCallable(task));
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			log.warn("Password hashing rejected - queue full (queued: {})", executor.getQueue().size());
+			throw new OsaekThrottleException(ClientErrorCode.PASSWORD_HASHING_BUSY, RETRY_AFTER_SECONDS);
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			rejectedCounter.increment();
+			log.warn("Password hashing timed out after {}ms", timeoutMillis);
+			throw new OsaekThrottleException(ClientErrorCode.PASSWORD_HASHING_BUSY, RETRY_AFTER_SECONDS);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new OsaekException(ServerErrorCode.INTERNAL_SERVER_ERROR, e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new OsaekException(ServerErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.oseak.myFestaBackend.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.oseak.myFestaBackend.common.response.CommonResponse;
+import com.oseak.myFestaBackend.common.util.SecurityUtil;
+import com.oseak.myFestaBackend.dto.response.FestaBookmarkListResponseDto;
+import com.oseak.myFestaBackend.service.FestaReactionService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Tag(name = "Festa Reaction API", description = "축제 좋아요/북마크 API (FestaReactionController)")
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/festas")
+public class FestaReactionController {
+
+	private final FestaReactionService festaReactionService;
+
+	@Operation(
+		summary = "축제 좋아요",
+		description = "축제에 좋아요를 누릅니다. 이미 좋아요한 경우에도 성공으로 응답합니다.",
+		security = @SecurityRequirement(name = "bearerAuth")
+	)
+	@PutMapping("/{festaId}/like")
+	public ResponseEntity<CommonResponse<Void>> like(@PathVariable Long festaId) {
+		festaReactionService.like(SecurityUtil.getCurrentUserId(), festaId);
+		return ResponseEntity.ok(CommonResponse.success(null));
+	}
+
+	@Operation(
+		summary = "축제 좋아요 취소",
+		description = "축제 좋아요를 취소합니다. 좋아요하지 않은 경우에도 성공으로 응답합니다.",
+		security = @SecurityRequirement(name = "bearerAuth")
+	)
+	@DeleteMapping("/{festaId}/like")
+	public ResponseEntity<CommonResponse<Void>> unlike(@PathVariable Long festaId) {
+		festaReactionService.unlike(SecurityUtil.getCurrentUserId(), festaId);
+		return ResponseEntity.ok(CommonResponse.success(null));
+	}
+
+	@Operation(
+		summary = "축제 북마크",
+		description = "축제를 북마크합니다. 이미 북마크한 경우에도 성공으로 응답합니다.",
+		security = @SecurityRequirement(name = "bearerAuth")
+	)
+	@PutMapping("/{festaId}/bookmark")
+	public ResponseEntity<CommonResponse<Void>> bookmark(@PathVariable Long festaId) {
+		festaReactionService.bookmark(SecurityUtil.getCurrentUserId(), festaId);
+		return ResponseEntity.ok(CommonResponse.success(null));
+	}
+
+	@Operation(
+		summary = "축제 북마크 해제",
+		description = "축제 북마크를 해제합니다. 북마크하지 않은 경우에도 성공으로 응답합니다.",
+		security = @SecurityRequirement(name = "bearerAuth")
+	)
+	@DeleteMapping("/{festaId}/bookmark")
+	public ResponseEntity<CommonResponse<Void>> unbookmark(@PathVariable Long festaId) {
+		festaReactionService.unbookmark(SecurityUtil.getCurrentUserId(), festaId);
+		return ResponseEntity.ok(CommonResponse.success(null));
+	}
+
+	@Operation(
+		summary = "내 북마크 목록 조회",
+		description = "최근 북마크 순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회합니다.",
+		security = @SecurityRequirement(name = "bearerAuth"),
+		parameters = {
+			@Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)"),
+			@Parameter(name = "size", description = "페이지 크기 (최대 50)", example = "20")
+		},
+		responses = {
+			@ApiResponse(responseCode = "200", description = "북마크 목록 조회 성공",
+				content = @Content(schema = @Schema(implementation = FestaBookmarkListResponseDto.class)))
+		}
+	)
+	@GetMapping("/bookmarks")
+	public ResponseEntity<CommonResponse<FestaBookmarkListResponseDto>> getMyBookmarks(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		FestaBookmarkListResponseDto result = festaReactionService.getMyBookmarks(
+			SecurityUtil.getCurrentUserId(), cursor, size);
+		return ResponseEntity.ok(CommonResponse.success(result));
+	}
+}
@@ -1,9 +1,16 @@
 package com.oseak.myFestaBackend.controller;
 
+import java.net.URI;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.oseak.myFestaBackend.common.response.CommonResponse;
 import com.oseak.myFestaBackend.dto.auth.LoginResponseDto;
 import com.oseak.myFestaBackend.service.AuthService;
 import com.oseak.myFestaBackend.service.KakaoApiService;
@@ -13,10 +20,9 @@ import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 @Tag(name = "Kakao OAuth API", description = "카카오 OAuth 관련 API (KakaoController)")
 @Controller
@@ -54,8 +60,6 @@ public class KakaoController {
 						다음 쿠키들이 설정됩니다:
 						- accessToken: JWT 액세스 토큰 (만료: 6분)
 						- refreshToken: JWT 리프레시 토큰 (만료: 1시간)
-						- nickname: 사용자 닉네임 (만료: 1시간)
-						- profile: 프로필 이미지 URL (만료: 1시간)
 						모든 쿠키는 HttpOnly 속성이 적용됩니다.
 						""",
 					schema = @Schema(type = "string"))
@@ -63,34 +67,30 @@ public class KakaoController {
 		)
 	)
 	@GetMapping("/login/oauth2/code/kakao")
-	public String kakaoCallback(@RequestParam("code") String code, HttpServletResponse response) {
-		LoginResponseDto result = kakaoApiService.kakaoLoginProcess(code);
-		log.info("카카오 로그인 처리 결과: {}", result);
-
-		Cookie accessTokenCookie = new Cookie("accessToken", result.getAccessToken());
-		accessTokenCookie.setPath("/");
-		accessTokenCookie.setMaxAge(360);
-		accessTokenCookie.setHttpOnly(true);
-
-		Cookie refreshTokenCookie = new Cookie("refreshToken", result.getRefreshToken());
-		refreshTokenCookie.setPath("/");
-		refreshTokenCookie.setMaxAge(3600);
-		refreshTokenCookie.setHttpOnly(true);
-
-		Cookie nickname = new Cookie("nickname", result.getNickname());
-		nickname.setPath("/");
-		nickname.setMaxAge(3600);
-		nickname.setHttpOnly(true);
+	public Mono<ResponseEntity<Void>> kakaoCallback(@RequestParam("code") String code) {
+		// 로그인 결과는 reactor 스레드에서 도착하므로 서블릿 응답 객체를 직접 건드리지 않고,
+		// 쿠키와 리다이렉트를 담은 ResponseEntity를 만들어 서블릿 스레드에서 쓰이게 한다
+		return kakaoApiService.kakaoLoginProcess(code).map(result -> {
+			log.info("카카오 로그인 처리 결과: {}", result);
 
-		Cookie profile = new Cookie("profile", result.getProfile());
-		profile.setPath("/");
-		profile.setMaxAge(3600);
-		profile.setHttpOnly(true);
+			ResponseCookie accessTokenCookie = ResponseCookie.from("accessToken", result.getAccessToken())
+				.path("/")
+				.maxAge(360)
+				.httpOnly(true)
+				.build();
 
-		response.addCookie(accessTokenCookie);
-		response.addCookie(refreshTokenCookie);
+			ResponseCookie refreshTokenCookie = ResponseCookie.from("refreshToken", result.getRefreshToken())
+				.path("/")
+				.maxAge(3600)
+				.httpOnly(true)
+				.build();
 
-		return "redirect:/"; // TODO: 성공 후 이동할 URL 확정
+			return ResponseEntity.status(HttpStatus.FOUND)
+				.location(URI.create("/")) // TODO: 성공 후 이동할 URL 확정
+				.header(HttpHeaders.SET_COOKIE, accessTokenCookie.toString())
+				.header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
+				.build();
+		});
 	}
 
 	@Operation(
@@ -132,10 +132,9 @@ public class KakaoController {
 		}
 	)
 	@GetMapping("/kakao/token")
-	public org.springframework.http.ResponseEntity<com.oseak.myFestaBackend.common.response.CommonResponse<LoginResponseDto>> getKakaoTokenFromCode(
+	public Mono<ResponseEntity<CommonResponse<LoginResponseDto>>> getKakaoTokenFromCode(
 		@RequestParam("code") String code) {
-		LoginResponseDto result = kakaoApiService.kakaoLoginProcessForFrontend(code);
-		return org.springframework.http.ResponseEntity.ok(
-			com.oseak.myFestaBackend.common.response.CommonResponse.success(result));
+		return kakaoApiService.kakaoLoginProcessForFrontend(code)
+			.map(result -> ResponseEntity.ok(CommonResponse.success(result)));
 	}
 }
@@ -16,10 +16,13 @@ import org.springframework.web.bind.annotation.RestController;
 import com.oseak.myFestaBackend.common.response.CommonResponse;
 import com.oseak.myFestaBackend.common.util.SecurityUtil;
 import com.oseak.myFestaBackend.dto.request.StorySearchRequestDto;
+import com.oseak.myFestaBackend.dto.request.StoryUploadCompleteRequestDto;
 import com.oseak.myFestaBackend.dto.request.StoryUploadRequestDto;
+import com.oseak.myFestaBackend.dto.request.StoryUploadUrlRequestDto;
 import com.oseak.myFestaBackend.dto.request.StoryVisibilityUpdateRequestDto;
 import com.oseak.myFestaBackend.dto.response.StoryItem;
 import com.oseak.myFestaBackend.dto.response.StorySearchResponseDto;
+import com.oseak.myFestaBackend.dto.response.StoryUploadUrlResponseDto;
 import com.oseak.myFestaBackend.facade.StoryFacade;
 import com.oseak.myFestaBackend.service.S3Service;
 
@@ -71,6 +74,35 @@ public class StoryController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.success(storyItem));
 	}
 
+	@PostMapping("/upload-url")
+	@Operation(summary = "스토리 직접 업로드 URL 발급", description = """
+			파일을 API 서버를 거치지 않고 저장소(S3)에 바로 올릴 presigned PUT URL을 발급합니다.
+			
+			1. 이 API로 uploadUrl, uploadKey를 받습니다.
+			2. uploadUrl로 파일을 PUT 합니다. (응답의 headers를 그대로 보내야 하며, 선언한 크기와 같아야 함)
+			3. POST /stories/upload-complete 에 uploadKey와 축제 정보를 보내 스토리를 등록합니다.
+			""")
+	public ResponseEntity<CommonResponse<StoryUploadUrlResponseDto>> issueUploadUrl(
+		@Valid @RequestBody StoryUploadUrlRequestDto request) {
+		log.debug("직접 업로드 URL 발급: fileName:{}, contentType:{}, size:{}",
+			request.getFileName(), request.getContentType(), request.getFileSize());
+
+		Long requesterMemberId = SecurityUtil.getCurrentUserId();
+		StoryUploadUrlResponseDto response = storyFacade.issueUploadUrl(request, requesterMemberId);
+		return ResponseEntity.ok(CommonResponse.success(response));
+	}
+
+	@PostMapping("/upload-complete")
+	@Operation(summary = "스토리 직접 업로드 완료", description = "저장소에 올린 파일로 스토리를 등록하고 미디어 처리를 시작합니다.")
+	public ResponseEntity<CommonResponse<StoryItem>> completeDirectUpload(
+		@Valid @RequestBody StoryUploadCompleteRequestDto request) {
+		log.debug("직접 업로드 완료: uploadKey:{}, festaId:{}", request.getUploadKey(), request.getFestaId());
+
+		Long requesterMemberId = SecurityUtil.getCurrentUserId();
+		StoryItem storyItem = storyFacade.completeDirectUpload(request, requesterMemberId);
+		return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.success(storyItem));
+	}
+
 	@GetMapping
 	@Operation(
 		summary = "스토리 목록 조회",
@@ -82,6 +114,9 @@ public class StoryController {
 			• 삭제된 스토리(isDeleted=true)는 항상 제외
 			정렬: createdAt DESC, storyId DESC
 			
+			• 커서 페이지네이션: cursorPaging=true(첫 페이지) 또는 cursor=<nextCursor>로 요청하면
+			  page/COUNT 없이 커서 이후 항목을 조회하며 응답에 nextCursor, hasNext가 포함됨 (pageInfo 없음)
+			
 			요청 예시
 			- 내 프로필(특정 축제, 비공개 포함)
 			  GET /stories?memberId=123&includePrivateMine=true&festaId=987&page=0&size=20
@@ -91,6 +126,10 @@ public class StoryController {
 			
 			- 검색 페이지(특정 축제 + 키워드)
 			  GET /stories?festaId=987&keyword=불꽃놀이&page=0&size=20
+			
+			- 무한 스크롤 피드(특정 축제)
+			  GET /stories?festaId=987&cursorPaging=true&size=20
+			  GET /stories?festaId=987&cursor=MjAyNS0wOC0wMVQxMjozNDo1Ni43ODl8NDI&size=20
 			""",
 		responses = {
 			@ApiResponse(
@@ -109,7 +148,9 @@ public class StoryController {
 		@Parameter(name = "festaId", description = "특정 축제 ID 필터", example = "1390147"),
 		@Parameter(name = "keyword", description = "축제명 키워드(대소문자 무시, LIKE 검색)", example = "불꽃놀이"),
 		@Parameter(name = "page", description = "0부터 시작하는 페이지 번호", example = "0"),
-		@Parameter(name = "size", description = "페이지 크기", example = "20")
+		@Parameter(name = "size", description = "페이지 크기", example = "20"),
+		@Parameter(name = "cursorPaging", description = "커서 페이지네이션 사용 여부 (첫 페이지 요청 시)", example = "true"),
+		@Parameter(name = "cursor", description = "이전 응답의 nextCursor", example = "MjAyNS0wOC0wMVQxMjozNDo1Ni43ODl8NDI")
 	})
 	public ResponseEntity<CommonResponse<StorySearchResponseDto>> searchStories(
 		@ModelAttribute StorySearchRequestDto request
@@ -120,6 +161,10 @@ public class StoryController {
 		Long viewerMemberId = SecurityUtil.getCurrentUserIdOrNull();
 		log.debug("요청회원: {}", viewerMemberId);
 
+		if (request.isCursorMode()) {
+			return ResponseEntity.ok(CommonResponse.success(storyFacade.searchStoriesByCursor(request, viewerMemberId)));
+		}
+
 		Page<StoryItem> stories = storyFacade.searchStories(request, viewerMemberId);
 		return ResponseEntity.ok(CommonResponse.success(StorySearchResponseDto.from(stories)));
 	}
@@ -0,0 +1,25 @@
+package com.oseak.myFestaBackend.dto;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "축제 평점 집계")
+public class FestaRatingDto {
+
+	@Schema(description = "리뷰 수", example = "128")
+	private Long reviewCount;
+
+	@Schema(description = "평균 평점 (리뷰가 없으면 0.0)", example = "4.3")
+	private Double average;
+
+	@Schema(description = "베이지안 보정 평점 (리뷰 수가 적을수록 전체 기준 평점에 가까움)", example = "4.1")
+	private Double bayesianScore;
+
+	@Schema(description = "별점 분포 (1~5점 구간별 리뷰 수)", example = "{\"1\": 2, \"2\": 5, \"3\": 11, \"4\": 40, \"5\": 70}")
+	private Map<Integer, Long> histogram;
+}
@@ -17,8 +17,13 @@ public class FestaSummaryDto {
 	private LocalDate festaStartAt;
 	private LocalDate festaEndAt;
 	private String overview;
+	private FestaRatingDto rating;
 
 	public static FestaSummaryDto from(Festa festa) {
+		return from(festa, null);
+	}
+
+	public static FestaSummaryDto from(Festa festa, FestaRatingDto rating) {
 		return FestaSummaryDto.builder()
 			.festaId(festa.getFestaId())
 			.festaName(festa.getFestaName())
@@ -27,6 +32,7 @@ public class FestaSummaryDto {
 			.festaStartAt(festa.getFestaStartAt())
 			.festaEndAt(festa.getFestaEndAt())
 			.overview(festa.getOverview())
+			.rating(rating)
 			.build();
 	}
 }
\ No newline at end of file
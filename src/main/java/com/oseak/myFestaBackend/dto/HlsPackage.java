@@ -0,0 +1,27 @@
+package com.oseak.myFestaBackend.dto;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 로컬에 만든 HLS 패키지 (마스터 플레이리스트 + 렌디션별 플레이리스트/세그먼트)
+ * 플레이리스트가 상대 경로로 서로를 참조하므로 directory 기준 상대 경로를 그대로 객체 키에 사용해야 함
+ */
+@Getter
+@Builder
+public class HlsPackage {
+	private final Path directory;
+	private final Path masterPlaylist;
+	private final List<Path> files;
+	private final int renditionCount;
+
+	/**
+	 * directory 기준 상대 경로 ('/' 구분)
+	 */
+	public String relativeKey(Path file) {
+		return directory.relativize(file).toString().replace('\\', '/');
+	}
+}
@@ -0,0 +1,133 @@
+package com.oseak.myFestaBackend.dto;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * JPEG 썸네일/원본 옆에 만든 차세대 이미지 형식(AVIF, WebP) 변환본
+ * 변환본 키는 JPEG 키의 확장자만 바꾼 것이므로 (thumbnail_small.jpg → thumbnail_small.avif)
+ * 저장소에는 만들어진 형식 목록만 남기고 URL은 JPEG URL에서 계산
+ */
+@Getter
+@Builder
+public class ImageVariants {
+	// 변환본을 만들 수 있는 모든 형식 (공유 미디어 삭제 시 기록 여부와 관계없이 지울 키 계산용)
+	public static final String SUPPORTED_FORMATS = "avif,webp";
+
+	// 모든 출력(썸네일 + 원본 변환 대상이면 원본까지)을 만든 형식 (선호 순서)
+	private final List<String> formats;
+	// 형식 → 사이즈 키 → 로컬 경로
+	private final Map<String, Map<String, Path>> thumbnails;
+	// 형식 → 원본 변환본 로컬 경로
+	private final Map<String, Path> originals;
+	// 형식(변환 전 jpeg 포함) → 스토리 1건의 바이트 (media.image.bytes 기록용)
+	private final Map<String, Long> bytes;
+
+	public boolean isEmpty() {
+		return formats == null || formats.isEmpty();
+	}
+
+	public List<Path> files() {
+		List<Path> files = new ArrayList<>();
+		if (thumbnails != null) {
+			thumbnails.values().forEach(paths -> files.addAll(paths.values()));
+		}
+		if (originals != null) {
+			files.addAll(originals.values());
+		}
+		return files;
+	}
+
+	/**
+	 * 원본 변환본을 만드는 원본인지 확인 (JPEG만 변환, PNG는 투명도/무손실을 유지하도록 그대로 둠)
+	 */
+	public static boolean isOriginalConvertible(String pathOrUrl) {
+		String extension = extensionOf(pathOrUrl);
+		return extension.equals("jpg") || extension.equals("jpeg");
+	}
+
+	/**
+	 * 확장자를 format으로 바꾼 경로/URL (확장자가 없으면 null)
+	 */
+	public static String withFormat(String pathOrUrl, String format) {
+		if (pathOrUrl == null) {
+			return null;
+		}
+		int lastDot = pathOrUrl.lastIndexOf('.');
+		if (lastDot < 0 || lastDot < pathOrUrl.lastIndexOf('/')) {
+			return null;
+		}
+		return pathOrUrl.substring(0, lastDot + 1) + format;
+	}
+
+	/**
+	 * 형식 → 사이즈 키 → 변환본 URL (JPEG 썸네일 URL의 확장자만 바꿈)
+	 */
+	public static Map<String, Map<String, String>> thumbnailUrls(Map<String, String> jpegUrls, String formats) {
+		Map<String, Map<String, String>> urls = new LinkedHashMap<>();
+		for (String format : parseFormats(formats)) {
+			Map<String, String> bySize = new LinkedHashMap<>();
+			jpegUrls.forEach((size, url) -> {
+				String variantUrl = withFormat(url, format);
+				if (variantUrl != null) {
+					bySize.put(size, variantUrl);
+				}
+			});
+			urls.put(format, bySize);
+		}
+		return urls;
+	}
+
+	/**
+	 * 형식 → 원본 변환본 URL (JPEG 원본이 아니면 빈 맵)
+	 */
+	public static Map<String, String> originalUrls(String originalUrl, String formats) {
+		Map<String, String> urls = new LinkedHashMap<>();
+		if (isOriginalConvertible(originalUrl)) {
+			parseFormats(formats).forEach(format -> urls.put(format, withFormat(originalUrl, format)));
+		}
+		return urls;
+	}
+
+	/**
+	 * 변환본 URL 전체 (삭제 대상 계산용)
+	 */
+	public static List<String> allUrls(Map<String, String> jpegUrls, String originalUrl, String formats) {
+		List<String> urls = new ArrayList<>();
+		thumbnailUrls(jpegUrls, formats).values().forEach(bySize -> urls.addAll(bySize.values()));
+		urls.addAll(originalUrls(originalUrl, formats).values());
+		return urls;
+	}
+
+	/**
+	 * 저장된 형식 목록 ("avif,webp")
+	 */
+	public static List<String> parseFormats(String formats) {
+		if (formats == null || formats.isBlank()) {
+			return List.of();
+		}
+		return Arrays.stream(formats.split(","))
+			.map(String::trim)
+			.filter(format -> !format.isEmpty())
+			.toList();
+	}
+
+	public static String joinFormats(List<String> formats) {
+		return formats == null || formats.isEmpty() ? null : String.join(",", formats);
+	}
+
+	private static String extensionOf(String pathOrUrl) {
+		if (pathOrUrl == null) {
+			return "";
+		}
+		int lastDot = pathOrUrl.lastIndexOf('.');
+		return lastDot < 0 || lastDot < pathOrUrl.lastIndexOf('/') ? "" : pathOrUrl.substring(lastDot + 1).toLowerCase();
+	}
+}
@@ -0,0 +1,25 @@
+package com.oseak.myFestaBackend.dto;
+
+import java.nio.file.Path;
+
+import com.oseak.myFestaBackend.entity.enums.MediaType;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 업로드 요청에서 관리 디렉토리(spool)로 옮겨 둔 미디어 파일 핸들
+ * 요청이 끝난 뒤에도 남아 있으므로 비동기 처리에서 MultipartFile 대신 사용
+ * 처리 완료/실패 시 처리 측에서 삭제하며, 남은 파일은 UploadSpool이 주기적으로 정리
+ */
+@Getter
+@Builder
+public class SpooledMedia {
+	private final Path path;
+	private final MediaType mediaType;
+	private final long size;
+	private final String originalFilename;
+	private final String extension;
+	// 파일 내용의 SHA-256 (16진수 소문자), 같은 내용의 재업로드를 찾는 데 사용
+	private final String contentHash;
+}
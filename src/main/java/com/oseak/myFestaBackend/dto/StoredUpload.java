@@ -0,0 +1,20 @@
+package com.oseak.myFestaBackend.dto;
+
+import com.oseak.myFestaBackend.entity.enums.MediaType;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 클라이언트가 presigned URL로 저장소(S3)에 직접 올린 미디어 객체
+ * 워커가 작업을 처리할 때 내려받아 검사/해시 계산 후 SpooledMedia로 바꿔 처리
+ */
+@Getter
+@Builder
+public class StoredUpload {
+	private final String key;
+	private final MediaType mediaType;
+	private final long size;
+	private final String originalFilename;
+	private final String extension;
+}
@@ -15,4 +15,5 @@ public class ThumbnailResult {
 	private String originalLocalPath;
 	private String staticThumbnailS3Url;    // 비디오용 정적 썸네일 S3 URL
 	private String compressedOriginalPath;  // 압축된 원본 파일 로컬 경로 (임시)
+	private Thumbnail animatedPreview;       // 비디오 애니메이션 WebP 미리보기 (없으면 null)
 }
@@ -0,0 +1,22 @@
+package com.oseak.myFestaBackend.dto.member;
+
+import com.oseak.myFestaBackend.entity.Member;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스토리/리뷰 등 작성자 표시에 필요한 최소 회원 정보
+ */
+@Getter
+@AllArgsConstructor
+public class MemberProfile {
+	private final Long memberId;
+	private final String nickname;
+	private final String profile;
+	private final boolean withdrawn;
+
+	public static MemberProfile from(Member member) {
+		return new MemberProfile(member.getId(), member.getNickname(), member.getProfile(), member.isWithdrawn());
+	}
+}
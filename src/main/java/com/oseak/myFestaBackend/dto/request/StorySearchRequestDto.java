@@ -29,6 +29,17 @@ public class StorySearchRequestDto extends PageRequest {
 	@Schema(description = "내 비공개 스토리를 포함할지 여부(내 프로필 화면에서만 사용)")
 	private Boolean includePrivateMine;
 
+	@Schema(description = "커서 기반 페이지네이션 사용 여부 (true면 page 대신 cursor 사용)")
+	private Boolean cursorPaging;
+
+	@Schema(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+	private String cursor;
+
+	@Schema(hidden = true)
+	public boolean isCursorMode() {
+		return Boolean.TRUE.equals(cursorPaging) || (cursor != null && !cursor.isBlank());
+	}
+
 	@Schema(hidden = true)
 	public boolean isIncludePrivateMine() {
 		return Boolean.TRUE.equals(includePrivateMine);
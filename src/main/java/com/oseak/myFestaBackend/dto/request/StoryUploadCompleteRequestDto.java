@@ -0,0 +1,31 @@
+package com.oseak.myFestaBackend.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "스토리 직접 업로드 완료 요청")
+public class StoryUploadCompleteRequestDto {
+
+	@NotBlank(message = "{upload.key.required}")
+	@Schema(description = "업로드 URL 발급 시 받은 업로드 키", example = "incoming/1/0b5c7a1e-3f1e-4c55-9d0f-6a1f3e2b9c41.mp4",
+		required = true)
+	private String uploadKey;
+
+	@Schema(description = "축제 ID", example = "140930", required = true)
+	private Long festaId;
+
+	@Schema(description = "축제 이름", example = "탐라문화제", required = true)
+	private String festaName;
+
+	@Schema(description = "공개 여부", example = "true", defaultValue = "true")
+	@Builder.Default
+	private Boolean isOpen = true;
+}
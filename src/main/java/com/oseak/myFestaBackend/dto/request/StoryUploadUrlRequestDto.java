@@ -0,0 +1,30 @@
+package com.oseak.myFestaBackend.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "스토리 직접 업로드 URL 발급 요청")
+public class StoryUploadUrlRequestDto {
+
+	@NotBlank(message = "{upload.file_name.required}")
+	@Schema(description = "업로드할 파일 이름", example = "fireworks.mp4", required = true)
+	private String fileName;
+
+	@Schema(description = "파일 Content-Type (업로드 시 같은 값으로 보내야 함)", example = "video/mp4")
+	private String contentType;
+
+	@NotNull(message = "{upload.file_size.required}")
+	@Positive(message = "{upload.file_size.required}")
+	@Schema(description = "파일 크기(byte, 업로드 시 같은 크기여야 함)", example = "10485760", required = true)
+	private Long fileSize;
+}
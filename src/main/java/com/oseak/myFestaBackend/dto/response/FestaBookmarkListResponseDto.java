@@ -0,0 +1,28 @@
+package com.oseak.myFestaBackend.dto.response;
+
+import java.util.List;
+
+import com.oseak.myFestaBackend.dto.FestaSummaryDto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "북마크한 축제 목록 응답 (키셋 페이지네이션)")
+public class FestaBookmarkListResponseDto {
+
+	@Schema(description = "북마크한 축제 목록 (최근 북마크 순)")
+	private List<FestaSummaryDto> festas;
+
+	@Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0wOC0wMVQxMjozNDo1Ni43ODl8MjYxMjkxOQ")
+	private String nextCursor;
+
+	@Schema(description = "다음 페이지 존재 여부", example = "true")
+	private boolean hasNext;
+}
@@ -3,6 +3,7 @@ package com.oseak.myFestaBackend.dto.response;
 import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.oseak.myFestaBackend.dto.FestaRatingDto;
 import com.oseak.myFestaBackend.entity.Festa;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -53,7 +54,14 @@ public class FestaDetailResponseDto {
 	@Schema(description = "축제 홈페이지", example = "https://www.aaa.com")
 	private String festaUrl;
 
+	@Schema(description = "평점 집계")
+	private FestaRatingDto rating;
+
 	public static FestaDetailResponseDto from(Festa festa) {
+		return from(festa, null);
+	}
+
+	public static FestaDetailResponseDto from(Festa festa, FestaRatingDto rating) {
 		return FestaDetailResponseDto.builder()
 			.festaId(festa.getFestaId())
 			.festaName(festa.getFestaName())
@@ -66,6 +74,7 @@ public class FestaDetailResponseDto {
 			.openTime(festa.getOpenTime())
 			.feeInfo(festa.getFeeInfo())
 			.festaUrl(festa.getFestaUrl())
+			.rating(rating)
 			.build();
 	}
 }
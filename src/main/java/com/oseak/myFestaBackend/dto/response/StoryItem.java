@@ -1,8 +1,11 @@
 package com.oseak.myFestaBackend.dto.response;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import com.oseak.myFestaBackend.common.util.ShortCodeUtil;
+import com.oseak.myFestaBackend.dto.ImageVariants;
 import com.oseak.myFestaBackend.entity.Story;
 
 import lombok.Builder;
@@ -16,19 +19,38 @@ public class StoryItem {
 	private String nickname;
 	private Boolean isOpen;
 	private String thumbnailUrl;
+	// 사이즈별 썸네일 (small 150, medium 300, large 600) - 화면 크기에 맞게 선택
+	private Map<String, String> thumbnailUrls;
+	// 만들어진 이미지 변환본 형식 (선호 순서, 예: [avif, webp]) - 디코딩할 수 있는 첫 형식을 쓰고 없으면 JPEG
+	private List<String> imageFormats;
+	// 형식 → 사이즈 → 썸네일 변환본 URL
+	private Map<String, Map<String, String>> thumbnailVariantUrls;
+	// 형식 → 원본 변환본 URL (JPEG 원본 이미지만)
+	private Map<String, String> originalVariantUrls;
 	private String festaName;
 	private String processingStatus;
 	private String storyS3Url;
+	// 비디오 HLS 마스터 플레이리스트 (있으면 storyS3Url 대신 재생, 없으면 storyS3Url 재생)
+	private String hlsUrl;
+	// 비디오 애니메이션 WebP 미리보기 (피드에서 전체 영상 대신 자동 재생)
+	private String previewUrl;
 	private LocalDateTime createdAt;
 
 	public static StoryItem from(Story story, String nickname) {
+		Map<String, String> thumbnailUrls = story.getThumbnailUrls();
 		return StoryItem.builder()
 			.storyCode(ShortCodeUtil.encode(story.getStoryId()))
 			.memberId(story.getMemberId())
 			.nickname(nickname)
 			.isOpen(story.getIsOpen())
 			.thumbnailUrl(story.getThumbnailUrl())
+			.thumbnailUrls(thumbnailUrls)
+			.imageFormats(ImageVariants.parseFormats(story.getImageFormats()))
+			.thumbnailVariantUrls(ImageVariants.thumbnailUrls(thumbnailUrls, story.getImageFormats()))
+			.originalVariantUrls(ImageVariants.originalUrls(story.getStoryS3Url(), story.getImageFormats()))
 			.storyS3Url(story.getStoryS3Url())
+			.hlsUrl(story.getHlsUrl())
+			.previewUrl(story.getPreviewUrl())
 			.festaName(story.getFestaName())
 			.createdAt(story.getCreatedAt())
 			.processingStatus(story.getProcessingStatus())
@@ -24,10 +24,25 @@ public class StorySearchResponseDto {
 	@Schema(description = "스토리목록", example = "[]")
 	private List<StoryItem> stories;
 
+	@Schema(description = "다음 페이지 커서 (커서 페이지네이션, 마지막 페이지면 null)",
+		example = "MjAyNS0wOC0wMVQxMjozNDo1Ni43ODl8NDI")
+	private String nextCursor;
+
+	@Schema(description = "다음 페이지 존재 여부 (커서 페이지네이션)", example = "true")
+	private Boolean hasNext;
+
 	public static StorySearchResponseDto from(Page<StoryItem> stories) {
 		return StorySearchResponseDto.builder()
 			.stories(stories.getContent())
 			.pageInfo(PageInfo.of(stories))
 			.build();
 	}
+
+	public static StorySearchResponseDto ofCursor(List<StoryItem> stories, String nextCursor) {
+		return StorySearchResponseDto.builder()
+			.stories(stories)
+			.nextCursor(nextCursor)
+			.hasNext(nextCursor != null)
+			.build();
+	}
 }
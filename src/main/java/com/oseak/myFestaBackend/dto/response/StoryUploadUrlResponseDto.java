@@ -0,0 +1,33 @@
+package com.oseak.myFestaBackend.dto.response;
+
+import java.time.Instant;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "스토리 직접 업로드 URL 발급 응답")
+public class StoryUploadUrlResponseDto {
+
+	@Schema(description = "업로드 완료 요청에 보낼 업로드 키", example = "incoming/1/0b5c7a1e-3f1e-4c55-9d0f-6a1f3e2b9c41.mp4")
+	private String uploadKey;
+
+	@Schema(description = "파일을 PUT으로 올릴 presigned URL")
+	private String uploadUrl;
+
+	@Schema(description = "HTTP 메서드", example = "PUT")
+	private String method;
+
+	@Schema(description = "업로드 요청에 그대로 보내야 하는 헤더", example = "{\"Content-Type\": \"video/mp4\"}")
+	private Map<String, String> headers;
+
+	@Schema(description = "URL 만료 시각", example = "2025-08-01T12:34:56Z")
+	private Instant expiresAt;
+}
@@ -0,0 +1,33 @@
+package com.oseak.myFestaBackend.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 축제 북마크
+ * 목록은 (member_id, created_at, festa_id) 인덱스를 따라 키셋 페이지네이션으로 조회
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "festa_bookmark",
+	indexes = @Index(name = "idx_festa_bookmark_member_created", columnList = "member_id, created_at, festa_id"))
+public class FestaBookmark {
+
+	@EmbeddedId
+	private MemberFestaId id;
+
+	@CreationTimestamp
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,31 @@
+package com.oseak.myFestaBackend.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 축제 좋아요. (member_id, festa_id) PK로 한 회원이 한 축제에 한 번만 좋아요 가능
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "festa_like", indexes = @Index(name = "idx_festa_like_festa", columnList = "festa_id"))
+public class FestaLike {
+
+	@EmbeddedId
+	private MemberFestaId id;
+
+	@CreationTimestamp
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+}
@@ -1,5 +1,10 @@
 package com.oseak.myFestaBackend.entity;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -34,6 +39,27 @@ public class FestaStatistic {
 	@Column(name = "story_count", nullable = false)
 	private Long storyCount = 0L;
 
+	// 별점 분포 (점수를 반올림해 1~5점 구간으로 집계)
+	@ColumnDefault("0")
+	@Column(name = "rating_1", nullable = false)
+	private Long rating1 = 0L;
+
+	@ColumnDefault("0")
+	@Column(name = "rating_2", nullable = false)
+	private Long rating2 = 0L;
+
+	@ColumnDefault("0")
+	@Column(name = "rating_3", nullable = false)
+	private Long rating3 = 0L;
+
+	@ColumnDefault("0")
+	@Column(name = "rating_4", nullable = false)
+	private Long rating4 = 0L;
+
+	@ColumnDefault("0")
+	@Column(name = "rating_5", nullable = false)
+	private Long rating5 = 0L;
+
 	@Builder
 	public FestaStatistic(Long festaId, Double totalScore, Long reviewCount, Long viewCount, Long likeCount,
 		Long storyCount) {
@@ -55,28 +81,21 @@ public class FestaStatistic {
 		}
 	}
 
-	public void addReview(double score) {
-		this.totalScore += score;
-		this.reviewCount += 1;
-	}
-
-	public void updateReview(double newScore, double oldScore) {
-		double delta = newScore - oldScore;
-		if (Math.abs(delta) < 1e-9) {
-			return;
-		}
-		this.totalScore = Math.max(0.0, this.totalScore + delta);
+	/**
+	 * 점수를 별점 구간(1~5)으로 변환한다. (0.5 단위 반올림, 범위 밖은 1 또는 5)
+	 * FestaStatisticReconciler 비교 쿼리의 LEAST(GREATEST(FLOOR(score + 0.5), 1), 5)와 같은 규칙이어야 한다.
+	 */
+	public static int ratingBucket(double score) {
+		return (int)Math.max(1, Math.min(5, Math.floor(score + 0.5)));
 	}
 
-	public void removeReview(double score) {
-		if (this.reviewCount <= 0) {
-			return;
-		}
-		this.reviewCount -= 1;
-		if (this.reviewCount == 0) {
-			this.totalScore = 0.0;
-		} else {
-			this.totalScore = Math.max(0.0, this.totalScore - score);
-		}
+	public Map<Integer, Long> getRatingHistogram() {
+		Map<Integer, Long> histogram = new LinkedHashMap<>();
+		histogram.put(1, rating1);
+		histogram.put(2, rating2);
+		histogram.put(3, rating3);
+		histogram.put(4, rating4);
+		histogram.put(5, rating5);
+		return histogram;
 	}
 }
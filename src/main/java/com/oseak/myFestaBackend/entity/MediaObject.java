@@ -0,0 +1,129 @@
+package com.oseak.myFestaBackend.entity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.oseak.myFestaBackend.dto.ImageVariants;
+import com.oseak.myFestaBackend.entity.enums.MediaType;
+import com.oseak.myFestaBackend.entity.enums.ThumbnailSize;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용 해시(SHA-256)로 찾는 처리 완료 미디어 인덱스
+ * 같은 내용이 다시 업로드되면 ffmpeg/S3 업로드 없이 이 행의 원본/썸네일 객체를 재사용
+ * 객체 키는 media/{content_hash}/{generation}/... 로 등록마다 새 키이고 내용이 바뀌지 않으므로 오래 캐시해도 안전
+ * 이 해시를 참조하는 스토리가 모두 하드 삭제되면 행과 S3 객체를 함께 삭제
+ */
+@Entity
+@Table(name = "media_object")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MediaObject {
+
+	@Id
+	@Column(name = "content_hash", length = 64, nullable = false, updatable = false)
+	private String contentHash;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "media_type", length = 10, nullable = false)
+	private MediaType mediaType;
+
+	@Column(name = "original_url", length = 500)
+	private String originalUrl;
+
+	@Column(name = "thumbnail_url", length = 500, nullable = false)
+	private String thumbnailUrl;
+
+	@Column(name = "thumbnail_medium_url", length = 500)
+	private String thumbnailMediumUrl;
+
+	@Column(name = "thumbnail_large_url", length = 500)
+	private String thumbnailLargeUrl;
+
+	// 비디오 HLS 마스터 플레이리스트 (같은 디렉토리 아래 렌디션 플레이리스트/세그먼트)
+	@Column(name = "hls_url", length = 500)
+	private String hlsUrl;
+
+	// 비디오 애니메이션 WebP 미리보기
+	@Column(name = "preview_url", length = 500)
+	private String previewUrl;
+
+	// 썸네일(과 JPEG 원본)의 AVIF/WebP 변환본 형식 목록 ("avif,webp")
+	@Column(name = "image_formats", length = 50)
+	private String imageFormats;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@PrePersist
+	protected void onCreate() {
+		this.createdAt = LocalDateTime.now();
+	}
+
+	public static MediaObject of(String contentHash, MediaType mediaType, String originalUrl,
+		Map<String, String> thumbnailUrls, String hlsUrl, String previewUrl, String imageFormats) {
+		return MediaObject.builder()
+			.contentHash(contentHash)
+			.mediaType(mediaType)
+			.originalUrl(originalUrl)
+			.hlsUrl(hlsUrl)
+			.previewUrl(previewUrl)
+			.imageFormats(imageFormats)
+			.thumbnailUrl(thumbnailUrls.get(ThumbnailSize.SMALL.getKey()))
+			.thumbnailMediumUrl(thumbnailUrls.get(ThumbnailSize.MEDIUM.getKey()))
+			.thumbnailLargeUrl(thumbnailUrls.get(ThumbnailSize.LARGE.getKey()))
+			.build();
+	}
+
+	/**
+	 * 처리 당시 만들지 못한 산출물(HLS, 미리보기, 이미지 변환본)을 채운다. 이미 채워진 항목은 유지
+	 *
+	 * @param formatOrder 변환본 형식 선호 순서 (합친 형식 목록 정렬 기준)
+	 * @return 바뀐 항목이 있으면 true
+	 */
+	public boolean backfill(String hlsUrl, String previewUrl, List<String> addedFormats, List<String> formatOrder) {
+		boolean changed = false;
+		if (this.hlsUrl == null && hlsUrl != null) {
+			this.hlsUrl = hlsUrl;
+			changed = true;
+		}
+		if (this.previewUrl == null && previewUrl != null) {
+			this.previewUrl = previewUrl;
+			changed = true;
+		}
+		List<String> formats = new ArrayList<>(ImageVariants.parseFormats(imageFormats));
+		for (String format : addedFormats) {
+			if (!formats.contains(format)) {
+				formats.add(format);
+				changed = true;
+			}
+		}
+		if (changed) {
+			formats.sort(Comparator.comparingInt(format ->
+				formatOrder.contains(format) ? formatOrder.indexOf(format) : formatOrder.size()));
+			this.imageFormats = ImageVariants.joinFormats(formats);
+		}
+		return changed;
+	}
+
+	public Map<String, String> getThumbnailUrls() {
+		return ThumbnailSize.urlsOf(thumbnailUrl, thumbnailMediumUrl, thumbnailLargeUrl);
+	}
+}
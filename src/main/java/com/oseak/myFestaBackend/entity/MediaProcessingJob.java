@@ -0,0 +1,237 @@
+package com.oseak.myFestaBackend.entity;
+
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+
+import com.oseak.myFestaBackend.dto.SpooledMedia;
+import com.oseak.myFestaBackend.dto.StoredUpload;
+import com.oseak.myFestaBackend.entity.enums.MediaJobStatus;
+import com.oseak.myFestaBackend.entity.enums.MediaType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스토리 미디어 처리 작업 (DB 기반 작업 큐)
+ * - 워커는 SELECT ... FOR UPDATE SKIP LOCKED로 작업을 가져가고 임대(lease) 만료 시각을 기록
+ * - 처리 중에는 heartbeat로 임대를 연장하며, 임대가 만료된 작업은 다른 워커(노드)가 다시 가져감
+ * - 실패하면 backoff 후 재시도하고, 최대 시도 횟수를 넘기면 DEAD 상태로 남김
+ * - 원본 위치는 업로드를 받은 노드의 spool 파일(spool_path) 또는 클라이언트가 직접 올린 저장소 객체(source_key) 중 하나
+ */
+@Entity
+@Table(
+	name = "media_processing_job",
+	indexes = {
+		// 대기 작업 조회 (status = PENDING AND next_run_at <= now)
+		@Index(name = "idx_media_job_claim", columnList = "status, next_run_at"),
+		// 임대 만료 작업 조회 (status = RUNNING AND lease_expires_at < now)
+		@Index(name = "idx_media_job_lease", columnList = "status, lease_expires_at"),
+		@Index(name = "idx_media_job_story", columnList = "story_id"),
+		// 같은 직접 업로드를 두 번 완료 처리하지 않도록 보장
+		@Index(name = "uk_media_job_source_key", columnList = "source_key", unique = true)
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MediaProcessingJob {
+
+	private static final int MAX_ERROR_LENGTH = 1000;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "job_id", nullable = false, updatable = false)
+	private Long jobId;
+
+	@Column(name = "story_id", nullable = false)
+	private Long storyId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "media_type", length = 10, nullable = false)
+	private MediaType mediaType;
+
+	@Column(name = "spool_path", length = 500)
+	private String spoolPath;
+
+	// 저장소(S3)에 직접 올라온 원본 객체 키, 있으면 어느 노드든 작업을 가져가 내려받아 처리
+	@Column(name = "source_key", length = 255)
+	private String sourceKey;
+
+	// 작업을 등록한 노드 (spool 디렉토리를 공유하지 않으면 이 노드만 spool 작업을 가져감)
+	@Column(name = "spool_node", length = 100, nullable = false)
+	private String spoolNode;
+
+	@Column(name = "original_filename", length = 255)
+	private String originalFilename;
+
+	@Column(name = "extension", length = 20)
+	private String extension;
+
+	@Column(name = "file_size", nullable = false)
+	private Long fileSize;
+
+	@Column(name = "content_hash", length = 64)
+	private String contentHash;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", length = 20, nullable = false)
+	private MediaJobStatus status;
+
+	@Column(name = "attempts", nullable = false)
+	private Integer attempts;
+
+	@Column(name = "next_run_at", nullable = false)
+	private LocalDateTime nextRunAt;
+
+	@Column(name = "lease_owner", length = 150)
+	private String leaseOwner;
+
+	@Column(name = "lease_expires_at")
+	private LocalDateTime leaseExpiresAt;
+
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	@PrePersist
+	protected void onCreate() {
+		LocalDateTime now = LocalDateTime.now();
+		this.createdAt = now;
+		this.updatedAt = now;
+		if (this.status == null) {
+			this.status = MediaJobStatus.PENDING;
+		}
+		if (this.attempts == null) {
+			this.attempts = 0;
+		}
+		if (this.nextRunAt == null) {
+			this.nextRunAt = now;
+		}
+	}
+
+	@PreUpdate
+	protected void onUpdate() {
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	public static MediaProcessingJob of(SpooledMedia media, Long storyId, String spoolNode) {
+		return MediaProcessingJob.builder()
+			.storyId(storyId)
+			.mediaType(media.getMediaType())
+			.spoolPath(media.getPath().toString())
+			.spoolNode(spoolNode)
+			.originalFilename(media.getOriginalFilename())
+			.extension(media.getExtension())
+			.fileSize(media.getSize())
+			.contentHash(media.getContentHash())
+			.build();
+	}
+
+	public static MediaProcessingJob of(StoredUpload upload, Long storyId, String node) {
+		return MediaProcessingJob.builder()
+			.storyId(storyId)
+			.mediaType(upload.getMediaType())
+			.sourceKey(upload.getKey())
+			.spoolNode(node)
+			.originalFilename(upload.getOriginalFilename())
+			.extension(upload.getExtension())
+			.fileSize(upload.getSize())
+			.build();
+	}
+
+	/**
+	 * 직접 업로드 원본을 내려받아 계산한 내용 해시 기록
+	 */
+	public void assignContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
+
+	public boolean isStorageSourced() {
+		return sourceKey != null;
+	}
+
+	/**
+	 * spool 파일 작업의 파일 핸들 (저장소 원본 작업은 워커가 내려받아 만듦)
+	 */
+	public SpooledMedia toSpooledMedia() {
+		return SpooledMedia.builder()
+			.path(Paths.get(spoolPath))
+			.mediaType(mediaType)
+			.size(fileSize)
+			.originalFilename(originalFilename)
+			.extension(extension)
+			.contentHash(contentHash)
+			.build();
+	}
+
+	/**
+	 * 작업을 가져가 임대를 시작 (시도 횟수 증가)
+	 */
+	public void claim(String owner, LocalDateTime leaseUntil) {
+		this.status = MediaJobStatus.RUNNING;
+		this.leaseOwner = owner;
+		this.leaseExpiresAt = leaseUntil;
+		this.attempts = attempts + 1;
+	}
+
+	public boolean isLeasedBy(String owner) {
+		return status == MediaJobStatus.RUNNING && owner.equals(leaseOwner);
+	}
+
+	public void complete() {
+		this.status = MediaJobStatus.COMPLETED;
+		this.lastError = null;
+		releaseLease();
+	}
+
+	/**
+	 * backoff 후 다시 시도하도록 대기 상태로 되돌림
+	 */
+	public void retryAt(LocalDateTime nextRunAt, String error) {
+		this.status = MediaJobStatus.PENDING;
+		this.nextRunAt = nextRunAt;
+		this.lastError = truncate(error);
+		releaseLease();
+	}
+
+	/**
+	 * 재시도를 중단하고 실패 작업으로 남김
+	 */
+	public void markDead(String error) {
+		this.status = MediaJobStatus.DEAD;
+		this.lastError = truncate(error);
+		releaseLease();
+	}
+
+	private void releaseLease() {
+		this.leaseOwner = null;
+		this.leaseExpiresAt = null;
+	}
+
+	private String truncate(String error) {
+		if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+			return error;
+		}
+		return error.substring(0, MAX_ERROR_LENGTH);
+	}
+}
@@ -0,0 +1,29 @@
+package com.oseak.myFestaBackend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미디어 처리 워커 노드의 마지막 활동 시각
+ * spool 파일은 업로드를 받은 노드에만 있으므로, 오래 보이지 않는 노드의 spool 작업은 다른 노드가 실패 처리
+ */
+@Entity
+@Table(name = "media_worker_node")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MediaWorkerNode {
+
+	@Id
+	@Column(name = "node_id", length = 100, nullable = false, updatable = false)
+	private String nodeId;
+
+	@Column(name = "last_seen_at", nullable = false)
+	private LocalDateTime lastSeenAt;
+}
@@ -10,23 +10,43 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 회원별 리프레시 토큰
+ * 토큰 원문은 저장하지 않고 SHA-256 다이제스트(token_hash)만 보관
+ * 만료된 행은 expires_at 인덱스를 기준으로 배치 삭제됨
+ */
 @Getter
 @Entity
 @NoArgsConstructor
+@Table(
+	name = "member_refresh_token",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_member_refresh_token_hash", columnNames = "token_hash"),
+		@UniqueConstraint(name = "uk_member_refresh_token_member", columnNames = "member_id")
+	},
+	indexes = @Index(name = "idx_member_refresh_token_expires_at", columnList = "expires_at")
+)
 public class MemberRefreshToken {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private long id;
 
+	@Column(name = "member_id")
 	private Long memberId;
 
-	@Column(length = 500)
-	private String token;
+	@Column(name = "token_hash", length = 64, columnDefinition = "CHAR(64)")
+	private String tokenHash;
+
+	@Column(name = "expires_at")
+	private LocalDateTime expiresAt;
 
 	@CreationTimestamp
 	@Column(nullable = false, updatable = false)
@@ -36,12 +56,18 @@ public class MemberRefreshToken {
 	private LocalDateTime updatedAt;
 
 	@Builder
-	public MemberRefreshToken(Long memberId, String token) {
+	public MemberRefreshToken(Long memberId, String tokenHash, LocalDateTime expiresAt) {
 		this.memberId = memberId;
-		this.token = token;
+		this.tokenHash = tokenHash;
+		this.expiresAt = expiresAt;
+	}
+
+	public void updateToken(String tokenHash, LocalDateTime expiresAt) {
+		this.tokenHash = tokenHash;
+		this.expiresAt = expiresAt;
 	}
 
-	public void updateToken(String token) {
-		this.token = token;
+	public boolean isExpired(LocalDateTime now) {
+		return expiresAt == null || !expiresAt.isAfter(now);
 	}
 }
@@ -1,12 +1,17 @@
 package com.oseak.myFestaBackend.entity;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.oseak.myFestaBackend.entity.enums.ProcessingStatus;
+import com.oseak.myFestaBackend.entity.enums.ThumbnailSize;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -16,7 +21,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "story")
+@Table(
+	name = "story",
+	// 커서 기반 피드: 필터 조건 뒤에 (created_at, story_id) 정렬 키를 두어 커서 위치부터 인덱스를 역순 탐색
+	indexes = {
+		@Index(name = "idx_story_feed", columnList = "is_deleted, is_open, created_at, story_id"),
+		@Index(name = "idx_story_feed_festa", columnList = "is_deleted, is_open, festa_id, created_at, story_id"),
+		@Index(name = "idx_story_feed_member", columnList = "is_deleted, is_open, member_id, created_at, story_id"),
+		// 공유 미디어 객체(media_object) 참조 여부 확인
+		@Index(name = "idx_story_content_hash", columnList = "content_hash")
+	}
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -34,12 +49,31 @@ public class Story {
 	@Column(name = "is_open", nullable = false)
 	private Boolean isOpen;
 
+	// 대표(small) 썸네일
 	@Column(name = "thumbnail_url", length = 500, nullable = false)
 	private String thumbnailUrl;
 
+	@Column(name = "thumbnail_medium_url", length = 500)
+	private String thumbnailMediumUrl;
+
+	@Column(name = "thumbnail_large_url", length = 500)
+	private String thumbnailLargeUrl;
+
 	@Column(name = "story_s3_url", length = 500, nullable = false)
 	private String storyS3Url;
 
+	// 비디오 HLS 마스터 플레이리스트 (첫 세그먼트부터 재생, 대역폭에 따라 화질 전환)
+	@Column(name = "hls_url", length = 500)
+	private String hlsUrl;
+
+	// 비디오 애니메이션 WebP 미리보기 (피드 자동 재생용)
+	@Column(name = "preview_url", length = 500)
+	private String previewUrl;
+
+	// 썸네일(과 JPEG 원본) 옆에 만든 변환본 형식 목록 ("avif,webp"), URL은 JPEG URL의 확장자만 바꾼 것
+	@Column(name = "image_formats", length = 50)
+	private String imageFormats;
+
 	@Column(name = "story_type", length = 10, nullable = false)
 	private String storyType;
 	
@@ -58,6 +92,10 @@ public class Story {
 	@Column(name = "processing_status", nullable = true)
 	private String processingStatus;
 
+	// 업로드 파일 내용의 SHA-256 (같은 내용의 스토리는 media_object의 S3 객체를 공유)
+	@Column(name = "content_hash", length = 64)
+	private String contentHash;
+
 	@PrePersist
 	protected void onCreate() {
 		this.createdAt = LocalDateTime.now();
@@ -67,13 +105,44 @@ public class Story {
 		this.isDeleted = false;
 	}
 
-	public void completeMediaProcessing(String originalS3Url, String
-		thumbnailS3Url, String status) {
+	public void completeMediaProcessing(String originalS3Url, String thumbnailS3Url, String thumbnailMediumUrl,
+		String thumbnailLargeUrl, String hlsUrl, String previewUrl, String imageFormats, String status) {
 		this.storyS3Url = originalS3Url;
+		this.hlsUrl = hlsUrl;
+		this.previewUrl = previewUrl;
+		this.imageFormats = imageFormats;
 		this.thumbnailUrl = thumbnailS3Url;
+		this.thumbnailMediumUrl = thumbnailMediumUrl;
+		this.thumbnailLargeUrl = thumbnailLargeUrl;
 		this.processingStatus = status;
 	}
 
+	/**
+	 * 사이즈 키 → JPEG 썸네일 URL (처리 전이면 비어 있음)
+	 */
+	public Map<String, String> getThumbnailUrls() {
+		return ThumbnailSize.urlsOf(thumbnailUrl, thumbnailMediumUrl, thumbnailLargeUrl);
+	}
+
+	/**
+	 * 처리한 원본의 내용 해시 기록 (직접 업로드는 워커가 객체를 내려받은 뒤에야 알 수 있음)
+	 */
+	public void assignContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
+
+	/**
+	 * 축제 스토리 수(festa_statistic.story_count)에 포함되는지 여부
+	 * 삭제되지 않고 공개 상태이며 미디어 처리가 끝난 스토리만 센다.
+	 * FestaStatisticReconciler의 집계 조건과 같아야 한다.
+	 */
+	public boolean isCounted() {
+		return festaId != null
+			&& !Boolean.TRUE.equals(isDeleted)
+			&& Boolean.TRUE.equals(isOpen)
+			&& ProcessingStatus.COMPLETED.name().equals(processingStatus);
+	}
+
 	/**
 	 * 논리 삭제: 공개를 끄고 삭제 플래그 ON
 	 */
@@ -0,0 +1,22 @@
+package com.oseak.myFestaBackend.entity.enums;
+
+import lombok.Getter;
+
+/**
+ * 메모리에 모았다가 일괄 반영하는 축제 통계 카운터
+ * - VIEW: 상세 조회수 (festa_statistic.view_count)
+ * - LIKE: 좋아요 수 (festa_statistic.like_count)
+ * - STORY: 집계 대상 스토리 수 (festa_statistic.story_count, Story.isCounted() 기준)
+ */
+@Getter
+public enum FestaCounter {
+	VIEW("view_count"),
+	LIKE("like_count"),
+	STORY("story_count");
+
+	private final String column;
+
+	FestaCounter(String column) {
+		this.column = column;
+	}
+}
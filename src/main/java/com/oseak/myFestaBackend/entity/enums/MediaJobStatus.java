@@ -0,0 +1,18 @@
+package com.oseak.myFestaBackend.entity.enums;
+
+public enum MediaJobStatus {
+	PENDING("대기"),
+	RUNNING("처리중"),
+	COMPLETED("완료"),
+	DEAD("재시도 중단");
+
+	private final String description;
+
+	MediaJobStatus(String description) {
+		this.description = description;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+}
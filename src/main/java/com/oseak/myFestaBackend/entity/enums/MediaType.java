@@ -35,8 +35,12 @@ public enum MediaType {
 
 	// MultipartFile에서 직접 MediaType 감지
 	public static MediaType detectFromFile(MultipartFile file) {
+		return detect(file.getContentType(), file.getOriginalFilename());
+	}
+
+	// Content-Type, 파일명으로 MediaType 감지 (직접 업로드 요청처럼 파일 없이 선언만 있는 경우)
+	public static MediaType detect(String contentType, String filename) {
 		// 1. Content-Type 확인
-		String contentType = file.getContentType();
 		if (contentType != null) {
 			for (MediaType mediaType : values()) {
 				if (mediaType.supportedContentTypes.contains(contentType.toLowerCase())) {
@@ -46,7 +50,6 @@ public enum MediaType {
 		}
 
 		// 2. 파일 확장자 확인
-		String filename = file.getOriginalFilename();
 		if (filename != null) {
 			String extension = getFileExtension(filename).toLowerCase();
 			for (MediaType mediaType : values()) {
@@ -0,0 +1,43 @@
+package com.oseak.myFestaBackend.entity.enums;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 썸네일 사이즈 (선언 순서 고정: 첫 번째가 대표 썸네일)
+ * key는 S3 객체 키(thumbnail_{key}.jpg)와 스토리 응답의 thumbnailUrls 키로 사용
+ */
+@Getter
+public enum ThumbnailSize {
+	SMALL("small", 150),
+	MEDIUM("medium", 300),
+	LARGE("large", 600);
+
+	private final String key;
+	// 정사각형 한 변 (px)
+	private final int side;
+
+	ThumbnailSize(String key, int side) {
+		this.key = key;
+		this.side = side;
+	}
+
+	/**
+	 * 사이즈 키 → 썸네일 URL (처리 전이라 URL이 없는 사이즈는 제외)
+	 */
+	public static Map<String, String> urlsOf(String smallUrl, String mediumUrl, String largeUrl) {
+		Map<String, String> urls = new LinkedHashMap<>();
+		putIfPresent(urls, SMALL, smallUrl);
+		putIfPresent(urls, MEDIUM, mediumUrl);
+		putIfPresent(urls, LARGE, largeUrl);
+		return urls;
+	}
+
+	private static void putIfPresent(Map<String, String> urls, ThumbnailSize size, String url) {
+		if (url != null) {
+			urls.put(size.key, url);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.oseak.myFestaBackend.event;
+
+import com.oseak.myFestaBackend.entity.enums.FestaCounter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 트랜잭션 안에서 바뀐 축제 카운터 증감분
+ * 커밋된 변경만 FestaCounterBuffer에 누적되도록 커밋 후 처리됨
+ */
+@Getter
+@AllArgsConstructor
+public class FestaCounterChangedEvent {
+    private final FestaCounter counter;
+    private final Long festaId;
+    private final long delta;
+}
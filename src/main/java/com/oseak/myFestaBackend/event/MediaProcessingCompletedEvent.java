@@ -1,6 +1,9 @@
 package com.oseak.myFestaBackend.event;
 
+import java.util.Map;
+
 import com.oseak.myFestaBackend.entity.enums.ProcessingStatus;
+import com.oseak.myFestaBackend.entity.enums.ThumbnailSize;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,6 +13,19 @@ import lombok.Getter;
 public class MediaProcessingCompletedEvent {
     private final Long storyId;
     private final String originalS3Url;
-    private final String thumbnailS3Url;
+    // 사이즈 키(small/medium/large) → 썸네일 URL
+    private final Map<String, String> thumbnailUrls;
+    // 비디오 HLS 마스터 플레이리스트 URL (이미지이거나 패키징하지 못했으면 null)
+    private final String hlsUrl;
+    // 비디오 애니메이션 미리보기 URL (없으면 null)
+    private final String previewUrl;
+    // 썸네일(과 JPEG 원본)의 변환본 형식 목록 ("avif,webp", 없으면 null)
+    private final String imageFormats;
+    // 처리한 원본의 SHA-256 (media_object 키), 등록 시점에 해시를 몰랐던 직접 업로드도 완료 시 스토리에 기록
+    private final String contentHash;
     private final ProcessingStatus status;
-}
\ No newline at end of file
+
+    public String getThumbnailUrl(ThumbnailSize size) {
+        return thumbnailUrls == null ? null : thumbnailUrls.get(size.getKey());
+    }
+}
@@ -0,0 +1,14 @@
+package com.oseak.myFestaBackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 닉네임/프로필/탈퇴 여부 등 작성자 표시 정보가 바뀌었을 때 발행
+ * 트랜잭션 커밋 후 MemberProfileDirectory 캐시를 무효화하는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class MemberProfileChangedEvent {
+    private final Long memberId;
+}
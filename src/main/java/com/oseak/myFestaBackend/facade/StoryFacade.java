@@ -1,15 +1,27 @@
 package com.oseak.myFestaBackend.facade;
 
+import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
+
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.oseak.myFestaBackend.common.exception.OsaekException;
+import com.oseak.myFestaBackend.common.util.KeysetCursorUtil;
+import com.oseak.myFestaBackend.dto.member.MemberProfile;
 import com.oseak.myFestaBackend.dto.request.StorySearchRequestDto;
+import com.oseak.myFestaBackend.dto.request.StoryUploadCompleteRequestDto;
 import com.oseak.myFestaBackend.dto.request.StoryUploadRequestDto;
+import com.oseak.myFestaBackend.dto.request.StoryUploadUrlRequestDto;
 import com.oseak.myFestaBackend.dto.request.StoryVisibilityUpdateRequestDto;
 import com.oseak.myFestaBackend.dto.response.StoryItem;
+import com.oseak.myFestaBackend.dto.response.StorySearchResponseDto;
+import com.oseak.myFestaBackend.dto.response.StoryUploadUrlResponseDto;
 import com.oseak.myFestaBackend.entity.Story;
-import com.oseak.myFestaBackend.service.MemberService;
+import com.oseak.myFestaBackend.service.MemberProfileDirectory;
 import com.oseak.myFestaBackend.service.StoryService;
 
 import lombok.RequiredArgsConstructor;
@@ -19,25 +31,61 @@ import lombok.RequiredArgsConstructor;
 public class StoryFacade {
 
 	private final StoryService storyService;
-	private final MemberService memberService;
+	private final MemberProfileDirectory memberProfileDirectory;
 
 	public Page<StoryItem> searchStories(StorySearchRequestDto request, Long viewerMemberId) {
 		Page<Story> storyPage = storyService.searchStories(request, viewerMemberId);
+
+		// 페이지의 작성자 정보를 캐시에서 한 번에 조회 (미스만 DB 조회)
+		Map<Long, MemberProfile> authors = memberProfileDirectory.getAll(
+			storyPage.getContent().stream().map(Story::getMemberId).toList());
 		return storyPage.map(story -> {
-			String nickname = memberService.getNicknameByMemberId(story.getMemberId());
-			return StoryItem.from(story, nickname);
+			MemberProfile author = authors.get(story.getMemberId());
+			if (author == null) {
+				throw new OsaekException(USER_ID_NOT_FOUND);
+			}
+			return StoryItem.from(story, author.getNickname());
 		});
 	}
 
+	public StorySearchResponseDto searchStoriesByCursor(StorySearchRequestDto request, Long viewerMemberId) {
+		int size = request.getValidSize();
+		List<Story> stories = storyService.searchStoriesByCursor(request, viewerMemberId);
+
+		boolean hasNext = stories.size() > size;
+		if (hasNext) {
+			stories = stories.subList(0, size);
+		}
+
+		Map<Long, MemberProfile> authors = memberProfileDirectory.getAll(
+			stories.stream().map(Story::getMemberId).toList());
+		List<StoryItem> items = stories.stream()
+			.map(story -> {
+				MemberProfile author = authors.get(story.getMemberId());
+				if (author == null) {
+					throw new OsaekException(USER_ID_NOT_FOUND);
+				}
+				return StoryItem.from(story, author.getNickname());
+			})
+			.toList();
+
+		String nextCursor = null;
+		if (hasNext) {
+			Story last = stories.get(stories.size() - 1);
+			nextCursor = KeysetCursorUtil.encode(last.getCreatedAt(), last.getStoryId());
+		}
+		return StorySearchResponseDto.ofCursor(items, nextCursor);
+	}
+
 	public StoryItem getStory(String storyCode, Long requesterMemberId) {
 		Story story = storyService.getStoryEntity(storyCode, requesterMemberId);
-		String nickname = memberService.getNicknameByMemberId(story.getMemberId());
+		String nickname = memberProfileDirectory.get(story.getMemberId()).getNickname();
 		return StoryItem.from(story, nickname);
 	}
 
 	public StoryItem updateStoryVisibility(StoryVisibilityUpdateRequestDto request, Long requesterId) {
 		Story story = storyService.updateStoryVisibilityEntity(request, requesterId);
-		String nickname = memberService.getNicknameByMemberId(story.getMemberId());
+		String nickname = memberProfileDirectory.get(story.getMemberId()).getNickname();
 		return StoryItem.from(story, nickname);
 	}
 
@@ -55,7 +103,17 @@ public class StoryFacade {
 
 	public StoryItem uploadStoryAsync(StoryUploadRequestDto requestDto, Long memberId) {
 		Story story = storyService.uploadStoryAsyncEntity(requestDto, memberId);
-		String nickname = memberService.getNicknameByMemberId(story.getMemberId());
+		String nickname = memberProfileDirectory.get(story.getMemberId()).getNickname();
+		return StoryItem.from(story, nickname);
+	}
+
+	public StoryUploadUrlResponseDto issueUploadUrl(StoryUploadUrlRequestDto requestDto, Long memberId) {
+		return storyService.issueUploadUrl(requestDto, memberId);
+	}
+
+	public StoryItem completeDirectUpload(StoryUploadCompleteRequestDto requestDto, Long memberId) {
+		Story story = storyService.uploadStoryFromStorage(requestDto, memberId);
+		String nickname = memberProfileDirectory.get(story.getMemberId()).getNickname();
 		return StoryItem.from(story, nickname);
 	}
 }
@@ -0,0 +1,280 @@
+package com.oseak.myFestaBackend.generator;
+
+import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.oseak.myFestaBackend.common.exception.OsaekException;
+import com.oseak.myFestaBackend.dto.HlsPackage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비디오를 HLS(화질별 렌디션 + 짧은 세그먼트)로 패키징
+ * - ffmpeg 한 번 실행으로 원본을 한 번만 디코딩하고 split 필터로 렌디션별 스케일/인코딩
+ * - 모든 렌디션의 키프레임을 세그먼트 경계에 강제로 맞춰 플레이어가 세그먼트 단위로 화질을 바꿀 수 있도록 함
+ * - 렌디션 해상도는 짧은 변 기준(세로 영상도 같은 사다리 사용)이며 원본보다 큰 렌디션은 만들지 않음
+ * - 원본이 사다리 중간 크기면 원본 크기 렌디션을 맨 위에 추가하고, 렌디션은 최소 2개(비트레이트 2단계) 유지
+ * - 결과: {dir}/master.m3u8, {dir}/v{n}/index.m3u8, {dir}/v{n}/seg_###.ts
+ */
+@Slf4j
+@Component
+public class HlsPackager {
+
+	public static final String MASTER_PLAYLIST = "master.m3u8";
+
+	// 렌디션별 최대 비트레이트/버퍼 (평균 비트레이트 대비 배수)
+	private static final double MAXRATE_FACTOR = 1.07;
+	private static final double BUFSIZE_FACTOR = 1.5;
+	// 원본이 가장 낮은 렌디션 이하일 때 같은 해상도로 추가하는 저비트레이트 렌디션의 비트레이트 비율
+	private static final double LOW_BITRATE_FACTOR = 0.5;
+
+	private final boolean enabled;
+	private final int segmentSeconds;
+	private final List<Rendition> renditions;
+	private final Path workDir;
+
+	public HlsPackager(@Value("${app.media.hls.enabled:true}") boolean enabled,
+		@Value("${app.media.hls.segment-seconds:2}") int segmentSeconds,
+		@Value("${app.media.hls.renditions:360:800,720:2500,1080:5000}") String renditions,
+		@Value("${app.thumbnail.temp-dir:${java.io.tmpdir}/thumbnails}") String workDir) {
+		this.enabled = enabled;
+		this.segmentSeconds = Math.max(1, segmentSeconds);
+		this.renditions = parseRenditions(renditions);
+		this.workDir = Paths.get(workDir).toAbsolutePath();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 비디오를 HLS로 패키징한다. 실패하면 만들던 디렉토리를 지우고 예외를 던진다.
+	 *
+	 * @param mediaId 작업 디렉토리 이름 ({workDir}/{mediaId}_hls)
+	 */
+	public HlsPackage packageVideo(Path source, String mediaId) {
+		Path directory = workDir.resolve(mediaId + "_hls");
+		try {
+			Files.createDirectories(directory);
+
+			SourceInfo sourceInfo = probe(source);
+			List<Rendition> selected = selectRenditions(sourceInfo.shortSide());
+			MediaCommandRunner.run(buildCommand(source, directory, selected, sourceInfo.hasAudio()));
+
+			Path masterPlaylist = directory.resolve(MASTER_PLAYLIST);
+			if (!Files.isRegularFile(masterPlaylist)) {
+				throw new OsaekException(THUMBNAIL_CANT_CREATE);
+			}
+			List<Path> files;
+			try (Stream<Path> walk = Files.walk(directory)) {
+				files = walk.filter(Files::isRegularFile).toList();
+			}
+			log.info("Packaged HLS for {}: {} renditions, {} files", mediaId, selected.size(), files.size());
+
+			return HlsPackage.builder()
+				.directory(directory)
+				.masterPlaylist(masterPlaylist)
+				.files(files)
+				.renditionCount(selected.size())
+				.build();
+		} catch (IOException | RuntimeException e) {
+			log.error("Failed to package HLS for mediaId: {}", mediaId, e);
+			deleteDirectory(directory);
+			throw e instanceof OsaekException osaekException ? osaekException
+				: new OsaekException(THUMBNAIL_CANT_CREATE);
+		}
+	}
+
+	public void delete(HlsPackage hlsPackage) {
+		if (hlsPackage != null) {
+			deleteDirectory(hlsPackage.getDirectory());
+		}
+	}
+
+	/**
+	 * 원본 짧은 변 이하의 렌디션을 사용하고 업스케일은 하지 않는다.
+	 * - 원본이 두 렌디션 사이 크기면 원본 크기 렌디션을 추가 (비트레이트는 양쪽 렌디션 사이 선형 보간)
+	 * - 원본이 가장 낮은 렌디션보다 작으면 원본 크기로 낮추고 비트레이트는 면적 비율만큼 줄임
+	 * - 그래도 렌디션이 하나뿐이면 같은 해상도의 저비트레이트 렌디션을 추가해 최소 2단계 유지
+	 * 원본 크기를 알 수 없으면(0) 설정된 렌디션을 모두 사용
+	 */
+	List<Rendition> selectRenditions(int sourceShortSide) {
+		if (sourceShortSide <= 0) {
+			return renditions;
+		}
+		int sourceSide = Math.max(2, sourceShortSide & ~1);
+		List<Rendition> selected = new ArrayList<>(renditions.stream()
+			.filter(rendition -> rendition.shortSide() <= sourceSide)
+			.toList());
+
+		boolean coversSource = !selected.isEmpty() && selected.get(selected.size() - 1).shortSide() >= sourceSide;
+		if (!coversSource && selected.size() < renditions.size()) {
+			selected.add(new Rendition(sourceSide, interpolateKbps(sourceSide)));
+		}
+		if (selected.size() == 1 && renditions.size() > 1) {
+			Rendition only = selected.get(0);
+			selected.add(0, new Rendition(only.shortSide(), (int)Math.round(only.videoKbps() * LOW_BITRATE_FACTOR)));
+		}
+		return selected;
+	}
+
+	/**
+	 * 렌디션 사다리에 없는 크기의 비트레이트
+	 * 가장 낮은 렌디션보다 작으면 면적 비율로 줄이고, 두 렌디션 사이면 선형 보간
+	 */
+	private int interpolateKbps(int shortSide) {
+		Rendition lowest = renditions.get(0);
+		if (shortSide <= lowest.shortSide()) {
+			double ratio = (double)shortSide / lowest.shortSide();
+			return Math.max(1, (int)Math.round(lowest.videoKbps() * ratio * ratio));
+		}
+		for (int i = 1; i < renditions.size(); i++) {
+			Rendition lower = renditions.get(i - 1);
+			Rendition upper = renditions.get(i);
+			if (shortSide <= upper.shortSide()) {
+				double position = (double)(shortSide - lower.shortSide()) / (upper.shortSide() - lower.shortSide());
+				return (int)Math.round(lower.videoKbps() + (upper.videoKbps() - lower.videoKbps()) * position);
+			}
+		}
+		return renditions.get(renditions.size() - 1).videoKbps();
+	}
+
+	/**
+	 * 예) ffmpeg -i in -filter_complex "[0:v]split=2[s0][s1];[s0]scale=..[v0];[s1]scale=..[v1]"
+	 * -map [v0] -map 0:a:0 -map [v1] -map 0:a:0 ... -f hls -var_stream_map "v:0,a:0 v:1,a:1" dir/v%v/index.m3u8
+	 */
+	String[] buildCommand(Path source, Path directory, List<Rendition> selected, boolean hasAudio) {
+		StringBuilder graph = new StringBuilder("[0:v]split=").append(selected.size());
+		for (int i = 0; i < selected.size(); i++) {
+			graph.append("[s").append(i).append(']');
+		}
+		for (int i = 0; i < selected.size(); i++) {
+			int shortSide = selected.get(i).shortSide();
+			// 가로 영상은 높이, 세로 영상은 너비를 렌디션 크기로 맞추고 나머지 변은 비율 유지(짝수)
+			graph.append(";[s").append(i).append(']')
+				.append(String.format("scale=w='if(gt(iw,ih),-2,%d)':h='if(gt(iw,ih),%d,-2)'", shortSide, shortSide))
+				.append("[v").append(i).append(']');
+		}
+
+		List<String> command = new ArrayList<>(List.of(
+			"ffmpeg", "-y", "-i", source.toString(),
+			"-filter_complex", graph.toString()
+		));
+		StringBuilder streamMap = new StringBuilder();
+		for (int i = 0; i < selected.size(); i++) {
+			int kbps = selected.get(i).videoKbps();
+			command.addAll(List.of("-map", "[v" + i + "]"));
+			if (hasAudio) {
+				command.addAll(List.of("-map", "0:a:0"));
+			}
+			command.addAll(List.of(
+				"-b:v:" + i, kbps + "k",
+				"-maxrate:v:" + i, Math.round(kbps * MAXRATE_FACTOR) + "k",
+				"-bufsize:v:" + i, Math.round(kbps * BUFSIZE_FACTOR) + "k"
+			));
+			streamMap.append(i == 0 ? "" : " ").append("v:").append(i);
+			if (hasAudio) {
+				streamMap.append(",a:").append(i);
+			}
+		}
+
+		command.addAll(List.of(
+			"-c:v", "libx264",
+			"-preset", "veryfast",
+			"-profile:v", "main",
+			"-pix_fmt", "yuv420p",
+			// 세그먼트 경계마다 키프레임 (렌디션 간 세그먼트 정렬)
+			"-force_key_frames", "expr:gte(t,n_forced*" + segmentSeconds + ")",
+			"-sc_threshold", "0"
+		));
+		if (hasAudio) {
+			command.addAll(List.of("-c:a", "aac", "-b:a", "128k", "-ac", "2", "-ar", "48000"));
+		}
+		command.addAll(List.of(
+			"-f", "hls",
+			"-hls_time", String.valueOf(segmentSeconds),
+			"-hls_playlist_type", "vod",
+			"-hls_flags", "independent_segments",
+			"-hls_segment_filename", directory.resolve("v%v/seg_%03d.ts").toString(),
+			"-master_pl_name", MASTER_PLAYLIST,
+			"-var_stream_map", streamMap.toString(),
+			directory.resolve("v%v/index.m3u8").toString()
+		));
+		return command.toArray(String[]::new);
+	}
+
+	/**
+	 * ffprobe로 비디오 짧은 변과 오디오 스트림 유무 확인
+	 * 출력 예) video,1920,1080 / audio
+	 */
+	private SourceInfo probe(Path source) {
+		String[] command = {
+			"ffprobe", "-v", "error",
+			"-show_entries", "stream=codec_type,width,height",
+			"-of", "csv=p=0", source.toString()
+		};
+		int shortSide = 0;
+		boolean hasAudio = false;
+		for (String line : MediaCommandRunner.run(command)) {
+			String[] fields = line.trim().split(",");
+			if ("video".equals(fields[0]) && fields.length >= 3 && shortSide == 0) {
+				try {
+					shortSide = Math.min(Integer.parseInt(fields[1].trim()), Integer.parseInt(fields[2].trim()));
+				} catch (NumberFormatException e) {
+					log.warn("Could not parse video size from ffprobe output: {}", line);
+				}
+			} else if ("audio".equals(fields[0])) {
+				hasAudio = true;
+			}
+		}
+		return new SourceInfo(shortSide, hasAudio);
+	}
+
+	private void deleteDirectory(Path directory) {
+		if (!Files.exists(directory)) {
+			return;
+		}
+		try (Stream<Path> walk = Files.walk(directory)) {
+			walk.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		} catch (IOException e) {
+			log.warn("Failed to delete HLS directory {}", directory, e);
+		}
+	}
+
+	/**
+	 * "짧은변:kbps,..." 형식, 짧은 변 오름차순 정렬
+	 */
+	private static List<Rendition> parseRenditions(String value) {
+		List<Rendition> parsed = Arrays.stream(value.split(","))
+			.map(String::trim)
+			.filter(entry -> !entry.isEmpty())
+			.map(entry -> {
+				String[] parts = entry.split(":");
+				return new Rendition(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+			})
+			.sorted(Comparator.comparingInt(Rendition::shortSide))
+			.toList();
+		if (parsed.isEmpty()) {
+			throw new IllegalArgumentException("app.media.hls.renditions must not be empty");
+		}
+		return parsed;
+	}
+
+	record Rendition(int shortSide, int videoKbps) {
+	}
+
+	private record SourceInfo(int shortSide, boolean hasAudio) {
+	}
+}
@@ -0,0 +1,277 @@
+package com.oseak.myFestaBackend.generator;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import com.oseak.myFestaBackend.dto.ImageSize;
+import com.oseak.myFestaBackend.service.MediaProcessingGovernor;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JPEG/PNG 정지 이미지 썸네일을 ffmpeg 프로세스 없이 JVM 안에서 생성
+ * - 한 번만 디코딩하고(큰 이미지는 서브샘플링으로 디코딩 크기 축소), 가운데를 정사각형으로 잘라
+ *   큰 사이즈부터 절반씩 줄여가며(progressive downscale) 각 사이즈를 만든다
+ * - 사이즈별 JPEG 인코딩은 전용 ForkJoinPool에서 병렬 실행하며, 풀 크기는 MediaProcessingGovernor의 CPU 예산(permit 수)과 같다
+ *   (render는 permit을 얻은 작업 안에서만 호출되고, 호출 스레드는 인코딩이 끝날 때까지 join에서 대기하므로
+ *   모든 작업의 인코딩을 합쳐도 CPU 예산만큼의 스레드만 동시에 인코딩한다)
+ * - 지원하지 않는 형식이거나 EXIF 회전 정보가 있는 JPEG는 false를 반환해 호출 측이 ffmpeg로 처리하도록 함
+ */
+@Slf4j
+@Component
+public class ImageThumbnailRenderer {
+
+	private static final float JPEG_QUALITY = 0.9f;
+
+	private final ForkJoinPool encodePool;
+
+	public ImageThumbnailRenderer(MediaProcessingGovernor mediaProcessingGovernor) {
+		this.encodePool = new ForkJoinPool(mediaProcessingGovernor.getPermits());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		encodePool.shutdown();
+	}
+
+	/**
+	 * 사이즈별 썸네일을 outputPaths 순서대로 저장한다.
+	 *
+	 * @param sizes       사이즈 (outputPaths와 같은 순서, 큰 사이즈가 작은 사이즈의 2배 이하 간격일 때 가장 효율적)
+	 * @param outputPaths 저장할 경로
+	 * @return 처리했으면 true, JVM에서 처리할 수 없는 입력이면 false (파일을 만들지 않음)
+	 */
+	public boolean render(String inputPath, List<ImageSize> sizes, List<String> outputPaths) throws IOException {
+		BufferedImage source = decode(new File(inputPath), maxEdge(sizes));
+		if (source == null) {
+			return false;
+		}
+
+		// 가운데 정사각형으로 자르기 (썸네일은 모두 정사각형)
+		int edge = Math.min(source.getWidth(), source.getHeight());
+		BufferedImage square = source.getSubimage(
+			(source.getWidth() - edge) / 2, (source.getHeight() - edge) / 2, edge, edge);
+
+		// 큰 사이즈부터 만들고, 다음 사이즈는 직전 결과에서 축소
+		Map<Integer, BufferedImage> scaled = new LinkedHashMap<>();
+		List<Integer> order = new ArrayList<>();
+		for (int i = 0; i < sizes.size(); i++) {
+			order.add(i);
+		}
+		order.sort((a, b) -> Integer.compare(sizes.get(b).getWidth(), sizes.get(a).getWidth()));
+
+		BufferedImage current = square;
+		for (int index : order) {
+			ImageSize size = sizes.get(index);
+			current = downscale(current, size.getWidth(), size.getHeight());
+			scaled.put(index, current);
+		}
+
+		List<ForkJoinTask<?>> encodes = new ArrayList<>();
+		for (Map.Entry<Integer, BufferedImage> entry : scaled.entrySet()) {
+			String outputPath = outputPaths.get(entry.getKey());
+			BufferedImage image = entry.getValue();
+			encodes.add(encodePool.submit(() -> {
+				writeJpeg(image, new File(outputPath));
+				return null;
+			}));
+		}
+		for (ForkJoinTask<?> encode : encodes) {
+			encode.join();
+		}
+		return true;
+	}
+
+	/**
+	 * JPEG/PNG만 디코딩하며, 목표 크기의 2배 이상을 유지하는 범위에서 서브샘플링해 디코딩 비용과 메모리를 줄인다.
+	 */
+	private BufferedImage decode(File file, int maxEdge) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+			if (input == null) {
+				return null;
+			}
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+			if (!readers.hasNext()) {
+				return null;
+			}
+			ImageReader reader = readers.next();
+			try {
+				String format = reader.getFormatName().toLowerCase();
+				if (!format.equals("jpeg") && !format.equals("png")) {
+					return null;
+				}
+				reader.setInput(input, true, false);
+
+				if (format.equals("jpeg") && hasRotation(reader)) {
+					return null;
+				}
+
+				int shortEdge = Math.min(reader.getWidth(0), reader.getHeight(0));
+				int subsampling = Math.max(1, shortEdge / (maxEdge * 2));
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+				return toRgb(reader.read(0, param));
+			} finally {
+				reader.dispose();
+			}
+		} catch (IOException | RuntimeException e) {
+			// CMYK JPEG 등 ImageIO가 읽지 못하는 입력은 ffmpeg로 처리
+			log.debug("In-JVM decode failed, falling back to ffmpeg: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * EXIF Orientation(0x0112)이 1(정방향)이 아닌지 확인. ImageIO는 회전을 적용하지 않으므로 이 경우 ffmpeg로 처리
+	 */
+	private boolean hasRotation(ImageReader reader) throws IOException {
+		Node root = reader.getImageMetadata(0).getAsTree("javax_imageio_jpeg_image_1.0");
+		NodeList markers = ((Element)root).getElementsByTagName("unknown");
+		for (int i = 0; i < markers.getLength(); i++) {
+			IIOMetadataNode marker = (IIOMetadataNode)markers.item(i);
+			if (!"225".equals(marker.getAttribute("MarkerTag"))) {
+				continue;
+			}
+			byte[] app1 = (byte[])marker.getUserObject();
+			int orientation = readExifOrientation(app1);
+			if (orientation > 1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int readExifOrientation(byte[] app1) {
+		// "Exif\0\0" 다음에 TIFF 헤더
+		if (app1 == null || app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+			return 1;
+		}
+		int tiff = 6;
+		boolean littleEndian = app1[tiff] == 'I';
+		int ifdOffset = readInt(app1, tiff + 4, littleEndian);
+		int ifd = tiff + ifdOffset;
+		if (ifd + 2 > app1.length) {
+			return 1;
+		}
+		int entries = readShort(app1, ifd, littleEndian);
+		for (int i = 0; i < entries; i++) {
+			int entry = ifd + 2 + i * 12;
+			if (entry + 12 > app1.length) {
+				return 1;
+			}
+			if (readShort(app1, entry, littleEndian) == 0x0112) {
+				return readShort(app1, entry + 8, littleEndian);
+			}
+		}
+		return 1;
+	}
+
+	private int readShort(byte[] data, int offset, boolean littleEndian) {
+		int b0 = data[offset] & 0xFF;
+		int b1 = data[offset + 1] & 0xFF;
+		return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+	}
+
+	private int readInt(byte[] data, int offset, boolean littleEndian) {
+		int high = readShort(data, littleEndian ? offset + 2 : offset, littleEndian);
+		int low = readShort(data, littleEndian ? offset : offset + 2, littleEndian);
+		return (high << 16) | low;
+	}
+
+	/**
+	 * 투명 영역은 흰색으로 채운 RGB 이미지로 변환 (JPEG는 알파를 지원하지 않음)
+	 */
+	private BufferedImage toRgb(BufferedImage image) {
+		if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+			return image;
+		}
+		BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = rgb.createGraphics();
+		try {
+			g.setColor(Color.WHITE);
+			g.fillRect(0, 0, image.getWidth(), image.getHeight());
+			g.drawImage(image, 0, 0, null);
+		} finally {
+			g.dispose();
+		}
+		return rgb;
+	}
+
+	/**
+	 * 한 번에 절반 이하로 줄이지 않고 단계적으로 축소 (한 번에 크게 줄이면 bilinear 보간에서 앨리어싱이 생김)
+	 */
+	private BufferedImage downscale(BufferedImage image, int targetWidth, int targetHeight) {
+		BufferedImage current = image;
+		int width = current.getWidth();
+		int height = current.getHeight();
+		while (width != targetWidth || height != targetHeight) {
+			width = Math.max(targetWidth, width / 2);
+			height = Math.max(targetHeight, height / 2);
+			if (current.getWidth() < targetWidth) {
+				// 원본이 목표보다 작으면 한 번에 확대
+				width = targetWidth;
+				height = targetHeight;
+			}
+			current = resize(current, width, height);
+		}
+		return current;
+	}
+
+	private BufferedImage resize(BufferedImage image, int width, int height) {
+		BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = resized.createGraphics();
+		try {
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			g.drawImage(image, 0, 0, width, height, null);
+		} finally {
+			g.dispose();
+		}
+		return resized;
+	}
+
+	private void writeJpeg(BufferedImage image, File output) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		try (ImageOutputStream out = ImageIO.createImageOutputStream(output)) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(JPEG_QUALITY);
+			writer.setOutput(out);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	private int maxEdge(List<ImageSize> sizes) {
+		return sizes.stream().mapToInt(size -> Math.max(size.getWidth(), size.getHeight())).max().orElse(1);
+	}
+}
@@ -0,0 +1,229 @@
+package com.oseak.myFestaBackend.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.oseak.myFestaBackend.dto.ImageVariants;
+import com.oseak.myFestaBackend.dto.Thumbnail;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JPEG 썸네일(과 JPEG 원본)을 AVIF/WebP로 다시 인코딩
+ * - 형식마다 ffmpeg 한 번 실행으로 모든 입력을 변환 (입력별 -map, 출력별 인코더 옵션)
+ * - 한 형식의 출력이 하나라도 빠지면 그 형식은 버림 (클라이언트가 받은 형식 목록의 URL은 모두 존재해야 함)
+ * - 변환본은 부가 기능이므로 실패해도 예외를 던지지 않고 JPEG만으로 처리 완료
+ * - 스토리 1건의 이미지 바이트(썸네일 + 원본)를 형식별로 media.image.bytes에 기록해 JPEG 대비 평균 크기를 비교
+ *   (작업이 완료되어 실제로 제공되는 변환본만 집계하도록 호출 측이 완료 후 {@link #recordBytes(ImageVariants)} 호출)
+ */
+@Slf4j
+@Component
+public class ImageVariantEncoder {
+
+	public static final String AVIF = "avif";
+	public static final String WEBP = "webp";
+	// 변환 전 기준 형식 (media.image.bytes 태그)
+	static final String JPEG = "jpeg";
+
+	private static final String ORIGINAL = "original";
+
+	private final List<String> formats;
+	private final int webpQuality;
+	private final int avifCrf;
+	private final int avifCpuUsed;
+	private final Path workDir;
+	private final Map<String, DistributionSummary> storyBytes = new LinkedHashMap<>();
+
+	public ImageVariantEncoder(MeterRegistry meterRegistry,
+		@Value("${app.media.variants.formats:avif,webp}") String formats,
+		@Value("${app.media.variants.webp-quality:75}") int webpQuality,
+		@Value("${app.media.variants.avif-crf:32}") int avifCrf,
+		@Value("${app.media.variants.avif-cpu-used:6}") int avifCpuUsed,
+		@Value("${app.thumbnail.temp-dir:${java.io.tmpdir}/thumbnails}") String workDir) {
+		this.formats = ImageVariants.parseFormats(formats).stream()
+			.map(String::toLowerCase)
+			.filter(format -> {
+				boolean supported = format.equals(AVIF) || format.equals(WEBP);
+				if (!supported) {
+					log.warn("Ignoring unsupported image variant format: {}", format);
+				}
+				return supported;
+			})
+			.distinct()
+			.toList();
+		this.webpQuality = webpQuality;
+		this.avifCrf = avifCrf;
+		this.avifCpuUsed = avifCpuUsed;
+		this.workDir = Paths.get(workDir).toAbsolutePath();
+
+		for (String format : concat(JPEG, this.formats)) {
+			storyBytes.put(format, DistributionSummary.builder("media.image.bytes")
+				.description("스토리 1건의 썸네일 + 원본 이미지 바이트 (형식별, 평균으로 JPEG 대비 크기 비교)")
+				.baseUnit("bytes")
+				.tag("format", format)
+				.register(meterRegistry));
+		}
+	}
+
+	public boolean isEnabled() {
+		return !formats.isEmpty();
+	}
+
+	/**
+	 * 설정된 형식 (선호 순서)
+	 */
+	public List<String> getFormats() {
+		return formats;
+	}
+
+	/**
+	 * JPEG 썸네일과 원본을 설정된 형식으로 변환한다.
+	 *
+	 * @param original 원본 변환 대상 (JPEG 원본이 아니면 null)
+	 * @param mediaId 출력 파일 이름 접두사 ({workDir}/{mediaId}_{size}.{format})
+	 */
+	public ImageVariants encode(List<Thumbnail> thumbnails, Path original, String mediaId) {
+		return encode(thumbnails, original, mediaId, formats);
+	}
+
+	/**
+	 * 지정한 형식만 변환한다. (재사용할 미디어에 빠진 형식만 채울 때)
+	 */
+	public ImageVariants encode(List<Thumbnail> thumbnails, Path original, String mediaId, List<String> formats) {
+		try {
+			Files.createDirectories(workDir);
+		} catch (IOException e) {
+			// 변형이 없어도 JPEG로 서비스할 수 있으므로 변환만 건너뜀
+			log.warn("Failed to create variant work directory: {}", workDir, e);
+			formats = List.of();
+		}
+
+		List<Path> inputs = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		for (Thumbnail thumbnail : thumbnails) {
+			inputs.add(Paths.get(thumbnail.getLocalPath()));
+			names.add(thumbnail.getSize());
+		}
+		if (original != null) {
+			inputs.add(original);
+			names.add(ORIGINAL);
+		}
+
+		List<String> available = new ArrayList<>();
+		Map<String, Map<String, Path>> thumbnailVariants = new LinkedHashMap<>();
+		Map<String, Path> originalVariants = new LinkedHashMap<>();
+		Map<String, Long> bytes = new LinkedHashMap<>();
+		bytes.put(JPEG, totalBytes(inputs));
+		for (String format : formats) {
+			List<Path> outputs = names.stream()
+				.map(name -> workDir.resolve(mediaId + "_" + name + "." + format))
+				.toList();
+			if (!encodeQuietly(format, inputs, outputs, mediaId)) {
+				continue;
+			}
+
+			available.add(format);
+			Map<String, Path> bySize = new LinkedHashMap<>();
+			for (int i = 0; i < names.size(); i++) {
+				if (ORIGINAL.equals(names.get(i))) {
+					originalVariants.put(format, outputs.get(i));
+				} else {
+					bySize.put(names.get(i), outputs.get(i));
+				}
+			}
+			thumbnailVariants.put(format, bySize);
+			bytes.put(format, totalBytes(outputs));
+		}
+
+		return ImageVariants.builder()
+			.formats(available)
+			.thumbnails(thumbnailVariants)
+			.originals(originalVariants)
+			.bytes(bytes)
+			.build();
+	}
+
+	/**
+	 * 예) ffmpeg -y -i a.jpg -i b.jpg -map 0:v -frames:v 1 -c:v libaom-av1 ... a.avif -map 1:v ... b.avif
+	 */
+	String[] buildCommand(String format, List<Path> inputs, List<Path> outputs) {
+		List<String> command = new ArrayList<>(List.of("ffmpeg", "-y"));
+		for (Path input : inputs) {
+			command.addAll(List.of("-i", input.toString()));
+		}
+		for (int i = 0; i < outputs.size(); i++) {
+			command.addAll(List.of("-map", i + ":v", "-frames:v", "1"));
+			command.addAll(codecOptions(format));
+			command.add(outputs.get(i).toString());
+		}
+		return command.toArray(String[]::new);
+	}
+
+	private List<String> codecOptions(String format) {
+		return switch (format) {
+			case AVIF -> List.of(
+				"-c:v", "libaom-av1",
+				"-still-picture", "1",
+				"-crf", String.valueOf(avifCrf),
+				"-b:v", "0",                                  // crf만으로 품질 고정
+				"-cpu-used", String.valueOf(avifCpuUsed),     // 0(느림, 작음) ~ 8(빠름)
+				"-pix_fmt", "yuv420p");
+			case WEBP -> List.of(
+				"-c:v", "libwebp",
+				"-quality", String.valueOf(webpQuality),
+				"-compression_level", "4");
+			default -> throw new IllegalArgumentException("Unsupported image variant format: " + format);
+		};
+	}
+
+	private boolean encodeQuietly(String format, List<Path> inputs, List<Path> outputs, String mediaId) {
+		try {
+			MediaCommandRunner.run(buildCommand(format, inputs, outputs));
+			if (outputs.stream().allMatch(output -> output.toFile().length() > 0)) {
+				return true;
+			}
+			log.warn("{} variants not created for mediaId: {}", format, mediaId);
+		} catch (Exception e) {
+			log.warn("Failed to create {} variants for mediaId: {}", format, mediaId, e);
+		}
+		outputs.forEach(output -> output.toFile().delete());
+		return false;
+	}
+
+	/**
+	 * 변환 결과의 형식별 바이트를 media.image.bytes에 기록한다.
+	 */
+	public void recordBytes(ImageVariants variants) {
+		if (variants == null || variants.getBytes() == null) {
+			return;
+		}
+		variants.getBytes().forEach((format, bytes) -> {
+			DistributionSummary summary = storyBytes.get(format);
+			if (summary != null) {
+				summary.record(bytes);
+			}
+		});
+	}
+
+	private static long totalBytes(List<Path> files) {
+		return files.stream().map(Path::toFile).mapToLong(File::length).sum();
+	}
+
+	private static List<String> concat(String first, List<String> rest) {
+		List<String> all = new ArrayList<>(List.of(first));
+		all.addAll(rest);
+		return all;
+	}
+}
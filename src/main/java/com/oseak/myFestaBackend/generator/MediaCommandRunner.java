@@ -0,0 +1,59 @@
+package com.oseak.myFestaBackend.generator;
+
+import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oseak.myFestaBackend.common.exception.OsaekException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ffmpeg/ffprobe 실행 (썸네일, 미리보기, HLS, 이미지 변환본 공용)
+ * - 표준 출력과 에러를 합쳐 끝까지 읽어 파이프가 가득 차 프로세스가 멈추지 않도록 함
+ * - 0이 아닌 종료 코드, 실행 실패, 인터럽트는 모두 THUMBNAIL_CANT_CREATE (인터럽트면 프로세스를 종료하고 플래그 복원)
+ */
+@Slf4j
+final class MediaCommandRunner {
+
+	private MediaCommandRunner() {
+	}
+
+	/**
+	 * @return 출력 줄 목록
+	 */
+	static List<String> run(String[] command) {
+		log.info("Executing command: {}", String.join(" ", command));
+
+		Process process = null;
+		try {
+			process = new ProcessBuilder(command).redirectErrorStream(true).start();
+
+			List<String> output = new ArrayList<>();
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					output.add(line);
+				}
+			}
+
+			int exitCode = process.waitFor();
+			if (exitCode != 0) {
+				log.error("{} failed with exit code {}: {}", command[0], exitCode, String.join("\n", output));
+				throw new OsaekException(THUMBNAIL_CANT_CREATE);
+			}
+			return output;
+		} catch (IOException e) {
+			log.error("{} execution failed: {}", command[0], e.getMessage(), e);
+			throw new OsaekException(THUMBNAIL_CANT_CREATE);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			process.destroyForcibly();
+			throw new OsaekException(THUMBNAIL_CANT_CREATE);
+		}
+	}
+}
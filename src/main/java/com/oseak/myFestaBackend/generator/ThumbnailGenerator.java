@@ -2,15 +2,14 @@ package com.oseak.myFestaBackend.generator;
 
 import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -19,17 +18,46 @@ import org.springframework.web.multipart.MultipartFile;
 import com.oseak.myFestaBackend.common.exception.OsaekException;
 import com.oseak.myFestaBackend.dto.GifConfig;
 import com.oseak.myFestaBackend.dto.ImageSize;
+import com.oseak.myFestaBackend.dto.SpooledMedia;
 import com.oseak.myFestaBackend.dto.Thumbnail;
 import com.oseak.myFestaBackend.dto.ThumbnailResult;
 import com.oseak.myFestaBackend.entity.enums.MediaType;
+import com.oseak.myFestaBackend.entity.enums.ThumbnailSize;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ThumbnailGenerator {
 
-	private String tempDir = "/tmp/thumbnails";
+	// 비디오 애니메이션 미리보기 키
+	public static final String PREVIEW = "preview";
+
+	// 사이즈 키 → 썸네일 크기 (ThumbnailSize 선언 순서: 첫 번째가 대표 썸네일)
+	static final Map<String, ImageSize> THUMBNAIL_SIZES;
+
+	static {
+		Map<String, ImageSize> sizes = new LinkedHashMap<>();
+		for (ThumbnailSize size : ThumbnailSize.values()) {
+			sizes.put(size.getKey(), new ImageSize(size.getSide(), size.getSide()));
+		}
+		THUMBNAIL_SIZES = Collections.unmodifiableMap(sizes);
+	}
+
+	// 이미지: 비율 유지로 꽉 채운 뒤 가운데 자르기
+	static final String IMAGE_THUMBNAIL_FILTER = "scale=%d:%d:force_original_aspect_ratio=increase,crop=%d:%d";
+
+	// 비디오: 비율 유지로 축소한 뒤 흰색 여백 채우기
+	static final String VIDEO_THUMBNAIL_FILTER =
+		"scale=%d:%d:force_original_aspect_ratio=decrease,pad=%d:%d:(ow-iw)/2:(oh-ih)/2:color=white";
+
+	private final ImageThumbnailRenderer imageThumbnailRenderer;
+
+	// 변형 인코더, HLS 패키저와 같은 작업 디렉토리 사용
+	@Value("${app.thumbnail.temp-dir:${java.io.tmpdir}/thumbnails}")
+	private String tempDir;
 
 	@Value("${app.media.max-original-size:50485760}") // 50MB 기본값
 	private long maxOriginalSize;
@@ -37,18 +65,63 @@ public class ThumbnailGenerator {
 	@Value("${app.media.compression-quality:85}")
 	private int compressionQuality;
 
+	@Value("${app.media.preview.enabled:true}")
+	private boolean previewEnabled;
+
+	@Value("${app.media.preview.start-seconds:1}")
+	private double previewStartSeconds;
+
+	@Value("${app.media.preview.duration-seconds:3}")
+	private double previewDurationSeconds;
+
+	@Value("${app.media.preview.fps:12}")
+	private int previewFps;
+
+	@Value("${app.media.preview.size:320}")
+	private int previewSize;
+
+	@Value("${app.media.preview.quality:60}")
+	private int previewQuality;
+
+	public boolean isPreviewEnabled() {
+		return previewEnabled;
+	}
+
 	// MultipartFile을 받아서 썸네일 생성 (압축 포함)
 	public ThumbnailResult generateThumbnails(MultipartFile file, String mediaId, MediaType mediaType) {
-		String tempFilePath = null;
+		// 1. MultipartFile을 임시 파일로 저장
+		String tempFilePath = saveMultipartFileToTemp(file, mediaId);
+		try {
+			return generateThumbnails(tempFilePath, file.getSize(), mediaId, mediaType, true);
+		} catch (Exception e) {
+			// 에러 발생시에만 임시 파일 정리
+			new File(tempFilePath).delete();
+			throw e;
+		}
+	}
+
+	// spool 디렉토리에 이미 저장된 업로드 파일로 썸네일 생성 (압축 포함)
+	// 작업이 재시도될 수 있으므로 spool 파일은 압축본을 만들어도 지우지 않음 (작업 종료 시 호출 측에서 정리)
+	public ThumbnailResult generateThumbnails(SpooledMedia media, String mediaId) {
+		return generateThumbnails(media.getPath().toString(), media.getSize(), mediaId, media.getMediaType(), false);
+	}
+
+	/**
+	 * 로컬 원본 파일로 썸네일 생성
+	 * 결과의 originalLocalPath에 최종 원본(압축본 또는 입력 파일) 경로를 담는다.
+	 * 실패 시 이 메소드가 만든 압축본만 정리하며 입력 파일 정리는 호출 측 책임
+	 *
+	 * @param deleteSourceWhenCompressed 압축본을 만들었을 때 입력 파일을 삭제할지 여부
+	 */
+	private ThumbnailResult generateThumbnails(String sourcePath, long fileSize, String mediaId, MediaType mediaType,
+		boolean deleteSourceWhenCompressed) {
 		String compressedFilePath = null;
+		new File(tempDir).mkdirs();
 
 		try {
-			// 1. MultipartFile을 임시 파일로 저장
-			tempFilePath = saveMultipartFileToTemp(file, mediaId);
-
 			// 2. 파일 크기 확인 및 필요시 압축
-			compressedFilePath = compressOriginalIfNeeded(tempFilePath, file.getSize(), mediaId, mediaType);
-			String finalFilePath = compressedFilePath != null ? compressedFilePath : tempFilePath;
+			compressedFilePath = compressOriginalIfNeeded(sourcePath, fileSize, mediaId, mediaType);
+			String finalFilePath = compressedFilePath != null ? compressedFilePath : sourcePath;
 
 			// 3. 썸네일 생성
 			ThumbnailResult result = switch (mediaType) {
@@ -58,9 +131,9 @@ public class ThumbnailGenerator {
 
 			result.setOriginalLocalPath(finalFilePath);
 
-			// 4. 압축된 파일 정보 설정
-			if (compressedFilePath != null) {
-				new File(tempFilePath).delete();
+			// 4. 압축본이 원본을 대체하므로 입력 파일 삭제
+			if (compressedFilePath != null && deleteSourceWhenCompressed) {
+				new File(sourcePath).delete();
 			}
 
 			return result;
@@ -68,11 +141,7 @@ public class ThumbnailGenerator {
 		} catch (Exception e) {
 			log.error("Failed to generate thumbnails for mediaId: {}", mediaId, e);
 
-			// 에러 발생시에만 임시 파일 정리
-			if (tempFilePath != null) {
-				new File(tempFilePath).delete();
-			}
-			if (compressedFilePath != null && !compressedFilePath.equals(tempFilePath)) {
+			if (compressedFilePath != null) {
 				new File(compressedFilePath).delete();
 			}
 
@@ -120,28 +189,12 @@ public class ThumbnailGenerator {
 	// === 이미지 썸네일 생성 ===
 
 	private ThumbnailResult generateImageThumbnails(String localImagePath, String mediaId) {
-		List<Thumbnail> thumbnails = new ArrayList<>();
-
-		Map<String, ImageSize> sizes = Map.of(
-			"small", new ImageSize(150, 150),
-			"medium", new ImageSize(300, 300),
-			"large", new ImageSize(600, 600)
-		);
-
-		for (Map.Entry<String, ImageSize> entry : sizes.entrySet()) {
-			String sizeKey = entry.getKey();
-			ImageSize size = entry.getValue();
-
-			String localThumbnailPath = generateImageThumbnail(
-				localImagePath, mediaId + "_" + sizeKey, size.getWidth(), size.getHeight());
-
-			thumbnails.add(Thumbnail.builder()
-				.size(sizeKey)
-				.localPath(localThumbnailPath)
-				.format("jpg")
-				.width(size.getWidth())
-				.height(size.getHeight())
-				.build());
+		List<String> outputPaths = thumbnailOutputPaths(mediaId);
+		List<Thumbnail> thumbnails;
+		if (renderInJvm(localImagePath, outputPaths)) {
+			thumbnails = collectThumbnails(outputPaths);
+		} else {
+			thumbnails = generateMultiSizeThumbnails(localImagePath, mediaId, IMAGE_THUMBNAIL_FILTER);
 		}
 
 		return ThumbnailResult.builder()
@@ -155,46 +208,23 @@ public class ThumbnailGenerator {
 
 		String[] command = {
 			"ffmpeg", "-i", inputPath,
-			"-vf", String.format("scale=%d:%d:force_original_aspect_ratio=increase,crop=%d:%d",
-			width, height, width, height),
+			"-vf", String.format(IMAGE_THUMBNAIL_FILTER, width, height, width, height),
 			"-q:v", "2",
 			"-y", outputPath
 		};
 
-		executeFFmpeg(command);
+		MediaCommandRunner.run(command);
 		return outputPath;
 	}
 
 	// === 비디오 썸네일 생성 ===
 
 	private ThumbnailResult generateVideoThumbnails(String localVideoPath, String mediaId) {
-		List<Thumbnail> thumbnails = new ArrayList<>();
-
 		try {
 			log.info("Generating static thumbnail for video: {}", mediaId);
 
-			// 여러 사이즈의 정적 썸네일 생성
-			Map<String, ImageSize> sizes = Map.of(
-				"small", new ImageSize(150, 150),
-				"medium", new ImageSize(300, 300),
-				"large", new ImageSize(600, 600)
-			);
-
-			for (Map.Entry<String, ImageSize> entry : sizes.entrySet()) {
-				String sizeKey = entry.getKey();
-				ImageSize size = entry.getValue();
-
-				String thumbnailPath = generateVideoStaticThumbnail(
-					localVideoPath, mediaId + "_" + sizeKey, size.getWidth(), size.getHeight());
-
-				thumbnails.add(Thumbnail.builder()
-					.size(sizeKey)
-					.localPath(thumbnailPath)
-					.format("jpg")
-					.width(size.getWidth())
-					.height(size.getHeight())
-					.build());
-			}
+			// 첫 프레임 하나를 디코딩해 모든 사이즈의 정적 썸네일 생성
+			List<Thumbnail> thumbnails = generateMultiSizeThumbnails(localVideoPath, mediaId, VIDEO_THUMBNAIL_FILTER);
 
 			log.info("Successfully generated {} static thumbnails for video: {}", thumbnails.size(), mediaId);
 
@@ -202,6 +232,7 @@ public class ThumbnailGenerator {
 				.mediaType(MediaType.VIDEO)
 				.thumbnails(thumbnails)
 				.staticThumbnailS3Url(null)  // 메인 정적 썸네일
+				.animatedPreview(previewEnabled ? createAnimatedPreviewQuietly(localVideoPath, mediaId) : null)
 				.build();
 
 		} catch (Exception e) {
@@ -210,33 +241,151 @@ public class ThumbnailGenerator {
 		}
 	}
 
-	private String generateVideoStaticThumbnail(String videoPath, String outputName, int width, int height) {
-		String outputPath = tempDir + "/" + outputName + ".jpg";
+	/**
+	 * 피드 자동 재생용 짧은 애니메이션 WebP 미리보기 (같은 화질의 GIF보다 몇 배 작음)
+	 * -ss를 -i 앞에 두어(입력 탐색) 시작 지점 근처 키프레임부터 디코딩하므로 앞부분을 모두 디코딩하지 않음
+	 * 미리보기는 부가 기능이므로 실패하면 null (정적 썸네일만으로 처리 완료)
+	 */
+	private Thumbnail createAnimatedPreviewQuietly(String videoPath, String mediaId) {
+		String outputPath = tempDir + "/" + mediaId + "_" + PREVIEW + ".webp";
+		try {
+			MediaCommandRunner.run(buildAnimatedPreviewCommand(videoPath, outputPath, previewStartOffset(videoPath)));
 
-		// 비디오에서 첫 번째 프레임을 JPG로 추출하는 간단하고 안정적인 명령어
-		String[] command = {
-			"ffmpeg", "-i", videoPath,
-			"-vframes", "1",  // 첫 번째 프레임만
-			"-ss", "0",       // 1초 지점에서 (첫 프레임이 검은 화면일 수 있어서)
-			"-vf",
-			String.format("scale=%d:%d:force_original_aspect_ratio=decrease,pad=%d:%d:(ow-iw)/2:(oh-ih)/2:color=white",
-				width, height, width, height),
-			"-q:v", "2",      // 고품질
-			"-y", outputPath
+			File previewFile = new File(outputPath);
+			if (!previewFile.exists() || previewFile.length() == 0) {
+				log.warn("Animated preview not created or empty: {}", outputPath);
+				previewFile.delete();
+				return null;
+			}
+			log.info("Created animated preview: {} (size: {} bytes)", outputPath, previewFile.length());
+
+			return Thumbnail.builder()
+				.size(PREVIEW)
+				.localPath(outputPath)
+				.format("webp")
+				.width(previewSize)
+				.height(previewSize)
+				.build();
+		} catch (Exception e) {
+			log.warn("Failed to create animated preview for mediaId: {}", mediaId, e);
+			new File(outputPath).delete();
+			return null;
+		}
+	}
+
+	/**
+	 * 페이드 인 등을 건너뛰도록 start-seconds부터 시작하되, 영상이 짧아 끝까지 못 채우면 처음부터
+	 */
+	private double previewStartOffset(String videoPath) {
+		double videoDuration = getVideoDuration(videoPath);
+		return videoDuration >= previewStartSeconds + previewDurationSeconds ? previewStartSeconds : 0;
+	}
+
+	/**
+	 * 예) ffmpeg -y -ss 1 -t 3 -i in -vf fps=12,scale=..,crop=.. -an -c:v libwebp -quality 60 -loop 0 out.webp
+	 */
+	String[] buildAnimatedPreviewCommand(String videoPath, String outputPath, double startSeconds) {
+		return new String[] {
+			"ffmpeg", "-y",
+			"-ss", String.valueOf(startSeconds),         // 입력 탐색 (-i 앞)
+			"-t", String.valueOf(previewDurationSeconds),
+			"-i", videoPath,
+			"-vf", "fps=" + previewFps + ","
+				+ String.format(IMAGE_THUMBNAIL_FILTER, previewSize, previewSize, previewSize, previewSize),
+			"-an",
+			"-c:v", "libwebp",
+			"-quality", String.valueOf(previewQuality),
+			"-compression_level", "4",
+			"-loop", "0",                                // 무한 반복
+			outputPath
 		};
+	}
 
-		log.info("Generating static thumbnail: {} -> {}", videoPath, outputPath);
-		executeFFmpeg(command);
+	/**
+	 * JPEG/PNG는 프로세스 생성 비용 없이 JVM 안에서 처리. 처리할 수 없는 입력이거나 실패하면 false (ffmpeg로 재시도)
+	 */
+	private boolean renderInJvm(String inputPath, List<String> outputPaths) {
+		try {
+			return imageThumbnailRenderer.render(inputPath, new ArrayList<>(THUMBNAIL_SIZES.values()), outputPaths);
+		} catch (Exception e) {
+			log.warn("In-JVM thumbnail rendering failed, falling back to ffmpeg: {}", inputPath, e);
+			outputPaths.forEach(path -> new File(path).delete());
+			return false;
+		}
+	}
 
-		// 생성된 파일 검증
-		File outputFile = new File(outputPath);
-		if (!outputFile.exists() || outputFile.length() == 0) {
-			log.error("Static thumbnail not created or empty: {}", outputPath);
-			throw new OsaekException(THUMBNAIL_CANT_CREATE);
+	private List<String> thumbnailOutputPaths(String mediaId) {
+		List<String> outputPaths = new ArrayList<>();
+		for (String sizeKey : THUMBNAIL_SIZES.keySet()) {
+			outputPaths.add(tempDir + "/" + mediaId + "_" + sizeKey + ".jpg");
 		}
+		return outputPaths;
+	}
 
-		log.info("Static thumbnail created successfully: {} (size: {} bytes)", outputPath, outputFile.length());
-		return outputPath;
+	/**
+	 * ffmpeg 한 번 실행으로 모든 사이즈의 썸네일 생성
+	 * 원본을 한 번만 디코딩한 뒤 split 필터로 프레임을 사이즈 수만큼 나누어 각각 스케일링해 출력
+	 */
+	private List<Thumbnail> generateMultiSizeThumbnails(String inputPath, String mediaId, String sizeFilter) {
+		List<String> outputPaths = thumbnailOutputPaths(mediaId);
+		MediaCommandRunner.run(buildMultiSizeThumbnailCommand(inputPath, outputPaths, sizeFilter));
+		return collectThumbnails(outputPaths);
+	}
+
+	private List<Thumbnail> collectThumbnails(List<String> outputPaths) {
+		List<Thumbnail> thumbnails = new ArrayList<>();
+		int index = 0;
+		for (Map.Entry<String, ImageSize> entry : THUMBNAIL_SIZES.entrySet()) {
+			String outputPath = outputPaths.get(index++);
+			File outputFile = new File(outputPath);
+			if (!outputFile.exists() || outputFile.length() == 0) {
+				log.error("Thumbnail not created or empty: {}", outputPath);
+				throw new OsaekException(THUMBNAIL_CANT_CREATE);
+			}
+
+			thumbnails.add(Thumbnail.builder()
+				.size(entry.getKey())
+				.localPath(outputPath)
+				.format("jpg")
+				.width(entry.getValue().getWidth())
+				.height(entry.getValue().getHeight())
+				.build());
+		}
+		return thumbnails;
+	}
+
+	/**
+	 * 예) ffmpeg -i in -filter_complex "[0:v]split=3[s0][s1][s2];[s0]scale=..[o0];.." -map [o0] -frames:v 1 out0.jpg ...
+	 *
+	 * @param sizeFilter 사이즈별 필터 형식 (width, height, width, height 순으로 치환)
+	 */
+	static String[] buildMultiSizeThumbnailCommand(String inputPath, List<String> outputPaths, String sizeFilter) {
+		List<ImageSize> sizes = new ArrayList<>(THUMBNAIL_SIZES.values());
+
+		StringBuilder graph = new StringBuilder("[0:v]split=").append(sizes.size());
+		for (int i = 0; i < sizes.size(); i++) {
+			graph.append("[s").append(i).append(']');
+		}
+		for (int i = 0; i < sizes.size(); i++) {
+			ImageSize size = sizes.get(i);
+			graph.append(";[s").append(i).append(']')
+				.append(String.format(sizeFilter, size.getWidth(), size.getHeight(), size.getWidth(), size.getHeight()))
+				.append("[o").append(i).append(']');
+		}
+
+		List<String> command = new ArrayList<>(List.of(
+			"ffmpeg", "-y", "-i", inputPath,
+			"-filter_complex", graph.toString()
+		));
+		for (int i = 0; i < sizes.size(); i++) {
+			command.addAll(List.of(
+				"-map", "[o" + i + "]",
+				"-frames:v", "1",
+				"-q:v", "2",
+				outputPaths.get(i)
+			));
+		}
+		return command.toArray(String[]::new);
 	}
 
 	// 비디오 파일 유효성 검사
@@ -275,7 +424,7 @@ public class ThumbnailGenerator {
 	// 			config.getFps(), config.getWidth(), config.getHeight()),
 	// 			"-y", paletteFile
 	// 		};
-	// 		executeFFmpeg(paletteCommand);
+	// 		MediaCommandRunner.run(paletteCommand);
 	//
 	// 		// 2. 팔레트 파일 존재 확인
 	// 		File palette = new File(paletteFile);
@@ -295,7 +444,7 @@ public class ThumbnailGenerator {
 	// 			config.getFps(), config.getWidth(), config.getHeight()),
 	// 			"-y", outputPath
 	// 		};
-	// 		executeFFmpeg(gifCommand);
+	// 		MediaCommandRunner.run(gifCommand);
 	//
 	// 		// 4. GIF 파일 존재 확인
 	// 		File gifFile = new File(outputPath);
@@ -344,7 +493,7 @@ public class ThumbnailGenerator {
 			"-y", outputPath
 		};
 
-		executeFFmpeg(command);
+		MediaCommandRunner.run(command);
 
 		File compressedFile = new File(outputPath);
 		long compressedSize = compressedFile.length();
@@ -393,7 +542,7 @@ public class ThumbnailGenerator {
 			"-y", outputPath
 		};
 
-		executeFFmpeg(command);
+		MediaCommandRunner.run(command);
 		return outputPath;
 	}
 
@@ -436,7 +585,7 @@ public class ThumbnailGenerator {
 			"-y", outputPath
 		};
 
-		executeFFmpeg(command);
+		MediaCommandRunner.run(command);
 		log.info("Created full GIF: {}", outputPath);
 		return outputPath;
 	}
@@ -456,7 +605,7 @@ public class ThumbnailGenerator {
 			"-y", outputPath
 		};
 
-		executeFFmpeg(command);
+		MediaCommandRunner.run(command);
 		log.info("Created {}-second GIF: {}", duration, outputPath);
 		return outputPath;
 	}
@@ -480,7 +629,7 @@ public class ThumbnailGenerator {
 				"fps=20,scale=640:480:flags=lanczos:force_original_aspect_ratio=decrease,palettegen=stats_mode=diff",
 				"-y", paletteFile
 			};
-			executeFFmpeg(paletteCommand);
+			MediaCommandRunner.run(paletteCommand);
 
 			// 2단계: GIF 생성
 			String[] gifCommand = {
@@ -491,7 +640,7 @@ public class ThumbnailGenerator {
 				"-loop", "0",
 				"-y", outputPath
 			};
-			executeFFmpeg(gifCommand);
+			MediaCommandRunner.run(gifCommand);
 
 			// 팔레트 파일 삭제
 			new File(paletteFile).delete();
@@ -538,7 +687,7 @@ public class ThumbnailGenerator {
 					"-y", outputPath
 				};
 
-				executeFFmpeg(command);
+				MediaCommandRunner.run(command);
 				gifPaths.put(sizeKey, outputPath);
 
 				log.info("Created {} GIF: {}", sizeKey, outputPath);
@@ -562,13 +711,8 @@ public class ThumbnailGenerator {
 				"-of", "csv=p=0", videoPath
 			};
 
-			ProcessBuilder pb = new ProcessBuilder(command);
-			Process process = pb.start();
-
-			String output = readProcessOutput(process);
-			int exitCode = process.waitFor();
-
-			if (exitCode == 0 && !output.trim().isEmpty()) {
+			String output = String.join("\n", MediaCommandRunner.run(command));
+			if (!output.trim().isEmpty()) {
 				return Double.parseDouble(output.trim());
 			} else {
 				log.warn("Could not determine video duration, assuming 5 seconds");
@@ -581,45 +725,4 @@ public class ThumbnailGenerator {
 		}
 	}
 
-	// FFmpeg 실행
-	private void executeFFmpeg(String[] command) {
-		try {
-			log.info("Executing FFmpeg command: {}", String.join(" ", command));
-
-			ProcessBuilder pb = new ProcessBuilder(command);
-			pb.redirectErrorStream(true);
-			Process process = pb.start();
-
-			// 프로세스 출력을 실시간으로 읽기
-			StringBuilder output = new StringBuilder();
-			try (BufferedReader reader = new BufferedReader(
-				new InputStreamReader(process.getInputStream()))) {
-				String line;
-				while ((line = reader.readLine()) != null) {
-					output.append(line).append("\n");
-					log.debug("FFmpeg output: {}", line);
-				}
-			}
-
-			int exitCode = process.waitFor();
-			if (exitCode != 0) {
-				log.error("FFmpeg failed with exit code {}", exitCode);
-				log.error("FFmpeg output: {}", output.toString());
-				throw new OsaekException(THUMBNAIL_CANT_CREATE);
-			}
-
-			log.info("FFmpeg command executed successfully");
-		} catch (Exception e) {
-			log.error("FFmpeg execution failed: {}", e.getMessage(), e);
-			throw new OsaekException(THUMBNAIL_CANT_CREATE);
-		}
-	}
-
-	private String readProcessOutput(Process process) throws IOException {
-		try (BufferedReader reader = new BufferedReader(
-			new InputStreamReader(process.getInputStream()))) {
-			return reader.lines().collect(Collectors.joining("\n"));
-		}
-	}
-
 }
@@ -0,0 +1,47 @@
+package com.oseak.myFestaBackend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oseak.myFestaBackend.entity.FestaBookmark;
+import com.oseak.myFestaBackend.entity.MemberFestaId;
+
+public interface FestaBookmarkRepository extends JpaRepository<FestaBookmark, MemberFestaId> {
+
+	@Transactional
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO festa_bookmark (member_id, festa_id, created_at)
+		VALUES (:memberId, :festaId, NOW(6))
+		""", nativeQuery = true)
+	int insertIfAbsent(@Param("memberId") Long memberId, @Param("festaId") Long festaId);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM FestaBookmark fb WHERE fb.id.memberId = :memberId AND fb.id.festaId = :festaId")
+	int deleteByMemberIdAndFestaId(@Param("memberId") Long memberId, @Param("festaId") Long festaId);
+
+	@Query("""
+		SELECT fb FROM FestaBookmark fb
+		WHERE fb.id.memberId = :memberId
+		ORDER BY fb.createdAt DESC, fb.id.festaId DESC
+		""")
+	List<FestaBookmark> findFirstPage(@Param("memberId") Long memberId, Limit limit);
+
+	// (created_at, festa_id)가 커서보다 이전인 행부터 조회 (OFFSET 없이 인덱스 탐색)
+	@Query("""
+		SELECT fb FROM FestaBookmark fb
+		WHERE fb.id.memberId = :memberId
+			AND (fb.createdAt < :createdAt OR (fb.createdAt = :createdAt AND fb.id.festaId < :festaId))
+		ORDER BY fb.createdAt DESC, fb.id.festaId DESC
+		""")
+	List<FestaBookmark> findPageAfter(@Param("memberId") Long memberId, @Param("createdAt") LocalDateTime createdAt,
+		@Param("festaId") Long festaId, Limit limit);
+}
@@ -0,0 +1,34 @@
+package com.oseak.myFestaBackend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oseak.myFestaBackend.entity.FestaLike;
+import com.oseak.myFestaBackend.entity.MemberFestaId;
+
+public interface FestaLikeRepository extends JpaRepository<FestaLike, MemberFestaId> {
+
+	/**
+	 * 이미 좋아요한 경우 아무것도 하지 않는다.
+	 *
+	 * @return 새로 추가되면 1, 이미 있으면 0
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO festa_like (member_id, festa_id, created_at)
+		VALUES (:memberId, :festaId, NOW(6))
+		""", nativeQuery = true)
+	int insertIfAbsent(@Param("memberId") Long memberId, @Param("festaId") Long festaId);
+
+	/**
+	 * @return 삭제되면 1, 좋아요가 없었으면 0
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM FestaLike fl WHERE fl.id.memberId = :memberId AND fl.id.festaId = :festaId")
+	int deleteByMemberIdAndFestaId(@Param("memberId") Long memberId, @Param("festaId") Long festaId);
+}
@@ -1,8 +1,79 @@
 package com.oseak.myFestaBackend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.oseak.myFestaBackend.entity.FestaStatistic;
 
+/**
+ * 통계 값은 엔티티를 읽어 자바에서 더한 뒤 저장하지 않고,
+ * DB에서 원자적으로 증감시켜 동시 요청에도 갱신이 유실되지 않도록 함
+ * bucket 파라미터는 FestaStatistic.ratingBucket(score)로 계산한 별점 구간(1~5)
+ */
 public interface FestaStatisticRepository extends JpaRepository<FestaStatistic, Long> {
-}
\ No newline at end of file
+
+	/**
+	 * 리뷰 추가 반영. 통계 행이 없으면 생성한다.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = """
+		INSERT INTO festa_statistic
+			(festa_id, total_score, review_count, view_count, like_count, story_count,
+			 rating_1, rating_2, rating_3, rating_4, rating_5)
+		VALUES (:festaId, :score, 1, 0, 0, 0,
+			IF(:bucket = 1, 1, 0), IF(:bucket = 2, 1, 0), IF(:bucket = 3, 1, 0),
+			IF(:bucket = 4, 1, 0), IF(:bucket = 5, 1, 0))
+		ON DUPLICATE KEY UPDATE
+			total_score = total_score + VALUES(total_score),
+			review_count = review_count + 1,
+			rating_1 = rating_1 + VALUES(rating_1),
+			rating_2 = rating_2 + VALUES(rating_2),
+			rating_3 = rating_3 + VALUES(rating_3),
+			rating_4 = rating_4 + VALUES(rating_4),
+			rating_5 = rating_5 + VALUES(rating_5)
+		""", nativeQuery = true)
+	int incrementReview(@Param("festaId") Long festaId, @Param("score") double score, @Param("bucket") int bucket);
+
+	/**
+	 * 리뷰 점수 변경 반영. 누적 점수에 변경분(delta)을 더하고 별점 구간을 옮긴다.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = """
+		UPDATE festa_statistic
+		SET total_score = GREATEST(total_score + :delta, 0),
+			rating_1 = GREATEST(rating_1 + IF(:newBucket = 1, 1, 0) - IF(:oldBucket = 1, 1, 0), 0),
+			rating_2 = GREATEST(rating_2 + IF(:newBucket = 2, 1, 0) - IF(:oldBucket = 2, 1, 0), 0),
+			rating_3 = GREATEST(rating_3 + IF(:newBucket = 3, 1, 0) - IF(:oldBucket = 3, 1, 0), 0),
+			rating_4 = GREATEST(rating_4 + IF(:newBucket = 4, 1, 0) - IF(:oldBucket = 4, 1, 0), 0),
+			rating_5 = GREATEST(rating_5 + IF(:newBucket = 5, 1, 0) - IF(:oldBucket = 5, 1, 0), 0)
+		WHERE festa_id = :festaId
+		""", nativeQuery = true)
+	int applyReviewScoreChange(@Param("festaId") Long festaId, @Param("delta") double delta,
+		@Param("oldBucket") int oldBucket, @Param("newBucket") int newBucket);
+
+	/**
+	 * 리뷰 삭제 반영. 마지막 리뷰가 삭제되면 누적 점수/분포도 0으로 맞춘다.
+	 * MySQL은 SET 절을 왼쪽부터 적용하므로 review_count를 가장 마지막에 갱신해 변경 전 값을 참조한다.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = """
+		UPDATE festa_statistic
+		SET total_score = CASE WHEN review_count <= 1 THEN 0 ELSE GREATEST(total_score - :score, 0) END,
+			rating_1 = CASE WHEN review_count <= 1 THEN 0 ELSE GREATEST(rating_1 - IF(:bucket = 1, 1, 0), 0) END,
+			rating_2 = CASE WHEN review_count <= 1 THEN 0 ELSE GREATEST(rating_2 - IF(:bucket = 2, 1, 0), 0) END,
+			rating_3 = CASE WHEN review_count <= 1 THEN 0 ELSE GREATEST(rating_3 - IF(:bucket = 3, 1, 0), 0) END,
+			rating_4 = CASE WHEN review_count <= 1 THEN 0 ELSE GREATEST(rating_4 - IF(:bucket = 4, 1, 0), 0) END,
+			rating_5 = CASE WHEN review_count <= 1 THEN 0 ELSE GREATEST(rating_5 - IF(:bucket = 5, 1, 0), 0) END,
+			review_count = GREATEST(review_count - 1, 0)
+		WHERE festa_id = :festaId
+		""", nativeQuery = true)
+	int decrementReview(@Param("festaId") Long festaId, @Param("score") double score, @Param("bucket") int bucket);
+
+	@Query("SELECT MIN(fs.festaId) FROM FestaStatistic fs")
+	Long findMinFestaId();
+
+	@Query("SELECT MAX(fs.festaId) FROM FestaStatistic fs")
+	Long findMaxFestaId();
+}
@@ -0,0 +1,44 @@
+package com.oseak.myFestaBackend.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.oseak.myFestaBackend.entity.MediaObject;
+
+import jakarta.persistence.LockModeType;
+
+public interface MediaObjectRepository extends JpaRepository<MediaObject, String> {
+
+	/**
+	 * 같은 해시를 동시에 처리한 워커가 있어도 먼저 등록한 행을 유지
+	 * (워커마다 generation prefix가 달라 URL이 다르므로, 나중에 등록하려던 워커는 URL을 비교해 자신의 업로드를 정리)
+	 *
+	 * @return 등록된 행 수 (이미 있으면 0)
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO media_object
+			(content_hash, media_type, original_url, thumbnail_url, thumbnail_medium_url, thumbnail_large_url, hls_url,
+			preview_url, image_formats, created_at)
+		VALUES (:contentHash, :mediaType, :originalUrl, :thumbnailUrl, :thumbnailMediumUrl, :thumbnailLargeUrl, :hlsUrl,
+			:previewUrl, :imageFormats, NOW())
+		""", nativeQuery = true)
+	int insertIgnore(@Param("contentHash") String contentHash,
+		@Param("mediaType") String mediaType,
+		@Param("originalUrl") String originalUrl,
+		@Param("thumbnailUrl") String thumbnailUrl,
+		@Param("thumbnailMediumUrl") String thumbnailMediumUrl,
+		@Param("thumbnailLargeUrl") String thumbnailLargeUrl,
+		@Param("hlsUrl") String hlsUrl,
+		@Param("previewUrl") String previewUrl,
+		@Param("imageFormats") String imageFormats);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT m FROM MediaObject m WHERE m.contentHash = :contentHash")
+	Optional<MediaObject> findByIdForUpdate(@Param("contentHash") String contentHash);
+}
@@ -0,0 +1,102 @@
+package com.oseak.myFestaBackend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oseak.myFestaBackend.entity.MediaProcessingJob;
+
+import jakarta.persistence.LockModeType;
+
+public interface MediaProcessingJobRepository extends JpaRepository<MediaProcessingJob, Long> {
+
+	/**
+	 * 실행할 수 있는 작업(대기 시각이 지난 PENDING, 임대가 만료된 RUNNING)을 잠그고 조회한다.
+	 * SKIP LOCKED로 다른 워커가 잠근 행은 건너뛰므로 여러 노드가 같은 작업을 동시에 가져가지 않는다.
+	 * spool 파일 작업은 spool을 공유하거나 같은 노드일 때만, 저장소 원본 작업은 어느 노드든 가져간다.
+	 * 트랜잭션 안에서 호출해야 하며, 잠금은 트랜잭션이 끝날 때 풀린다.
+	 */
+	@Query(value = """
+		SELECT * FROM media_processing_job
+		WHERE ((status = 'PENDING' AND next_run_at <= :now)
+			OR (status = 'RUNNING' AND lease_expires_at < :now))
+		  AND (:sharedSpool = TRUE OR spool_node = :node OR source_key IS NOT NULL)
+		ORDER BY job_id
+		LIMIT :limit
+		FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<MediaProcessingJob> findClaimableForUpdate(@Param("now") LocalDateTime now,
+		@Param("node") String node,
+		@Param("sharedSpool") boolean sharedSpool,
+		@Param("limit") int limit);
+
+	/**
+	 * 등록한 노드가 aliveSince 이후 보이지 않는 spool 파일 작업을 잠그고 조회한다.
+	 * (노드 ID가 바뀌는 재배포나 노드 제거로 어느 노드도 가져갈 수 없게 된 작업)
+	 * 등록된 지 aliveSince가 지나지 않은 작업은 노드가 아직 첫 조회 전일 수 있으므로 제외
+	 */
+	@Query(value = """
+		SELECT j.* FROM media_processing_job j
+		WHERE j.source_key IS NULL
+		  AND (j.status = 'PENDING' OR (j.status = 'RUNNING' AND j.lease_expires_at < :now))
+		  AND j.created_at < :aliveSince
+		  AND NOT EXISTS (
+			SELECT 1 FROM media_worker_node n
+			WHERE n.node_id = j.spool_node AND n.last_seen_at >= :aliveSince)
+		ORDER BY j.job_id
+		LIMIT :limit
+		FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<MediaProcessingJob> findOrphanedSpoolJobsForUpdate(@Param("now") LocalDateTime now,
+		@Param("aliveSince") LocalDateTime aliveSince,
+		@Param("limit") int limit);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT j FROM MediaProcessingJob j WHERE j.jobId = :jobId")
+	Optional<MediaProcessingJob> findByIdForUpdate(@Param("jobId") Long jobId);
+
+	/**
+	 * 임대를 가진 워커만 임대 만료 시각을 연장한다.
+	 *
+	 * @return 연장된 행 수 (0이면 임대를 잃음)
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		UPDATE media_processing_job
+		SET lease_expires_at = :leaseUntil, updated_at = :now
+		WHERE job_id = :jobId AND status = 'RUNNING' AND lease_owner = :owner
+		""", nativeQuery = true)
+	int extendLease(@Param("jobId") Long jobId, @Param("owner") String owner,
+		@Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+	boolean existsBySourceKey(String sourceKey);
+
+	/**
+	 * 처리 대기 + 처리 중인 작업 수 (전체 노드 합계)
+	 */
+	@Query(value = "SELECT COUNT(*) FROM media_processing_job WHERE status IN ('PENDING', 'RUNNING')",
+		nativeQuery = true)
+	long countBacklog();
+
+	/**
+	 * 완료된 지 오래된 작업을 최대 batchSize건만 삭제한다. (DEAD 작업은 원인 확인을 위해 남김)
+	 *
+	 * @return 삭제된 행 수
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		DELETE FROM media_processing_job
+		WHERE status = 'COMPLETED' AND updated_at < :threshold
+		LIMIT :batchSize
+		""", nativeQuery = true)
+	int deleteCompletedBefore(@Param("threshold") LocalDateTime threshold, @Param("batchSize") int batchSize);
+}
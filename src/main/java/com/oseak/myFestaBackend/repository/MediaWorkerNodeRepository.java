@@ -0,0 +1,23 @@
+package com.oseak.myFestaBackend.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oseak.myFestaBackend.entity.MediaWorkerNode;
+
+public interface MediaWorkerNodeRepository extends JpaRepository<MediaWorkerNode, String> {
+
+	@Transactional
+	@Modifying
+	@Query(value = """
+		INSERT INTO media_worker_node (node_id, last_seen_at)
+		VALUES (:nodeId, :now)
+		ON DUPLICATE KEY UPDATE last_seen_at = :now
+		""", nativeQuery = true)
+	int touch(@Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+}
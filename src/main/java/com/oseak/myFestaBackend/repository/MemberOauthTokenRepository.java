@@ -1,8 +1,34 @@
 package com.oseak.myFestaBackend.repository;
 
+import java.time.LocalDateTime;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.oseak.myFestaBackend.entity.MemberOauthToken;
 
 public interface MemberOauthTokenRepository extends JpaRepository<MemberOauthToken, Long> {
+
+	/**
+	 * 회원별 OAuth 토큰을 한 번의 쿼리로 삽입하거나 갱신한다. (member_id PK 기준 upsert)
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO member_oauth_token
+			(member_id, access_token, refresh_token, expires_at, refresh_token_expires_at, created_at, updated_at)
+		VALUES (:memberId, :accessToken, :refreshToken, :expiresAt, :refreshTokenExpiresAt, NOW(), NOW())
+		ON DUPLICATE KEY UPDATE
+			access_token = VALUES(access_token),
+			refresh_token = VALUES(refresh_token),
+			expires_at = VALUES(expires_at),
+			refresh_token_expires_at = VALUES(refresh_token_expires_at),
+			updated_at = NOW()
+		""", nativeQuery = true)
+	void upsertToken(@Param("memberId") Long memberId,
+		@Param("accessToken") String accessToken,
+		@Param("refreshToken") String refreshToken,
+		@Param("expiresAt") LocalDateTime expiresAt,
+		@Param("refreshTokenExpiresAt") LocalDateTime refreshTokenExpiresAt);
 }
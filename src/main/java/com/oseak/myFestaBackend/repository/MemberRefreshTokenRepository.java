@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.oseak.myFestaBackend.entity.MemberRefreshToken;
 
@@ -14,13 +15,26 @@ public interface MemberRefreshTokenRepository extends JpaRepository<MemberRefres
 
 	Optional<MemberRefreshToken> findByMemberId(Long memberId);
 
-	Optional<MemberRefreshToken> findByToken(String token);
+	Optional<MemberRefreshToken> findByTokenHash(String tokenHash);
 
 	@Modifying
 	@Query("DELETE FROM MemberRefreshToken mrt WHERE mrt.memberId = :memberId")
 	void deleteByMemberId(@Param("memberId") Long memberId);
 
+	/**
+	 * 만료된(또는 다이제스트 전환 이전의) 토큰을 최대 batchSize건만 삭제한다.
+	 * 배치마다 트랜잭션을 분리해 락 보유 시간을 짧게 유지한다.
+	 *
+	 * @param now       기준 시각
+	 * @param batchSize 한 번에 삭제할 최대 행 수
+	 * @return 삭제된 행 수
+	 */
+	@Transactional
 	@Modifying
-	@Query("DELETE FROM MemberRefreshToken mrt WHERE mrt.createdAt < :expiredDate")
-	int deleteExpiredTokens(@Param("expiredDate") LocalDateTime expiredDate);
+	@Query(value = """
+		DELETE FROM member_refresh_token
+		WHERE expires_at IS NULL OR expires_at < :now
+		LIMIT :batchSize
+		""", nativeQuery = true)
+	int deleteExpiredTokens(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 }
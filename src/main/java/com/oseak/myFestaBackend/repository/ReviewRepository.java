@@ -1,13 +1,49 @@
 package com.oseak.myFestaBackend.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.oseak.myFestaBackend.entity.Review;
 import com.oseak.myFestaBackend.entity.ReviewId;
 
+import jakarta.persistence.LockModeType;
+
 public interface ReviewRepository extends JpaRepository<Review, ReviewId> {
+	// 목록 응답에 축제명이 포함되므로 festa를 함께 조회해 리뷰마다 추가 쿼리가 나가지 않도록 함
+	@EntityGraph(attributePaths = "festa")
 	Page<Review> findByFesta_FestaId(Long festaId, Pageable pageable);
+
+	@EntityGraph(attributePaths = "festa")
 	Page<Review> findById_MemberId(Long memberId, Pageable pageable);
+
+	// 수정/삭제 시 이전 점수를 기준으로 통계 증감분을 계산하므로 같은 리뷰에 대한 동시 변경을 직렬화
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT r FROM Review r WHERE r.id = :id")
+	Optional<Review> findByIdForUpdate(@Param("id") ReviewId id);
+
+	/**
+	 * 리뷰를 한 번의 INSERT로 작성한다.
+	 * - 같은 회원/축제 리뷰가 이미 있으면 PK 중복 오류
+	 * - 축제가 없으면 festa_id FK 오류
+	 * - member_id에는 FK가 없으므로 member 테이블에서 SELECT해 넣고, 회원이 없으면 0행이 삽입됨
+	 *
+	 * @return 삽입된 행 수 (회원이 없으면 0)
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO review (member_id, festa_id, score, image_url, description, created_at, updated_at)
+		SELECT m.member_id, :festaId, :score, :imageUrl, :description, NOW(6), NOW(6)
+		FROM member m
+		WHERE m.member_id = :memberId
+		""", nativeQuery = true)
+	int insertReview(@Param("memberId") Long memberId, @Param("festaId") Long festaId, @Param("score") double score,
+		@Param("imageUrl") String imageUrl, @Param("description") String description);
 }
@@ -1,13 +1,63 @@
 package com.oseak.myFestaBackend.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.oseak.myFestaBackend.entity.Story;
 
+import jakarta.persistence.LockModeType;
+
 public interface StoryRepository extends JpaRepository<Story, Long>,
 	JpaSpecificationExecutor<Story> {
-	List<Story> findAllByIsDeletedTrue();
+	/**
+	 * 하드 삭제 대상(논리 삭제된 스토리)을 story_id 순으로 afterStoryId 다음부터 조회
+	 * 미디어 처리 중인 스토리는 처리 완료 후 업로드될 객체가 남지 않도록 제외
+	 */
+	@Query("""
+		SELECT s FROM Story s
+		WHERE s.isDeleted = true
+			AND s.storyId > :afterStoryId
+			AND (s.processingStatus IS NULL OR s.processingStatus <> 'PROCESSING')
+		ORDER BY s.storyId
+		""")
+	List<Story> findDeletedAfter(@Param("afterStoryId") Long afterStoryId, Limit limit);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM Story s WHERE s.storyId IN :storyIds AND s.isDeleted = true")
+	int deleteDeletedByIds(@Param("storyIds") Collection<Long> storyIds);
+
+	boolean existsByContentHash(String contentHash);
+
+	@Modifying
+	@Query("UPDATE Story s SET s.contentHash = :contentHash WHERE s.storyId = :storyId")
+	int assignContentHash(@Param("storyId") Long storyId, @Param("contentHash") String contentHash);
+
+	/**
+	 * 공유 미디어 인덱스 행에 채운 산출물을 같은 객체를 쓰는 스토리에도 반영 (썸네일 URL이 같으면 같은 generation)
+	 */
+	@Modifying
+	@Query("""
+		UPDATE Story s
+		SET s.hlsUrl = :hlsUrl, s.previewUrl = :previewUrl, s.imageFormats = :imageFormats
+		WHERE s.contentHash = :contentHash AND s.thumbnailUrl = :thumbnailUrl
+		""")
+	int backfillSharedMedia(@Param("contentHash") String contentHash, @Param("thumbnailUrl") String thumbnailUrl,
+		@Param("hlsUrl") String hlsUrl, @Param("previewUrl") String previewUrl,
+		@Param("imageFormats") String imageFormats);
+
+	// 상태 전이 전후로 스토리 수 증감을 판단하므로 같은 스토리에 대한 동시 변경을 직렬화
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM Story s WHERE s.storyId = :storyId")
+	Optional<Story> findByIdForUpdate(@Param("storyId") Long storyId);
 }
@@ -5,6 +5,7 @@ import java.util.Objects;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
+import com.oseak.myFestaBackend.common.util.KeysetCursorUtil;
 import com.oseak.myFestaBackend.dto.request.StorySearchRequestDto;
 import com.oseak.myFestaBackend.entity.Story;
 
@@ -19,6 +20,29 @@ public class StorySpecification {
 		);
 	}
 
+	/**
+	 * 커서 기반 조회 조건: 기본 검색 조건 + (created_at, story_id)가 커서보다 이전인 행
+	 */
+	public static Specification<Story> createCursorSpecification(StorySearchRequestDto request, Long viewerMemberId,
+		KeysetCursorUtil.Cursor cursor) {
+		return Specification.allOf(
+			createSpecification(request, viewerMemberId),
+			olderThan(cursor)
+		);
+	}
+
+	private static Specification<Story> olderThan(KeysetCursorUtil.Cursor cursor) {
+		if (cursor == null)
+			return null;
+		return (root, q, cb) -> cb.or(
+			cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+			cb.and(
+				cb.equal(root.get("createdAt"), cursor.createdAt()),
+				cb.lessThan(root.get("storyId"), cursor.id())
+			)
+		);
+	}
+
 	private static Specification<Story> notDeleted() {
 		return (root, q, cb) -> cb.isFalse(root.get("isDeleted"));
 	}
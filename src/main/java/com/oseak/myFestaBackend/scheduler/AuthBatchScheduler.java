@@ -0,0 +1,27 @@
+package com.oseak.myFestaBackend.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.oseak.myFestaBackend.service.AuthService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthBatchScheduler {
+	private final AuthService authService;
+
+	@Scheduled(cron = "0 30 * * * *", zone = "Asia/Seoul")
+	public void purgeExpiredRefreshTokenBatch() {
+		log.info("만료 리프레시 토큰 정리 시작");
+		try {
+			int deleted = authService.purgeExpiredRefreshTokens();
+			log.info("만료 리프레시 토큰 정리 완료: {}건 삭제", deleted);
+		} catch (Exception e) {
+			log.error("만료 리프레시 토큰 정리 중 오류 발생", e);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.oseak.myFestaBackend.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.oseak.myFestaBackend.service.FestaCounterBuffer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestaCounterFlushScheduler {
+	private final FestaCounterBuffer festaCounterBuffer;
+
+	@Scheduled(fixedDelayString = "${app.festa.counter-buffer.flush-interval-ms:5000}")
+	public void flushFestaCounters() {
+		try {
+			int flushed = festaCounterBuffer.flush();
+			if (flushed > 0) {
+				log.debug("축제 카운터 반영 완료: {}건", flushed);
+			}
+		} catch (Exception e) {
+			log.error("축제 카운터 반영 중 오류 발생", e);
+		}
+	}
+}
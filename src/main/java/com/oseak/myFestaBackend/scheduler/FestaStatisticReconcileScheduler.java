@@ -0,0 +1,27 @@
+package com.oseak.myFestaBackend.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.oseak.myFestaBackend.service.FestaStatisticReconciler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestaStatisticReconcileScheduler {
+	private final FestaStatisticReconciler festaStatisticReconciler;
+
+	@Scheduled(cron = "${app.festa.statistic-reconcile.cron:0 40 4 * * *}", zone = "Asia/Seoul")
+	public void reconcileFestaStatisticBatch() {
+		log.info("축제 통계 정합성 점검 시작");
+		try {
+			int fixed = festaStatisticReconciler.reconcile();
+			log.info("축제 통계 정합성 점검 완료: {}건 보정", fixed);
+		} catch (Exception e) {
+			log.error("축제 통계 정합성 점검 중 오류 발생", e);
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.oseak.myFestaBackend.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.oseak.myFestaBackend.service.MediaProcessingJobDispatcher;
+import com.oseak.myFestaBackend.service.MediaProcessingJobService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MediaProcessingJobScheduler {
+	private final MediaProcessingJobDispatcher mediaProcessingJobDispatcher;
+	private final MediaProcessingJobService mediaProcessingJobService;
+
+	@Value("${app.media.job.purge-batch-size:1000}")
+	private int purgeBatchSize;
+
+	@Scheduled(fixedDelayString = "${app.media.job.poll-interval-ms:1000}")
+	public void pollMediaProcessingJobs() {
+		try {
+			int claimed = mediaProcessingJobDispatcher.poll();
+			if (claimed > 0) {
+				log.debug("미디어 처리 작업 가져옴: {}건", claimed);
+			}
+		} catch (Exception e) {
+			log.error("미디어 처리 작업 조회 중 오류 발생", e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.media.job.orphan-check-interval-ms:60000}")
+	public void reapOrphanedMediaJobs() {
+		try {
+			int reaped = mediaProcessingJobService.reapOrphanedSpoolJobs(purgeBatchSize);
+			if (reaped > 0) {
+				log.warn("처리할 노드가 없는 spool 작업 실패 처리: {}건", reaped);
+			}
+		} catch (Exception e) {
+			log.error("처리할 노드가 없는 spool 작업 정리 중 오류 발생", e);
+		}
+	}
+
+	@Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+	public void purgeCompletedMediaJobsBatch() {
+		try {
+			int deleted = mediaProcessingJobService.purgeCompletedJobs(purgeBatchSize);
+			log.info("완료된 미디어 처리 작업 정리 완료: {}건", deleted);
+		} catch (Exception e) {
+			log.error("완료된 미디어 처리 작업 정리 중 오류 발생", e);
+		}
+	}
+}
@@ -4,6 +4,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.oseak.myFestaBackend.service.StoryService;
+import com.oseak.myFestaBackend.service.UploadSpool;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,14 +14,28 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class StoryBatchScheduler {
 	private final StoryService storyService;
+	private final UploadSpool uploadSpool;
 
 	@Scheduled(cron = "0 20 0 * * *", zone = "Asia/Seoul")
 	public void deleteStoryBatch() {
 		log.info("========== 스토리 삭제 시작 ==========");
 		try {
-			storyService.deleteStory();
+			int purged = storyService.deleteStory();
+			log.info("========== 스토리 삭제 완료: {}건 ==========", purged);
 		} catch (Exception e) {
 			log.error("스토리 삭제 중 오류 발생", e);
 		}
 	}
+
+	@Scheduled(cron = "0 50 * * * *", zone = "Asia/Seoul")
+	public void purgeStaleSpoolFilesBatch() {
+		try {
+			int deleted = uploadSpool.purgeStaleFiles();
+			if (deleted > 0) {
+				log.info("오래된 업로드 spool 파일 정리 완료: {}건", deleted);
+			}
+		} catch (Exception e) {
+			log.error("업로드 spool 파일 정리 중 오류 발생", e);
+		}
+	}
 }
@@ -2,17 +2,22 @@ package com.oseak.myFestaBackend.service;
 
 import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.oseak.myFestaBackend.common.exception.OsaekException;
 import com.oseak.myFestaBackend.common.util.JwtUtil;
+import com.oseak.myFestaBackend.common.util.TokenHashUtil;
 import com.oseak.myFestaBackend.dto.auth.LoginRequestDto;
 import com.oseak.myFestaBackend.dto.auth.LoginResponseDto;
 import com.oseak.myFestaBackend.dto.auth.RefreshTokenRequestDto;
@@ -36,8 +41,15 @@ public class AuthService {
 	private final JwtUtil jwtUtil;
 	private final MemberRepository memberRepository;
 	private final MemberRefreshTokenRepository memberRefreshTokenRepository;
+	private final LoginAttemptService loginAttemptService;
+
+	@Value("${app.auth.refresh-token-purge.batch-size:1000}")
+	private int refreshTokenPurgeBatchSize;
 
 	public LoginResponseDto login(LoginRequestDto request) {
+		// 백오프 중인 계정은 BCrypt 연산 전에 거절
+		loginAttemptService.checkAllowed(request.getEmail());
+
 		UsernamePasswordAuthenticationToken token =
 			new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword());
 		try {
@@ -51,8 +63,13 @@ public class AuthService {
 				throw new OsaekException(AUTH_LOGIN_METHOD_INVALID);
 			}
 
+			loginAttemptService.recordSuccess(request.getEmail());
 			log.info("Login successful - email: {}", request.getEmail());
 			return createJwtToken(member);
+		} catch (AuthenticationException e) {
+			loginAttemptService.recordFailure(request.getEmail());
+			log.warn("Login failed - email: {}", request.getEmail());
+			throw e;
 		} catch (Exception e) {
 			log.warn("Login failed - email: {}", request.getEmail());
 			throw e;
@@ -68,10 +85,11 @@ public class AuthService {
 
 		Long memberId = jwtUtil.getMemberIdFromToken(refreshToken);
 
-		MemberRefreshToken storedToken = memberRefreshTokenRepository.findByMemberId(memberId)
+		MemberRefreshToken storedToken = memberRefreshTokenRepository
+			.findByTokenHash(TokenHashUtil.sha256Hex(refreshToken))
 			.orElseThrow(() -> new OsaekException(JWT_REFRESH_TOKEN_NOT_FOUND));
 
-		if (!storedToken.getToken().equals(refreshToken)) {
+		if (!storedToken.getMemberId().equals(memberId) || storedToken.isExpired(LocalDateTime.now())) {
 			throw new OsaekException(JWT_REFRESH_TOKEN_INVALID);
 		}
 
@@ -86,16 +104,21 @@ public class AuthService {
 	}
 
 	private void saveOrUpdateRefreshToken(Long memberId, String refreshToken) {
+		String tokenHash = TokenHashUtil.sha256Hex(refreshToken);
+		LocalDateTime expiresAt = LocalDateTime.ofInstant(
+			jwtUtil.getExpirationDateFromToken(refreshToken).toInstant(), ZoneId.systemDefault());
+
 		Optional<MemberRefreshToken> existingToken = memberRefreshTokenRepository.findByMemberId(memberId);
 
 		if (existingToken.isPresent()) {
 			MemberRefreshToken tokenEntity = existingToken.get();
-			tokenEntity.updateToken(refreshToken);
+			tokenEntity.updateToken(tokenHash, expiresAt);
 			memberRefreshTokenRepository.save(tokenEntity);
 		} else {
 			MemberRefreshToken newToken = MemberRefreshToken.builder()
 				.memberId(memberId)
-				.token(refreshToken)
+				.tokenHash(tokenHash)
+				.expiresAt(expiresAt)
 				.build();
 			memberRefreshTokenRepository.save(newToken);
 		}
@@ -127,4 +150,22 @@ public class AuthService {
 
 		memberRefreshTokenRepository.deleteByMemberId(memberId);
 	}
+
+	/**
+	 * 만료된 리프레시 토큰을 배치 단위로 삭제한다.
+	 * 삭제 건수가 배치 크기보다 작아질 때까지 반복하며, 배치마다 별도 트랜잭션으로 실행된다.
+	 *
+	 * @return 삭제된 전체 행 수
+	 */
+	public int purgeExpiredRefreshTokens() {
+		LocalDateTime now = LocalDateTime.now();
+		int total = 0;
+		int deleted;
+		do {
+			deleted = memberRefreshTokenRepository.deleteExpiredTokens(now, refreshTokenPurgeBatchSize);
+			total += deleted;
+		} while (deleted == refreshTokenPurgeBatchSize);
+
+		return total;
+	}
 }
@@ -0,0 +1,119 @@
+package com.oseak.myFestaBackend.service;
+
+import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
+
+import java.net.URLConnection;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.oseak.myFestaBackend.common.exception.OsaekException;
+import com.oseak.myFestaBackend.dto.StoredUpload;
+import com.oseak.myFestaBackend.dto.request.StoryUploadUrlRequestDto;
+import com.oseak.myFestaBackend.dto.response.StoryUploadUrlResponseDto;
+import com.oseak.myFestaBackend.entity.enums.MediaType;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+/**
+ * 저장소(S3) 직접 업로드
+ * - API 서버는 presigned PUT URL만 발급하고 파일 본문은 클라이언트가 S3에 바로 올림
+ * - 업로드 키는 incoming/{memberId}/{uuid}.ext 형식이며, 완료 요청 시 요청 회원의 키인지와 객체 크기만 확인
+ *   (파일 내용 검사와 해시 계산은 워커가 객체를 내려받으면서 수행)
+ * - 완료되지 않은 incoming/ 객체는 버킷 수명 주기 규칙으로 정리
+ */
+@Slf4j
+@Service
+public class DirectUploadService {
+
+	private static final String INCOMING_PREFIX = "incoming/";
+	private static final Pattern UPLOAD_KEY = Pattern.compile("^incoming/(\\d+)/[0-9a-f-]{36}(\\.[^./]+)?$");
+	private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+	private final S3Service s3Service;
+	private final UploadSpool uploadSpool;
+	private final Duration urlExpiry;
+
+	public DirectUploadService(S3Service s3Service, UploadSpool uploadSpool,
+		@Value("${app.media.upload.presign-expiry-minutes:15}") long urlExpiryMinutes) {
+		this.s3Service = s3Service;
+		this.uploadSpool = uploadSpool;
+		this.urlExpiry = Duration.ofMinutes(urlExpiryMinutes);
+	}
+
+	/**
+	 * 선언한 형식/크기를 검사한 뒤 이 회원 전용 키로 presigned PUT URL을 발급한다.
+	 */
+	public StoryUploadUrlResponseDto issueUploadUrl(StoryUploadUrlRequestDto request, Long memberId) {
+		MediaType mediaType = MediaType.detect(request.getContentType(), request.getFileName());
+		long limit = uploadSpool.maxSizeOf(mediaType);
+		if (request.getFileSize() > limit) {
+			log.warn("Upload URL rejected - size {} exceeds {} limit {}", request.getFileSize(), mediaType, limit);
+			throw new OsaekException(FILE_SIZE_EXCEED);
+		}
+
+		String contentType = contentTypeOf(request);
+		String key = INCOMING_PREFIX + memberId + "/" + UUID.randomUUID()
+			+ uploadSpool.extensionOf(request.getFileName());
+		PresignedPutObjectRequest presigned = s3Service.presignUpload(key, contentType, request.getFileSize(),
+			urlExpiry);
+
+		return StoryUploadUrlResponseDto.builder()
+			.uploadKey(key)
+			.uploadUrl(presigned.url().toString())
+			.method("PUT")
+			.headers(Map.of("Content-Type", contentType))
+			.expiresAt(presigned.expiration())
+			.build();
+	}
+
+	/**
+	 * 완료 요청의 업로드 키가 이 회원에게 발급된 키이고 객체가 실제로 올라와 있는지 확인한다.
+	 *
+	 * @return 처리 작업에 넘길 저장소 객체 정보
+	 */
+	public StoredUpload verify(String key, Long memberId) {
+		Matcher matcher = UPLOAD_KEY.matcher(key);
+		if (!matcher.matches() || !matcher.group(1).equals(String.valueOf(memberId))) {
+			log.warn("Upload completion rejected - key {} was not issued to member {}", key, memberId);
+			throw new OsaekException(UPLOAD_KEY_INVALID);
+		}
+
+		HeadObjectResponse head = s3Service.headObject(key)
+			.orElseThrow(() -> new OsaekException(UPLOAD_OBJECT_NOT_FOUND));
+		String filename = key.substring(key.lastIndexOf('/') + 1);
+		MediaType mediaType = MediaType.detect(head.contentType(), filename);
+		long size = head.contentLength();
+		if (size <= 0) {
+			throw new OsaekException(FILE_EMPTY);
+		}
+		if (size > uploadSpool.maxSizeOf(mediaType)) {
+			log.warn("Upload completion rejected - stored object {} size {} exceeds {} limit", key, size, mediaType);
+			s3Service.deleteFile(key);
+			throw new OsaekException(FILE_SIZE_EXCEED);
+		}
+
+		return StoredUpload.builder()
+			.key(key)
+			.mediaType(mediaType)
+			.size(size)
+			.originalFilename(filename)
+			.extension(uploadSpool.extensionOf(filename))
+			.build();
+	}
+
+	private String contentTypeOf(StoryUploadUrlRequestDto request) {
+		if (request.getContentType() != null && !request.getContentType().isBlank()) {
+			return request.getContentType().toLowerCase();
+		}
+		String guessed = URLConnection.guessContentTypeFromName(request.getFileName());
+		return guessed != null ? guessed : DEFAULT_CONTENT_TYPE;
+	}
+}
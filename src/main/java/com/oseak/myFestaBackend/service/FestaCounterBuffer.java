@@ -0,0 +1,265 @@
+package com.oseak.myFestaBackend.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.oseak.myFestaBackend.entity.enums.FestaCounter;
+import com.oseak.myFestaBackend.event.FestaCounterChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 축제 통계 카운터 write-behind 버퍼
+ * - 요청 경로에서는 축제별 증감분만 누적 (DB 접근 없음, 아래 추적 상한에 걸린 경우만 예외)
+ *   누적(merge)과 비우기(remove)가 모두 키 단위 원자 연산이라 비우는 중에 들어온 증감분도 유실되지 않음
+ * - 스케줄러가 주기적으로 누적분을 비우고 카운터별로 500건씩 나눈 UPDATE(CASE 식)로 반영
+ *   묶음마다 자동 커밋되므로 실패하면 커밋되지 않은 묶음만 버퍼로 되돌림 (이미 반영된 묶음을 다시 더하지 않음)
+ * - 통계 행이 아직 없는 축제는 반영 전에 행을 만들고, 축제 자체가 없어 반영하지 못한 증감분은 경고 로그로 남김
+ * - 추적 중인 축제 수가 상한에 도달하면 새 축제는 버퍼링하지 않고 호출 스레드에서 즉시 UPDATE해 메모리 사용량을 제한
+ *   (증감분을 버리지 않기 위한 선택으로, 이 경우에만 요청 경로에서 DB에 접근함)
+ * - 트랜잭션 안의 변경은 FestaCounterChangedEvent로 받아 커밋된 경우에만 누적
+ * - 정합성 점검이 반영 중인 증감분을 실제 집계와 비교해 덮어쓰지 않도록, DB 변경 시작부터 통계 UPDATE 커밋까지
+ *   (변경 중 → 누적 대기 → 반영 중) 끊김 없이 "미반영" 상태로 추적 ({@link #hasUnapplied})
+ * - 애플리케이션 종료 시 남은 누적분을 반영
+ */
+@Slf4j
+@Service
+public class FestaCounterBuffer {
+
+	private static final int FLUSH_CHUNK_SIZE = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int maxTrackedFestas;
+	private final Map<FestaCounter, ConcurrentHashMap<Long, Long>> pending = new EnumMap<>(FestaCounter.class);
+	// DB 변경을 시작했지만 아직 누적하지 않은 축제별 변경 수
+	private final Map<FestaCounter, ConcurrentHashMap<Long, Integer>> changing = new EnumMap<>(FestaCounter.class);
+	// 버퍼에서 꺼냈지만 통계 UPDATE가 아직 커밋되지 않은 축제
+	private final Map<FestaCounter, Set<Long>> flushing = new EnumMap<>(FestaCounter.class);
+
+	public FestaCounterBuffer(JdbcTemplate jdbcTemplate,
+		@Value("${app.festa.counter-buffer.max-tracked-festas:10000}") int maxTrackedFestas) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.maxTrackedFestas = maxTrackedFestas;
+		for (FestaCounter counter : FestaCounter.values()) {
+			pending.put(counter, new ConcurrentHashMap<>());
+			changing.put(counter, new ConcurrentHashMap<>());
+			flushing.put(counter, ConcurrentHashMap.newKeySet());
+		}
+	}
+
+	public void increment(FestaCounter counter, Long festaId) {
+		add(counter, festaId, 1);
+	}
+
+	/**
+	 * 자동 커밋되는 DB 변경(좋아요 행 추가/삭제 등)을 실행하고 그 결과 증감분을 누적한다.
+	 * 변경 전부터 누적이 끝날 때까지 미반영으로 표시해, 행은 보이지만 증감분은 아직 없는 순간을 정합성 점검이 건너뛰게 한다.
+	 *
+	 * @param change DB 변경을 실행하고 증감분을 반환 (변화가 없으면 0)
+	 */
+	public void recordChange(FestaCounter counter, Long festaId, LongSupplier change) {
+		beginChange(counter, festaId);
+		try {
+			long delta = change.getAsLong();
+			if (delta != 0) {
+				add(counter, festaId, delta);
+			}
+		} finally {
+			endChange(counter, festaId);
+		}
+	}
+
+	public void add(FestaCounter counter, Long festaId, long delta) {
+		ConcurrentHashMap<Long, Long> deltas = pending.get(counter);
+		if (!deltas.containsKey(festaId) && deltas.size() >= maxTrackedFestas) {
+			log.debug("{} 카운터 추적 상한({}) 도달, 축제 {} 증감분을 즉시 반영", counter, maxTrackedFestas, festaId);
+			beginChange(counter, festaId);
+			try {
+				applyChunk(counter, List.of(Map.entry(festaId, delta)));
+			} finally {
+				endChange(counter, festaId);
+			}
+			return;
+		}
+		deltas.merge(festaId, delta, FestaCounterBuffer::sumOrRemove);
+	}
+
+	/**
+	 * 트랜잭션 안에서 발행된 증감분은 발행 시점부터 미반영으로 표시하고, 커밋되면 누적한다. (롤백되면 표시만 해제)
+	 * 트랜잭션 밖에서 발행되었으면 바로 누적한다.
+	 */
+	@EventListener
+	public void handleFestaCounterChanged(FestaCounterChangedEvent event) {
+		FestaCounter counter = event.getCounter();
+		Long festaId = event.getFestaId();
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			add(counter, festaId, event.getDelta());
+			return;
+		}
+		beginChange(counter, festaId);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				try {
+					if (status == STATUS_COMMITTED) {
+						add(counter, festaId, event.getDelta());
+					}
+				} finally {
+					endChange(counter, festaId);
+				}
+			}
+		});
+	}
+
+	/**
+	 * 통계 행에 아직 반영되지 않은 증감분이 있는지 확인 (DB 변경 중, 누적 대기, 반영 UPDATE 커밋 전)
+	 * 정합성 점검은 비교한 축제가 여기에 해당하면 저장값이 실제 집계를 따라오는 중이므로 보정하지 않는다.
+	 */
+	public boolean hasUnapplied(FestaCounter counter, Long festaId) {
+		return changing.get(counter).containsKey(festaId)
+			|| pending.get(counter).containsKey(festaId)
+			|| flushing.get(counter).contains(festaId);
+	}
+
+	/**
+	 * 누적된 증감분을 DB에 반영한다. 반영에 실패한 묶음과 그 뒤의 묶음은 버퍼로 되돌려 다음 주기에 재시도한다.
+	 *
+	 * @return 반영된 축제 수
+	 */
+	public synchronized int flush() {
+		int flushed = 0;
+		for (FestaCounter counter : FestaCounter.values()) {
+			List<Map.Entry<Long, Long>> entries = new ArrayList<>(drain(counter).entrySet());
+			for (int from = 0; from < entries.size(); from += FLUSH_CHUNK_SIZE) {
+				List<Map.Entry<Long, Long>> chunk =
+					entries.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, entries.size()));
+				try {
+					applyChunk(counter, chunk);
+					flushed += chunk.size();
+					chunk.forEach(entry -> flushing.get(counter).remove(entry.getKey()));
+				} catch (Exception e) {
+					// 앞의 묶음은 이미 커밋되었으므로 이 묶음부터만 되돌림 (버퍼에 넣은 뒤 반영 중 표시 해제)
+					List<Map.Entry<Long, Long>> unapplied = entries.subList(from, entries.size());
+					log.error("{} 카운터 반영 실패, 다음 주기에 재시도: {}건", counter, unapplied.size(), e);
+					unapplied.forEach(entry -> {
+						pending.get(counter).merge(entry.getKey(), entry.getValue(), FestaCounterBuffer::sumOrRemove);
+						flushing.get(counter).remove(entry.getKey());
+					});
+					break;
+				}
+			}
+		}
+		return flushed;
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		int flushed = flush();
+		log.info("종료 전 축제 카운터 반영 완료: {}건", flushed);
+	}
+
+	/**
+	 * 키마다 원자적으로 꺼내며 비운다. 꺼낸 뒤 들어온 증감분은 새 항목으로 쌓여 다음 주기에 반영된다.
+	 * 비운 축제는 추적 대상에서 빠지므로 한 주기 동안 변화가 없던 축제는 따로 정리할 필요가 없다.
+	 * 꺼내기 전에 반영 중으로 표시해 미반영 상태가 끊기지 않게 한다.
+	 */
+	private Map<Long, Long> drain(FestaCounter counter) {
+		ConcurrentHashMap<Long, Long> deltas = pending.get(counter);
+		Set<Long> inFlight = flushing.get(counter);
+		Map<Long, Long> drained = new HashMap<>();
+		for (Long festaId : deltas.keySet()) {
+			inFlight.add(festaId);
+			Long delta = deltas.remove(festaId);
+			if (delta != null && delta != 0) {
+				drained.put(festaId, delta);
+			} else {
+				inFlight.remove(festaId);
+			}
+		}
+		return drained;
+	}
+
+	private void beginChange(FestaCounter counter, Long festaId) {
+		changing.get(counter).merge(festaId, 1, Integer::sum);
+	}
+
+	private void endChange(FestaCounter counter, Long festaId) {
+		changing.get(counter).computeIfPresent(festaId, (id, count) -> count > 1 ? count - 1 : null);
+	}
+
+	// 합이 0이 되면 항목을 제거 (merge에서 null을 반환하면 제거됨)
+	private static Long sumOrRemove(Long current, Long delta) {
+		long sum = current + delta;
+		return sum == 0 ? null : sum;
+	}
+
+	/**
+	 * 한 묶음의 증감분을 UPDATE 한 번으로 반영한다. UPDATE 한 문장이 자동 커밋되므로 묶음 단위로 전부 반영되거나 전혀 반영되지 않는다.
+	 * (앞서 만드는 통계 행은 0으로 채운 행이라 다시 만들어도 결과가 같음)
+	 */
+	private void applyChunk(FestaCounter counter, List<Map.Entry<Long, Long>> chunk) {
+		StringBuilder caseClause = new StringBuilder();
+		List<Object> caseArgs = new ArrayList<>();
+		List<Object> ids = new ArrayList<>();
+		for (Map.Entry<Long, Long> entry : chunk) {
+			caseClause.append(" WHEN ? THEN ?");
+			caseArgs.add(entry.getKey());
+			caseArgs.add(entry.getValue());
+			ids.add(entry.getKey());
+		}
+		String inClause = placeholders(ids.size());
+		createMissingRows(ids, inClause);
+
+		String column = counter.getColumn();
+		String sql = "UPDATE festa_statistic SET " + column + " = GREATEST(" + column
+			+ " + CASE festa_id" + caseClause + " ELSE 0 END, 0) WHERE festa_id IN (" + inClause + ")";
+
+		List<Object> args = new ArrayList<>(caseArgs);
+		args.addAll(ids);
+		int updated = jdbcTemplate.update(sql, args.toArray());
+		if (updated < chunk.size()) {
+			// 통계 행을 만든 뒤에도 갱신되지 않았으면 축제 자체가 없음 (삭제된 축제 등)
+			log.warn("{} 카운터 반영 중 존재하지 않는 축제 {}건의 증감분을 버림: {}", counter, chunk.size() - updated, ids);
+		}
+	}
+
+	/**
+	 * 통계 행이 없는 축제(아직 리뷰가 없는 축제 등)는 0으로 채운 행을 만든다. (동시에 만든 행은 IGNORE)
+	 * festa 테이블에 있는 축제만 만들므로 존재하지 않는 축제 ID로 행이 생기지 않는다.
+	 */
+	private void createMissingRows(List<Object> ids, String inClause) {
+		Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+			"SELECT festa_id FROM festa_statistic WHERE festa_id IN (" + inClause + ")", Long.class, ids.toArray()));
+		List<Object> missing = ids.stream().filter(id -> !existing.contains(id)).toList();
+		if (missing.isEmpty()) {
+			return;
+		}
+		int created = jdbcTemplate.update("INSERT IGNORE INTO festa_statistic"
+				+ " (festa_id, total_score, review_count, view_count, like_count, story_count,"
+				+ " rating_1, rating_2, rating_3, rating_4, rating_5)"
+				+ " SELECT festa_id, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 FROM festa"
+				+ " WHERE festa_id IN (" + placeholders(missing.size()) + ")",
+			missing.toArray());
+		log.debug("통계 행이 없던 축제 {}건 중 {}건 생성", missing.size(), created);
+	}
+
+	private static String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+}
@@ -0,0 +1,69 @@
+package com.oseak.myFestaBackend.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.oseak.myFestaBackend.dto.FestaRatingDto;
+import com.oseak.myFestaBackend.entity.FestaStatistic;
+import com.oseak.myFestaBackend.repository.FestaStatisticRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 축제 평점 집계 조회
+ * - 평균, 베이지안 보정 평점, 별점 분포는 festa_statistic에 증분 유지된 값으로 O(1) 계산
+ * - 저장값이 review 테이블과 어긋난 행(분포 컬럼 추가 전 데이터 등)은 FestaStatisticReconciler가 구간별로 보정
+ */
+@Service
+@RequiredArgsConstructor
+public class FestaRatingService {
+
+	private final FestaStatisticRepository festaStatisticRepository;
+
+	// 베이지안 평점의 사전 평균(m)과 가중치(C): (C * m + 누적 점수) / (C + 리뷰 수)
+	@Value("${app.festa.rating.prior-mean:3.5}")
+	private double priorMean;
+
+	@Value("${app.festa.rating.prior-weight:5}")
+	private int priorWeight;
+
+	public FestaRatingDto getRating(Long festaId) {
+		return festaStatisticRepository.findById(festaId)
+			.map(this::toRating)
+			.orElseGet(this::emptyRating);
+	}
+
+	public Map<Long, FestaRatingDto> getRatings(Collection<Long> festaIds) {
+		Map<Long, FestaRatingDto> ratings = new HashMap<>();
+		for (FestaStatistic stat : festaStatisticRepository.findAllById(festaIds)) {
+			ratings.put(stat.getFestaId(), toRating(stat));
+		}
+		return ratings;
+	}
+
+	public FestaRatingDto toRating(FestaStatistic stat) {
+		long reviewCount = stat.getReviewCount();
+		double totalScore = stat.getTotalScore();
+		double average = reviewCount == 0 ? 0.0 : totalScore / reviewCount;
+		double bayesian = (priorWeight * priorMean + totalScore) / (priorWeight + reviewCount);
+
+		return FestaRatingDto.builder()
+			.reviewCount(reviewCount)
+			.average(round(average))
+			.bayesianScore(round(bayesian))
+			.histogram(stat.getRatingHistogram())
+			.build();
+	}
+
+	public FestaRatingDto emptyRating() {
+		return toRating(FestaStatistic.builder().build());
+	}
+
+	private double round(double value) {
+		return Math.round(value * 100) / 100.0;
+	}
+}
@@ -0,0 +1,118 @@
+package com.oseak.myFestaBackend.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.oseak.myFestaBackend.common.exception.OsaekException;
+import com.oseak.myFestaBackend.common.exception.code.ServerErrorCode;
+import com.oseak.myFestaBackend.common.util.KeysetCursorUtil;
+import com.oseak.myFestaBackend.dto.FestaRatingDto;
+import com.oseak.myFestaBackend.dto.FestaSummaryDto;
+import com.oseak.myFestaBackend.dto.response.FestaBookmarkListResponseDto;
+import com.oseak.myFestaBackend.entity.Festa;
+import com.oseak.myFestaBackend.entity.FestaBookmark;
+import com.oseak.myFestaBackend.entity.enums.FestaCounter;
+import com.oseak.myFestaBackend.repository.FestaBookmarkRepository;
+import com.oseak.myFestaBackend.repository.FestaLikeRepository;
+import com.oseak.myFestaBackend.repository.FestaRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 축제 좋아요/북마크
+ * - 상태 변경은 멱등: 이미 좋아요한 축제에 다시 요청해도 행/카운터가 변하지 않음
+ * - 실제로 행이 추가/삭제된 경우에만 like_count 증감분을 FestaCounterBuffer에 누적해 일괄 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestaReactionService {
+
+	private static final int MAX_PAGE_SIZE = 50;
+
+	private final FestaRepository festaRepository;
+	private final FestaLikeRepository festaLikeRepository;
+	private final FestaBookmarkRepository festaBookmarkRepository;
+	private final FestaCounterBuffer festaCounterBuffer;
+	private final FestaRatingService festaRatingService;
+
+	public void like(Long memberId, Long festaId) {
+		validateFestaExists(festaId);
+		festaCounterBuffer.recordChange(FestaCounter.LIKE, festaId,
+			() -> festaLikeRepository.insertIfAbsent(memberId, festaId) > 0 ? 1 : 0);
+	}
+
+	public void unlike(Long memberId, Long festaId) {
+		festaCounterBuffer.recordChange(FestaCounter.LIKE, festaId,
+			() -> festaLikeRepository.deleteByMemberIdAndFestaId(memberId, festaId) > 0 ? -1 : 0);
+	}
+
+	public void bookmark(Long memberId, Long festaId) {
+		validateFestaExists(festaId);
+		festaBookmarkRepository.insertIfAbsent(memberId, festaId);
+	}
+
+	public void unbookmark(Long memberId, Long festaId) {
+		festaBookmarkRepository.deleteByMemberIdAndFestaId(memberId, festaId);
+	}
+
+	/**
+	 * 최근 북마크 순으로 size개를 조회한다. cursor가 없으면 첫 페이지.
+	 */
+	public FestaBookmarkListResponseDto getMyBookmarks(Long memberId, String cursor, int size) {
+		size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		Limit limit = Limit.of(size + 1);
+		List<FestaBookmark> bookmarks;
+		if (cursor == null || cursor.isBlank()) {
+			bookmarks = festaBookmarkRepository.findFirstPage(memberId, limit);
+		} else {
+			KeysetCursorUtil.Cursor decoded = KeysetCursorUtil.decode(cursor);
+			bookmarks = festaBookmarkRepository.findPageAfter(memberId, decoded.createdAt(), decoded.id(), limit);
+		}
+
+		boolean hasNext = bookmarks.size() > size;
+		if (hasNext) {
+			bookmarks = bookmarks.subList(0, size);
+		}
+
+		Map<Long, Festa> festas = festaRepository.findAllById(
+				bookmarks.stream().map(bookmark -> bookmark.getId().getFestaId()).toList())
+			.stream()
+			.collect(Collectors.toMap(Festa::getFestaId, Function.identity()));
+
+		Map<Long, FestaRatingDto> ratings = festaRatingService.getRatings(festas.keySet());
+		List<FestaSummaryDto> items = bookmarks.stream()
+			.map(bookmark -> festas.get(bookmark.getId().getFestaId()))
+			.filter(Objects::nonNull)
+			.map(festa -> FestaSummaryDto.from(festa,
+				ratings.getOrDefault(festa.getFestaId(), festaRatingService.emptyRating())))
+			.toList();
+
+		String nextCursor = null;
+		if (hasNext) {
+			FestaBookmark last = bookmarks.get(bookmarks.size() - 1);
+			nextCursor = KeysetCursorUtil.encode(last.getCreatedAt(), last.getId().getFestaId());
+		}
+
+		return FestaBookmarkListResponseDto.builder()
+			.festas(items)
+			.nextCursor(nextCursor)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	private void validateFestaExists(Long festaId) {
+		if (!festaRepository.existsById(festaId)) {
+			throw new OsaekException(ServerErrorCode.FESTA_NOT_FOUND);
+		}
+	}
+}
@@ -32,6 +32,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.oseak.myFestaBackend.common.exception.OsaekException;
 import com.oseak.myFestaBackend.common.exception.code.ServerErrorCode;
+import com.oseak.myFestaBackend.dto.FestaRatingDto;
 import com.oseak.myFestaBackend.dto.FestaSimpleDto;
 import com.oseak.myFestaBackend.dto.FestaSummaryDto;
 import com.oseak.myFestaBackend.dto.request.FestaNearRequestDto;
@@ -41,6 +42,7 @@ import com.oseak.myFestaBackend.dto.search.FestaSearchRequestDto;
 import com.oseak.myFestaBackend.entity.DevPickFesta;
 import com.oseak.myFestaBackend.entity.Festa;
 import com.oseak.myFestaBackend.entity.FestaStatistic;
+import com.oseak.myFestaBackend.entity.enums.FestaCounter;
 import com.oseak.myFestaBackend.entity.enums.FestaStatus;
 import com.oseak.myFestaBackend.repository.DevPickFestaRepository;
 import com.oseak.myFestaBackend.repository.FestaRepository;
@@ -61,6 +63,8 @@ public class FestaService {
 	private final WebClient webClient;
 	private final ObjectMapper objectMapper = new ObjectMapper();
 	private final FestaStatisticRepository festaStatisticRepository;
+	private final FestaCounterBuffer festaCounterBuffer;
+	private final FestaRatingService festaRatingService;
 
 	@Value("${tourapi.url}")
 	private String baseUrl;
@@ -388,8 +392,10 @@ public class FestaService {
 			throw new OsaekException(ServerErrorCode.FESTA_NOT_FOUND);
 		}
 
+		Map<Long, FestaRatingDto> ratings = festaRatingService.getRatings(foundIds);
 		return festas.stream()
-			.map(FestaSummaryDto::from)
+			.map(festa -> FestaSummaryDto.from(festa,
+				ratings.getOrDefault(festa.getFestaId(), festaRatingService.emptyRating())))
 			.toList();
 	}
 
@@ -428,7 +434,9 @@ public class FestaService {
 				return new OsaekException(FESTA_NOT_FOUND);
 			});
 
-		FestaDetailResponseDto responseDto = FestaDetailResponseDto.from(festa);
+		FestaDetailResponseDto responseDto = FestaDetailResponseDto.from(festa,
+			festaRatingService.getRating(festa.getFestaId()));
+		festaCounterBuffer.increment(FestaCounter.VIEW, festa.getFestaId());
 
 		log.debug("축제 상세 정보 조회 완료: id={}, name={}", id, festa.getFestaName());
 		return responseDto;
@@ -0,0 +1,310 @@
+package com.oseak.myFestaBackend.service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.oseak.myFestaBackend.entity.enums.FestaCounter;
+import com.oseak.myFestaBackend.repository.FestaStatisticRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 축제 통계 정합성 점검
+ * - 축제 ID 구간별로 review / festa_like / story 실제 집계와 festa_statistic 저장값을 한 쿼리로 비교 (잠금 없는 일관된 읽기)
+ * - 결과는 행 단위로 흘려 읽으며 값이 다른 행만 모아 배치 UPDATE로 보정
+ * - 보정 UPDATE는 읽었던 저장값이 그대로일 때만 적용 (그 사이 증분 갱신이 있었다면 다음 주기로 미룸)
+ * - write-behind 버퍼에 미반영 증감분이 있는 축제(DB 변경 중, 누적 대기, 반영 UPDATE 커밋 전)는 해당 카운터 비교에서 제외
+ *   행을 읽은 뒤에 확인하므로, 읽을 때 미반영이던 증감분은 여기서 걸러지거나 이미 커밋되어 조건부 UPDATE가 실패함
+ * - 구간 점검은 공용 스레드풀(statisticReconcileExecutor)에서 실행되며, 구간마다 커넥션 2개(스트리밍 조회 + 보정 UPDATE)를
+ *   쓰므로 스레드 수는 커넥션 풀 크기에 맞춰 제한됨 (AsyncConfig)
+ */
+@Slf4j
+@Service
+public class FestaStatisticReconciler {
+
+	private static final double SCORE_TOLERANCE = 1e-6;
+
+	// 집계 기준 스토리: Story.isCounted()와 같은 조건 (삭제되지 않고 공개 상태이며 미디어 처리가 끝난 스토리)
+	private static final String COUNTED_STORY_CONDITION =
+		"is_deleted = FALSE AND is_open = TRUE AND processing_status = 'COMPLETED'";
+
+	private static final String COMPARE_SQL = """
+		SELECT fs.festa_id,
+			fs.review_count, fs.total_score,
+			fs.rating_1, fs.rating_2, fs.rating_3, fs.rating_4, fs.rating_5,
+			fs.like_count, fs.story_count,
+			COALESCE(r.review_count, 0), COALESCE(r.total_score, 0),
+			COALESCE(r.rating_1, 0), COALESCE(r.rating_2, 0), COALESCE(r.rating_3, 0),
+			COALESCE(r.rating_4, 0), COALESCE(r.rating_5, 0),
+			COALESCE(l.like_count, 0), COALESCE(s.story_count, 0)
+		FROM festa_statistic fs
+		LEFT JOIN (
+			SELECT b.festa_id,
+				COUNT(*) AS review_count,
+				COALESCE(SUM(b.score), 0) AS total_score,
+				SUM(b.bucket = 1) AS rating_1,
+				SUM(b.bucket = 2) AS rating_2,
+				SUM(b.bucket = 3) AS rating_3,
+				SUM(b.bucket = 4) AS rating_4,
+				SUM(b.bucket = 5) AS rating_5
+			FROM (
+				SELECT festa_id, score, LEAST(GREATEST(FLOOR(COALESCE(score, 0) + 0.5), 1), 5) AS bucket
+				FROM review
+				WHERE festa_id BETWEEN ? AND ?
+			) b
+			GROUP BY b.festa_id
+		) r ON r.festa_id = fs.festa_id
+		LEFT JOIN (
+			SELECT festa_id, COUNT(*) AS like_count
+			FROM festa_like
+			WHERE festa_id BETWEEN ? AND ?
+			GROUP BY festa_id
+		) l ON l.festa_id = fs.festa_id
+		LEFT JOIN (
+			SELECT festa_id, COUNT(*) AS story_count
+			FROM story
+			WHERE festa_id BETWEEN ? AND ? AND %s
+			GROUP BY festa_id
+		) s ON s.festa_id = fs.festa_id
+		WHERE fs.festa_id BETWEEN ? AND ?
+		""".formatted(COUNTED_STORY_CONDITION);
+
+	private static final String FIX_SQL = """
+		UPDATE festa_statistic
+		SET review_count = ?, total_score = ?,
+			rating_1 = ?, rating_2 = ?, rating_3 = ?, rating_4 = ?, rating_5 = ?,
+			like_count = ?, story_count = ?
+		WHERE festa_id = ?
+			AND review_count = ? AND ABS(total_score - ?) < ?
+			AND rating_1 = ? AND rating_2 = ? AND rating_3 = ? AND rating_4 = ? AND rating_5 = ?
+			AND like_count = ? AND story_count = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final FestaStatisticRepository festaStatisticRepository;
+	private final FestaCounterBuffer festaCounterBuffer;
+	private final Executor executor;
+	private final long rangeSize;
+	private final int batchSize;
+
+	private final Timer runTimer;
+	private final Counter scannedRows;
+	private final Counter fixedRows;
+	private final Counter skippedRows;
+	private final Counter reviewDrift;
+	private final Counter ratingDrift;
+	private final Counter likeDrift;
+	private final Counter storyDrift;
+	private final AtomicLong lastDriftRows = new AtomicLong();
+
+	public FestaStatisticReconciler(JdbcTemplate jdbcTemplate,
+		FestaStatisticRepository festaStatisticRepository,
+		FestaCounterBuffer festaCounterBuffer,
+		MeterRegistry meterRegistry,
+		@Qualifier("statisticReconcileExecutor") Executor executor,
+		@Value("${app.festa.statistic-reconcile.range-size:50000}") long rangeSize,
+		@Value("${app.festa.statistic-reconcile.batch-size:200}") int batchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.festaStatisticRepository = festaStatisticRepository;
+		this.festaCounterBuffer = festaCounterBuffer;
+		this.executor = executor;
+		this.rangeSize = rangeSize;
+		this.batchSize = batchSize;
+
+		this.runTimer = Timer.builder("festa.statistic.reconcile.duration")
+			.description("축제 통계 정합성 점검 1회 소요 시간")
+			.register(meterRegistry);
+		this.scannedRows = Counter.builder("festa.statistic.reconcile.scanned").register(meterRegistry);
+		this.fixedRows = Counter.builder("festa.statistic.reconcile.fixed").register(meterRegistry);
+		this.skippedRows = Counter.builder("festa.statistic.reconcile.skipped")
+			.description("보정 직전에 저장값이 바뀌어 다음 주기로 미룬 행 수")
+			.register(meterRegistry);
+		this.reviewDrift = driftCounter(meterRegistry, "review");
+		this.ratingDrift = driftCounter(meterRegistry, "rating");
+		this.likeDrift = driftCounter(meterRegistry, "like");
+		this.storyDrift = driftCounter(meterRegistry, "story");
+		Gauge.builder("festa.statistic.reconcile.last.drift", lastDriftRows, AtomicLong::get)
+			.description("마지막 점검에서 값이 달랐던 행 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 전체 축제 통계를 구간별로 병렬 점검하고 어긋난 행을 보정한다.
+	 *
+	 * @return 보정된 행 수
+	 */
+	public int reconcile() {
+		Long minFestaId = festaStatisticRepository.findMinFestaId();
+		Long maxFestaId = festaStatisticRepository.findMaxFestaId();
+		if (minFestaId == null || maxFestaId == null) {
+			return 0;
+		}
+
+		// 버퍼에 쌓인 증감분을 먼저 반영해 비교 대상에서 빠지는 축제를 줄임
+		festaCounterBuffer.flush();
+
+		return runTimer.record(() -> {
+			List<CompletableFuture<RangeResult>> ranges = new ArrayList<>();
+			for (long from = minFestaId; from <= maxFestaId; from += rangeSize) {
+				long rangeFrom = from;
+				long rangeTo = Math.min(from + rangeSize - 1, maxFestaId);
+				ranges.add(CompletableFuture.supplyAsync(() -> reconcileRange(rangeFrom, rangeTo), executor));
+			}
+
+			int drifted = 0;
+			int fixed = 0;
+			for (CompletableFuture<RangeResult> range : ranges) {
+				RangeResult result = range.join();
+				drifted += result.drifted();
+				fixed += result.fixed();
+			}
+			lastDriftRows.set(drifted);
+			return fixed;
+		});
+	}
+
+	private RangeResult reconcileRange(long fromFestaId, long toFestaId) {
+		List<Object[]> fixes = new ArrayList<>();
+		int[] drifted = {0};
+		int[] fixed = {0};
+
+		jdbcTemplate.query(connection -> {
+			PreparedStatement ps = connection.prepareStatement(COMPARE_SQL,
+				ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			// MySQL 드라이버에서 결과를 한 번에 메모리에 올리지 않고 행 단위로 받음
+			ps.setFetchSize(Integer.MIN_VALUE);
+			for (int i = 0; i < 4; i++) {
+				ps.setLong(i * 2 + 1, fromFestaId);
+				ps.setLong(i * 2 + 2, toFestaId);
+			}
+			return ps;
+		}, rs -> {
+			scannedRows.increment();
+			Object[] fix = compare(rs);
+			if (fix == null) {
+				return;
+			}
+			drifted[0]++;
+			fixes.add(fix);
+			if (fixes.size() >= batchSize) {
+				fixed[0] += applyFixes(fixes);
+				fixes.clear();
+			}
+		});
+
+		if (!fixes.isEmpty()) {
+			fixed[0] += applyFixes(fixes);
+		}
+		if (drifted[0] > 0) {
+			log.info("축제 통계 보정 [{} ~ {}]: 불일치 {}건, 보정 {}건", fromFestaId, toFestaId, drifted[0], fixed[0]);
+		}
+		return new RangeResult(drifted[0], fixed[0]);
+	}
+
+	/**
+	 * 저장값과 실제 집계값을 비교해 다르면 보정 UPDATE 파라미터를, 같으면 null을 반환한다.
+	 */
+	private Object[] compare(ResultSet rs) throws SQLException {
+		long festaId = rs.getLong(1);
+		long storedReviewCount = rs.getLong(2);
+		double storedTotalScore = rs.getDouble(3);
+		long[] storedRatings = readLongs(rs, 4, 5);
+		long storedLikeCount = rs.getLong(9);
+		long storedStoryCount = rs.getLong(10);
+
+		long actualReviewCount = rs.getLong(11);
+		double actualTotalScore = rs.getDouble(12);
+		long[] actualRatings = readLongs(rs, 13, 5);
+		long actualLikeCount = rs.getLong(18);
+		long actualStoryCount = rs.getLong(19);
+
+		// 미반영 증감분이 있으면 저장값이 아직 따라오지 않은 것이므로 그대로 둠
+		// (행을 읽은 뒤 확인: 읽을 때 미반영이던 증감분이 그사이 반영되었다면 저장값이 바뀌어 보정 UPDATE가 적용되지 않음)
+		if (festaCounterBuffer.hasUnapplied(FestaCounter.LIKE, festaId)) {
+			actualLikeCount = storedLikeCount;
+		}
+		if (festaCounterBuffer.hasUnapplied(FestaCounter.STORY, festaId)) {
+			actualStoryCount = storedStoryCount;
+		}
+
+		boolean reviewDrifted = storedReviewCount != actualReviewCount
+			|| Math.abs(storedTotalScore - actualTotalScore) >= SCORE_TOLERANCE;
+		boolean ratingDrifted = !Arrays.equals(storedRatings, actualRatings);
+		boolean likeDrifted = storedLikeCount != actualLikeCount;
+		boolean storyDrifted = storedStoryCount != actualStoryCount;
+		if (!reviewDrifted && !ratingDrifted && !likeDrifted && !storyDrifted) {
+			return null;
+		}
+
+		if (reviewDrifted) {
+			reviewDrift.increment();
+		}
+		if (ratingDrifted) {
+			ratingDrift.increment();
+		}
+		if (likeDrifted) {
+			likeDrift.increment();
+		}
+		if (storyDrifted) {
+			storyDrift.increment();
+		}
+
+		return new Object[] {
+			actualReviewCount, actualTotalScore,
+			actualRatings[0], actualRatings[1], actualRatings[2], actualRatings[3], actualRatings[4],
+			actualLikeCount, actualStoryCount,
+			festaId,
+			storedReviewCount, storedTotalScore, SCORE_TOLERANCE,
+			storedRatings[0], storedRatings[1], storedRatings[2], storedRatings[3], storedRatings[4],
+			storedLikeCount, storedStoryCount
+		};
+	}
+
+	private int applyFixes(List<Object[]> fixes) {
+		// 배치마다 자동 커밋되어 행 잠금은 UPDATE 한 묶음 동안만 유지됨
+		int[] results = jdbcTemplate.batchUpdate(FIX_SQL, fixes);
+		int fixed = 0;
+		for (int result : results) {
+			if (result > 0) {
+				fixed++;
+			}
+		}
+		fixedRows.increment(fixed);
+		skippedRows.increment(fixes.size() - fixed);
+		return fixed;
+	}
+
+	private long[] readLongs(ResultSet rs, int startColumn, int length) throws SQLException {
+		long[] values = new long[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = rs.getLong(startColumn + i);
+		}
+		return values;
+	}
+
+	private Counter driftCounter(MeterRegistry meterRegistry, String type) {
+		return Counter.builder("festa.statistic.reconcile.drift")
+			.description("저장값과 실제 집계가 달랐던 행 수")
+			.tag("type", type)
+			.register(meterRegistry);
+	}
+
+	private record RangeResult(int drifted, int fixed) {
+	}
+}
@@ -8,21 +8,21 @@ import java.time.ZoneId;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.oseak.myFestaBackend.common.exception.OsaekException;
 import com.oseak.myFestaBackend.common.exception.code.ServerErrorCode;
 import com.oseak.myFestaBackend.dto.auth.LoginResponseDto;
 import com.oseak.myFestaBackend.entity.Member;
-import com.oseak.myFestaBackend.entity.MemberOauthToken;
 import com.oseak.myFestaBackend.entity.enums.Provider;
 import com.oseak.myFestaBackend.generator.NicknameGenerator;
 import com.oseak.myFestaBackend.generator.ProfileGenerator;
@@ -31,6 +31,8 @@ import com.oseak.myFestaBackend.repository.MemberRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
@@ -39,12 +41,17 @@ public class KakaoApiService {
 
 	private final MemberRepository memberRepository;
 	private final MemberOauthTokenRepository oauthTokenRepository;
-	private final WebClient webClient;
-	private final ObjectMapper objectMapper;
+	@Qualifier("kakaoWebClient")
+	private final WebClient kakaoWebClient;
+	private final TransactionTemplate transactionTemplate;
 	private final AuthService authService;
 	private final NicknameGenerator nicknameGenerator;
 	private final ProfileGenerator profileGenerator;
 
+	private static final ParameterizedTypeReference<Map<String, Object>> JSON_MAP_TYPE =
+		new ParameterizedTypeReference<>() {
+		};
+
 	@Value("${kakao.client-id}")
 	private String clientId;
 
@@ -64,214 +71,127 @@ public class KakaoApiService {
 		);
 	}
 
-	public Map<String, Object> getKakaoToken(String code) {
-		String response;
-		try {
-			response = webClient.post()
-				.uri("https://kauth.kakao.com/oauth/token")
-				.header("Content-Type", "application/x-www-form-urlencoded")
-				.body(BodyInserters.fromFormData("grant_type", "authorization_code")
-					.with("client_id", clientId)
-					.with("client_secret", clientSecret)
-					.with("redirect_uri", redirectUri)
-					.with("code", code))
-				.retrieve()
-				.bodyToMono(String.class)
-				.block();
-		} catch (WebClientResponseException e) {
-			log.error("Kakao token request failed. Status: {}, Response: {}",
-				e.getStatusCode(), e.getResponseBodyAsString());
-			throw new OsaekException(ServerErrorCode.TOKEN_REQUEST_FAILED, e);
-		}
+	public Mono<LoginResponseDto> kakaoLoginProcess(String code) {
+		return kakaoLogin(code, redirectUri);
+	}
 
-		try {
-			return objectMapper.readValue(response, new TypeReference<Map<String, Object>>() {
-			});
-		} catch (JsonProcessingException e) {
-			throw new OsaekException(ServerErrorCode.INVALID_JSON);
-		}
+	public Mono<LoginResponseDto> kakaoLoginProcessForFrontend(String code) {
+		return kakaoLogin(code, frontendRedirectUri);
 	}
 
-	public Map<String, Object> getKakaoTokenForFrontend(String code) {
-		String response;
-		try {
-			log.debug("Kakao token request initiated with code: {}", code);
-			response = webClient.post()
-				.uri("https://kauth.kakao.com/oauth/token")
-				.header("Content-Type", "application/x-www-form-urlencoded")
-				.body(BodyInserters.fromFormData("grant_type", "authorization_code")
-					.with("client_id", clientId)
-					.with("client_secret", clientSecret)
-					.with("redirect_uri", frontendRedirectUri)
-					.with("code", code))
-				.retrieve()
-				.bodyToMono(String.class)
-				.block();
-		} catch (WebClientResponseException e) {
-			log.error("Kakao token request failed. Status: {}, Response: {}",
-				e.getStatusCode(), e.getResponseBodyAsString());
-			throw new OsaekException(ServerErrorCode.TOKEN_REQUEST_FAILED, e);
-		}
+	/**
+	 * 카카오 로그인 파이프라인
+	 * 토큰 발급 → 사용자 정보 조회까지는 논블로킹으로 처리하고,
+	 * 회원 조회/가입과 토큰 저장(JPA)만 boundedElastic 스케줄러에서 하나의 트랜잭션으로 수행
+	 */
+	private Mono<LoginResponseDto> kakaoLogin(String code, String tokenRedirectUri) {
+		return requestKakaoToken(code, tokenRedirectUri)
+			.flatMap(tokenMap -> requestUserInfo((String)tokenMap.get("access_token"))
+				.map(userInfo -> extractEmail(userInfo))
+				.publishOn(Schedulers.boundedElastic())
+				.map(email -> transactionTemplate.execute(status -> completeLogin(email, tokenMap))));
+	}
 
-		try {
-			return objectMapper.readValue(response, new TypeReference<Map<String, Object>>() {
+	private Mono<Map<String, Object>> requestKakaoToken(String code, String tokenRedirectUri) {
+		log.debug("Kakao token request initiated with code: {}", code);
+		return kakaoWebClient.post()
+			.uri("https://kauth.kakao.com/oauth/token")
+			.contentType(MediaType.APPLICATION_FORM_URLENCODED)
+			.body(BodyInserters.fromFormData("grant_type", "authorization_code")
+				.with("client_id", clientId)
+				.with("client_secret", clientSecret)
+				.with("redirect_uri", tokenRedirectUri)
+				.with("code", code))
+			.retrieve()
+			.bodyToMono(JSON_MAP_TYPE)
+			.onErrorMap(e -> !(e instanceof OsaekException), e -> {
+				if (e instanceof WebClientResponseException responseException) {
+					log.error("Kakao token request failed. Status: {}, Response: {}",
+						responseException.getStatusCode(), responseException.getResponseBodyAsString());
+				} else {
+					log.error("Kakao token request failed: {}", e.getMessage());
+				}
+				return toOsaekException(e, ServerErrorCode.TOKEN_REQUEST_FAILED);
 			});
-		} catch (JsonProcessingException e) {
-			throw new OsaekException(ServerErrorCode.INVALID_JSON);
-		}
 	}
 
-	public Map<String, Object> getUserInfo(String accessToken) {
-		String response;
-		try {
-			response = webClient.get()
-				.uri("https://kapi.kakao.com/v2/user/me")
-				.header("Authorization", "Bearer " + accessToken)
-				.retrieve()
-				.bodyToMono(String.class)
-				.block();
-		} catch (WebClientResponseException e) {
-			throw new OsaekException(ServerErrorCode.USER_INFO_REQUEST_FAILED);
-		}
-
-		try {
-			return objectMapper.readValue(response, new TypeReference<Map<String, Object>>() {
+	private Mono<Map<String, Object>> requestUserInfo(String accessToken) {
+		return kakaoWebClient.get()
+			.uri("https://kapi.kakao.com/v2/user/me")
+			.headers(headers -> headers.setBearerAuth(accessToken))
+			.retrieve()
+			.bodyToMono(JSON_MAP_TYPE)
+			.onErrorMap(e -> !(e instanceof OsaekException), e -> {
+				log.error("Kakao user info request failed: {}", e.getMessage());
+				return toOsaekException(e, ServerErrorCode.USER_INFO_REQUEST_FAILED);
 			});
-		} catch (JsonProcessingException e) {
-			throw new OsaekException(ServerErrorCode.INVALID_JSON);
-		}
 	}
 
-	//TODO : 결과 확인을 위해 string으로 반환 추후에 void로 변환
-	@Transactional
-	public LoginResponseDto kakaoLoginProcess(String code) {
-		Map<String, Object> tokenMap = getKakaoToken(code);
-		String accessToken = (String)tokenMap.get("access_token");
-		String refreshToken = (String)tokenMap.get("refresh_token");
-
-		long expiresIn = Long.parseLong(tokenMap.get("expires_in").toString());
-		long refreshExpiresIn = Long.parseLong(tokenMap.get("refresh_token_expires_in").toString());
-
-		LocalDateTime accessExpiresAt = LocalDateTime.ofInstant(
-			Instant.now().plusSeconds(expiresIn), ZoneId.systemDefault());
-		LocalDateTime refreshExpiresAt = LocalDateTime.ofInstant(
-			Instant.now().plusSeconds(refreshExpiresIn), ZoneId.systemDefault());
-
-		Map<String, Object> userInfo = getUserInfo(accessToken);
-
-		Map<String, Object> kakaoAccount;
-		Map<String, Object> profile;
-
-		try {
-			kakaoAccount = (Map<String, Object>)userInfo.get("kakao_account");
-			profile = (Map<String, Object>)kakaoAccount.get("profile");
-		} catch (Exception e) {
-			throw new OsaekException(ServerErrorCode.MALFORMED_RESPONSE);
-		}
-
-		String email = (String)kakaoAccount.get("email");
-		String nickname = nicknameGenerator.generate("ko");
-		// String nickname = (String)profile.get("nickname");
-		// profile 추가시 사용
-		// String profileImage = (String)profile.get("profile_image_url");
-		String profileImage = profileGenerator.getRandomProfileImagePath();
-
-		if (email == null || nickname == null) {
-			throw new OsaekException(ServerErrorCode.MISSING_REQUIRED_FIELD);
-		}
-
-		Optional<Member> existingMember = memberRepository.findByEmail(email);
-		if (existingMember.isPresent()) {
-			saveOauthToken(existingMember.get().getId(), accessToken, refreshToken, accessExpiresAt, refreshExpiresAt);
-
-			return kakaoLoginResponseToken(email);
+	private OsaekException toOsaekException(Throwable e, ServerErrorCode requestFailed) {
+		if (e instanceof DecodingException) {
+			return new OsaekException(ServerErrorCode.INVALID_JSON, e);
 		}
-
-		Member newMember = Member.builder()
-			.email(email)
-			.nickname(nickname)
-			.provider(Provider.KAKAO)
-			.profile(profileImage)
-			.build();
-
-		memberRepository.save(newMember);
-		saveOauthToken(newMember.getId(), accessToken, refreshToken, accessExpiresAt, refreshExpiresAt);
-
-		return kakaoLoginResponseToken(email);
+		return new OsaekException(requestFailed, e);
 	}
 
-	@Transactional
-	public LoginResponseDto kakaoLoginProcessForFrontend(String code) {
-		Map<String, Object> tokenMap = getKakaoTokenForFrontend(code);
-		String accessToken = (String)tokenMap.get("access_token");
-		String refreshToken = (String)tokenMap.get("refresh_token");
-
-		long expiresIn = Long.parseLong(tokenMap.get("expires_in").toString());
-		long refreshExpiresIn = Long.parseLong(tokenMap.get("refresh_token_expires_in").toString());
-
-		LocalDateTime accessExpiresAt = LocalDateTime.ofInstant(
-			Instant.now().plusSeconds(expiresIn), ZoneId.systemDefault());
-		LocalDateTime refreshExpiresAt = LocalDateTime.ofInstant(
-			Instant.now().plusSeconds(refreshExpiresIn), ZoneId.systemDefault());
-
-		Map<String, Object> userInfo = getUserInfo(accessToken);
-
+	@SuppressWarnings("unchecked")
+	private String extractEmail(Map<String, Object> userInfo) {
 		Map<String, Object> kakaoAccount;
-		Map<String, Object> profile;
-
 		try {
 			kakaoAccount = (Map<String, Object>)userInfo.get("kakao_account");
-			profile = (Map<String, Object>)kakaoAccount.get("profile");
 		} catch (Exception e) {
 			throw new OsaekException(ServerErrorCode.MALFORMED_RESPONSE);
 		}
+		if (kakaoAccount == null) {
+			throw new OsaekException(ServerErrorCode.MALFORMED_RESPONSE);
+		}
 
 		String email = (String)kakaoAccount.get("email");
-		String nickname = nicknameGenerator.generate("ko");
-		String profileImage = profileGenerator.getRandomProfileImagePath();
-
-		if (email == null || nickname == null) {
+		if (email == null) {
 			throw new OsaekException(ServerErrorCode.MISSING_REQUIRED_FIELD);
 		}
+		return email;
+	}
 
+	/**
+	 * 기존 회원이면 바로 토큰을 갱신하고, 신규 회원일 때만 닉네임/프로필을 생성해 가입시킨다.
+	 */
+	private LoginResponseDto completeLogin(String email, Map<String, Object> tokenMap) {
 		Optional<Member> existingMember = memberRepository.findByEmail(email);
 		if (existingMember.isPresent()) {
-			saveOauthToken(existingMember.get().getId(), accessToken, refreshToken, accessExpiresAt, refreshExpiresAt);
+			Member member = existingMember.get();
+			if (member.isWithdrawn()) {
+				throw new OsaekException(USER_EMAIL_NOT_FOUND);
+			}
+			upsertOauthToken(member.getId(), tokenMap);
 			log.info("Kakao login successful - email: {}", email);
-			return kakaoLoginResponseToken(email);
+			return authService.createJwtToken(member);
 		}
 
+		// profile 추가시 카카오 프로필(profile.nickname, profile.profile_image_url) 사용
 		Member newMember = Member.builder()
 			.email(email)
-			.nickname(nickname)
+			.nickname(nicknameGenerator.generate("ko"))
 			.provider(Provider.KAKAO)
-			.profile(profileImage)
+			.profile(profileGenerator.getRandomProfileImagePath())
 			.build();
 
 		memberRepository.save(newMember);
-		saveOauthToken(newMember.getId(), accessToken, refreshToken, accessExpiresAt, refreshExpiresAt);
+		upsertOauthToken(newMember.getId(), tokenMap);
 		log.info("Kakao signup successful - email: {}", email);
-		return kakaoLoginResponseToken(email);
-	}
-
-	private void saveOauthToken(Long memberId, String accessToken, String refreshToken, LocalDateTime expiresAt,
-		LocalDateTime refreshTokenExpiresAt) {
-		MemberOauthToken oauthToken = MemberOauthToken.builder()
-			.memberId(memberId)
-			.accessToken(accessToken)
-			.refreshToken(refreshToken)
-			.expiresAt(expiresAt)
-			.refreshTokenExpiresAt(refreshTokenExpiresAt)
-			.build();
-
-		oauthTokenRepository.save(oauthToken);
+		return authService.createJwtToken(newMember);
 	}
 
-	public LoginResponseDto kakaoLoginResponseToken(String email) {
+	private void upsertOauthToken(Long memberId, Map<String, Object> tokenMap) {
+		long expiresIn = Long.parseLong(tokenMap.get("expires_in").toString());
+		long refreshExpiresIn = Long.parseLong(tokenMap.get("refresh_token_expires_in").toString());
 
-		Member member = memberRepository.findByEmailAndIsWithdrawnIsFalse(email)
-			.orElseThrow(() -> new OsaekException(USER_EMAIL_NOT_FOUND));
+		Instant now = Instant.now();
+		LocalDateTime accessExpiresAt = LocalDateTime.ofInstant(now.plusSeconds(expiresIn), ZoneId.systemDefault());
+		LocalDateTime refreshExpiresAt = LocalDateTime.ofInstant(now.plusSeconds(refreshExpiresIn),
+			ZoneId.systemDefault());
 
-		return authService.createJwtToken(member);
+		oauthTokenRepository.upsertToken(memberId, (String)tokenMap.get("access_token"),
+			(String)tokenMap.get("refresh_token"), accessExpiresAt, refreshExpiresAt);
 	}
-}
\ No newline at end of file
+}
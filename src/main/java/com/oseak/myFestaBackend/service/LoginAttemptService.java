@@ -0,0 +1,90 @@
+package com.oseak.myFestaBackend.service;
+
+import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.oseak.myFestaBackend.common.exception.OsaekThrottleException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계정(이메일)별 로그인 실패 횟수를 추적해 지수 백오프를 적용하는 서비스
+ * - 허용 횟수를 넘겨 실패하면 base * 2^n 초(최대 max초) 동안 로그인 시도를 BCrypt 연산 전에 거절
+ * - 로그인 성공 시 기록 초기화, 마지막 실패 후 최대 대기 시간이 지나면 기록 만료
+ * - 추적 계정 수가 상한을 넘으면 만료된 기록부터 정리해 메모리 사용량을 제한
+ */
+@Slf4j
+@Service
+public class LoginAttemptService {
+
+	private static final int MAX_BACKOFF_EXPONENT = 20;
+
+	private final ConcurrentHashMap<String, FailureState> failures = new ConcurrentHashMap<>();
+
+	@Value("${app.auth.login-backoff.free-attempts:5}")
+	private int freeAttempts;
+
+	@Value("${app.auth.login-backoff.base-seconds:1}")
+	private long baseDelaySeconds;
+
+	@Value("${app.auth.login-backoff.max-seconds:300}")
+	private long maxDelaySeconds;
+
+	@Value("${app.auth.login-backoff.max-tracked-accounts:100000}")
+	private int maxTrackedAccounts;
+
+	/**
+	 * 잠금 시간이 남아 있으면 남은 시간을 Retry-After로 담아 429 예외를 던진다.
+	 */
+	public void checkAllowed(String email) {
+		FailureState state = failures.get(normalize(email));
+		if (state == null) {
+			return;
+		}
+
+		long remainingMillis = state.lockedUntil() - System.currentTimeMillis();
+		if (remainingMillis > 0) {
+			log.warn("Login blocked by backoff - email: {}, failures: {}", email, state.count());
+			throw new OsaekThrottleException(AUTH_LOGIN_ATTEMPT_EXCEEDED, (remainingMillis + 999) / 1000);
+		}
+	}
+
+	public void recordFailure(String email) {
+		long now = System.currentTimeMillis();
+		failures.compute(normalize(email), (key, previous) -> {
+			int count = isActive(previous, now) ? previous.count() + 1 : 1;
+			long lockedUntil = count > freeAttempts ? now + backoffMillis(count) : 0L;
+			return new FailureState(count, lockedUntil, now);
+		});
+
+		if (failures.size() > maxTrackedAccounts) {
+			failures.entrySet().removeIf(entry -> !isActive(entry.getValue(), now));
+		}
+	}
+
+	public void recordSuccess(String email) {
+		failures.remove(normalize(email));
+	}
+
+	private long backoffMillis(int count) {
+		int exponent = Math.min(count - freeAttempts - 1, MAX_BACKOFF_EXPONENT);
+		long delaySeconds = Math.min(baseDelaySeconds << exponent, maxDelaySeconds);
+		return delaySeconds * 1000;
+	}
+
+	private boolean isActive(FailureState state, long now) {
+		return state != null && state.lastFailureAt() + maxDelaySeconds * 1000 > now;
+	}
+
+	private String normalize(String email) {
+		return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private record FailureState(int count, long lockedUntil, long lastFailureAt) {
+	}
+}
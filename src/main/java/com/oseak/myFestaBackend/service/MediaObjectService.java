@@ -0,0 +1,119 @@
+package com.oseak.myFestaBackend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oseak.myFestaBackend.dto.ImageVariants;
+import com.oseak.myFestaBackend.entity.MediaObject;
+import com.oseak.myFestaBackend.repository.MediaObjectRepository;
+import com.oseak.myFestaBackend.repository.StoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내용 해시 기반 미디어 인덱스(media_object) 관리
+ * - 스토리는 업로드 시점에 content_hash를 기록하므로, 처리 중인 스토리도 공유 객체의 참조로 취급됨
+ *   (직접 업로드는 워커가 원본을 내려받아 해시를 계산한 직후, 재사용 여부를 정하기 전에 기록)
+ * - 객체 키는 media/{hash}/{generation}/... 로 등록마다 다르므로, 해제한 행의 객체를 지우는 동안
+ *   같은 내용이 다시 처리되어 등록되어도 새 객체를 지우거나 CDN에 남은 이전 객체가 새 행의 URL로 보이지 않음
+ * - 인덱스 행은 잠금(FOR UPDATE) 후 읽어 재사용 완료와 삭제가 엇갈리지 않도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaObjectService {
+
+	private final MediaObjectRepository mediaObjectRepository;
+	private final StoryRepository storyRepository;
+
+	public Optional<MediaObject> find(String contentHash) {
+		return mediaObjectRepository.findById(contentHash);
+	}
+
+	/**
+	 * 새로 처리한 미디어를 등록하고 인덱스에 저장된 행을 잠근 채 반환한다.
+	 * 같은 내용을 다른 워커가 먼저 등록했으면 그 행을 반환
+	 * (시도마다 generation prefix가 달라 URL이 다르며, 호출 측은 반환된 행의 URL로 자신의 업로드가 쓰이는지 판단)
+	 */
+	@Transactional
+	public MediaObject register(MediaObject candidate) {
+		mediaObjectRepository.insertIgnore(candidate.getContentHash(), candidate.getMediaType().name(),
+			candidate.getOriginalUrl(), candidate.getThumbnailUrl(), candidate.getThumbnailMediumUrl(),
+			candidate.getThumbnailLargeUrl(), candidate.getHlsUrl(), candidate.getPreviewUrl(),
+			candidate.getImageFormats());
+		return mediaObjectRepository.findByIdForUpdate(candidate.getContentHash())
+			.orElseThrow(() -> new IllegalStateException("Media object not registered: " + candidate.getContentHash()));
+	}
+
+	/**
+	 * 스토리를 내용 해시의 참조로 기록한다. 이후 해제 시 참조 중인 스토리로 집계된다.
+	 */
+	@Transactional
+	public void addReference(Long storyId, String contentHash) {
+		storyRepository.assignContentHash(storyId, contentHash);
+	}
+
+	/**
+	 * 재사용할 인덱스 행을 잠그고 조회한다. 그사이 삭제되었으면 비어 있음
+	 */
+	@Transactional
+	public Optional<MediaObject> lockExisting(String contentHash) {
+		return mediaObjectRepository.findByIdForUpdate(contentHash);
+	}
+
+	/**
+	 * 재사용할 인덱스 행에 빠진 산출물을 채우고, 같은 객체를 쓰는 기존 스토리에도 반영한다.
+	 *
+	 * @throws IllegalStateException 인덱스 행이 그사이 삭제된 경우 (재시도에서 새로 처리)
+	 */
+	@Transactional
+	public MediaObject backfill(String contentHash, String hlsUrl, String previewUrl, List<String> addedFormats,
+		List<String> formatOrder) {
+		MediaObject mediaObject = mediaObjectRepository.findByIdForUpdate(contentHash)
+			.orElseThrow(() -> new IllegalStateException("Media object released: " + contentHash));
+		if (mediaObject.backfill(hlsUrl, previewUrl, addedFormats, formatOrder)) {
+			int stories = storyRepository.backfillSharedMedia(contentHash, mediaObject.getThumbnailUrl(),
+				mediaObject.getHlsUrl(), mediaObject.getPreviewUrl(), mediaObject.getImageFormats());
+			log.info("Backfilled media object {} (hls: {}, preview: {}, formats: {}, stories: {})", contentHash,
+				mediaObject.getHlsUrl() != null, mediaObject.getPreviewUrl() != null, mediaObject.getImageFormats(),
+				stories);
+		}
+		return mediaObject;
+	}
+
+	/**
+	 * 해시를 참조하는 스토리가 더 이상 없으면 인덱스 행을 삭제하고, 삭제해야 할 객체 URL을 반환한다.
+	 * 행을 먼저 지우고 객체는 잠금 밖에서 지우지만, 같은 내용이 다시 처리되면 새 generation 키로 올라가므로 겹치지 않음
+	 *
+	 * @return 삭제할 S3 객체 URL, HLS는 마스터 플레이리스트 URL, 이미지 변환본은 형식별 URL
+	 *         (아직 참조 중이거나 인덱스에 없으면 빈 목록)
+	 */
+	@Transactional
+	public List<String> releaseIfUnreferenced(String contentHash) {
+		Optional<MediaObject> mediaObject = mediaObjectRepository.findByIdForUpdate(contentHash);
+		if (mediaObject.isEmpty() || storyRepository.existsByContentHash(contentHash)) {
+			return List.of();
+		}
+
+		MediaObject released = mediaObject.get();
+		mediaObjectRepository.delete(released);
+
+		List<String> urls = new ArrayList<>();
+		urls.add(released.getOriginalUrl());
+		urls.addAll(released.getThumbnailUrls().values());
+		urls.add(released.getHlsUrl());
+		urls.add(released.getPreviewUrl());
+		// 변환본은 JPEG 키의 확장자만 바꾼 고정 키라 채우기 경쟁에서 기록되지 못한 형식도 남을 수 있으므로 지원 형식 전체를 삭제
+		// (없는 키 삭제는 성공으로 처리됨)
+		urls.addAll(ImageVariants.allUrls(released.getThumbnailUrls(), released.getOriginalUrl(),
+			ImageVariants.SUPPORTED_FORMATS));
+		urls.removeIf(url -> url == null);
+		log.debug("Released media object {} ({} objects)", contentHash, urls.size());
+		return urls;
+	}
+}
@@ -0,0 +1,151 @@
+package com.oseak.myFestaBackend.service;
+
+import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.oseak.myFestaBackend.common.exception.OsaekThrottleException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 미디어 처리(ffmpeg/썸네일 생성) 동시 실행 제한 및 업로드 수락 제어
+ * - CPU를 쓰는 썸네일 생성 단계는 CPU 예산(permit) 수만큼만 동시에 실행하고, S3 업로드 등 나머지 단계는 제한하지 않음
+ * - 이 노드가 작업 큐에서 가져가 처리 중인 작업 수를 worker-concurrency 이하로 유지
+ * - 작업 큐의 대기 + 처리 중 작업 수(전체 노드)가 상한에 도달하면 새 업로드를 429(MEDIA_PROCESSING_BUSY)로 거절해
+ *   요청 스레드에서 트랜스코딩이 실행되는 일 없이 다른 API 응답 속도를 유지
+ * - Retry-After는 최근 처리 시간의 지수 이동 평균과 대기 중인 작업 수로 추정
+ * - 대기 작업 수, 실행 중인 작업 수, permit 대기 시간, 처리 시간, 거절 횟수를 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class MediaProcessingGovernor {
+
+	private static final long MIN_RETRY_AFTER_SECONDS = 1;
+	private static final long MAX_RETRY_AFTER_SECONDS = 60;
+	// 처리 시간 이동 평균 가중치 (최근 값 비중)
+	private static final double EWMA_ALPHA = 0.2;
+
+	private final int permits;
+	private final int maxPending;
+	private final int workerConcurrency;
+	private final Semaphore cpuPermits;
+	private final AtomicLong backlog = new AtomicLong();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private volatile double averageSeconds;
+
+	private final Timer waitTimer;
+	private final Timer processingTimer;
+	private final Counter rejectedCounter;
+
+	public MediaProcessingGovernor(MeterRegistry meterRegistry,
+		@Value("${app.media.processing.max-concurrent:0}") int maxConcurrent,
+		@Value("${app.media.processing.max-pending:20}") int maxPending,
+		@Value("${app.media.processing.worker-concurrency:10}") int workerConcurrency,
+		@Value("${app.media.processing.initial-estimate-seconds:5}") double initialEstimateSeconds) {
+		this.permits = maxConcurrent > 0 ? maxConcurrent : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		this.maxPending = Math.max(this.permits, maxPending);
+		this.workerConcurrency = Math.max(1, workerConcurrency);
+		this.cpuPermits = new Semaphore(this.permits, true);
+		this.averageSeconds = initialEstimateSeconds;
+
+		Gauge.builder("media.processing.pending", backlog, AtomicLong::get)
+			.description("마지막으로 확인한 작업 큐의 대기 + 처리 중 작업 수 (전체 노드)")
+			.register(meterRegistry);
+		Gauge.builder("media.processing.inflight", inFlight, AtomicInteger::get)
+			.description("이 노드가 가져가 처리 중인 작업 수")
+			.register(meterRegistry);
+		Gauge.builder("media.processing.active", cpuPermits, semaphore -> permits - semaphore.availablePermits())
+			.description("실행 중인 썸네일 생성 작업 수")
+			.register(meterRegistry);
+		Gauge.builder("media.processing.queued", cpuPermits, Semaphore::getQueueLength)
+			.description("CPU permit을 기다리는 작업 수")
+			.register(meterRegistry);
+		this.waitTimer = Timer.builder("media.processing.wait")
+			.description("썸네일 생성 시작 전 permit 대기 시간")
+			.register(meterRegistry);
+		this.processingTimer = Timer.builder("media.processing.duration")
+			.description("썸네일 생성 소요 시간")
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("media.processing.rejected")
+			.description("포화로 거절된 업로드 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 작업 큐에 밀린 작업 수를 보고 업로드를 수락할지 결정한다.
+	 *
+	 * @param pendingJobs 작업 큐의 대기 + 처리 중 작업 수
+	 * @throws OsaekThrottleException 밀린 작업이 상한에 도달한 경우
+	 */
+	public void admit(long pendingJobs) {
+		backlog.set(pendingJobs);
+		if (pendingJobs >= maxPending) {
+			rejectedCounter.increment();
+			long retryAfter = estimateRetryAfterSeconds(pendingJobs);
+			log.warn("Story upload rejected - media processing saturated (pending: {}, retryAfter: {}s)",
+				pendingJobs, retryAfter);
+			throw new OsaekThrottleException(MEDIA_PROCESSING_BUSY, retryAfter);
+		}
+	}
+
+	/**
+	 * 썸네일 생성 동시 실행 수(CPU 예산). 작업 안에서 따로 병렬 실행하는 풀도 이 값을 넘지 않도록 맞춘다.
+	 */
+	public int getPermits() {
+		return permits;
+	}
+
+	/**
+	 * 이 노드가 작업 큐에서 더 가져갈 수 있는 작업 수
+	 */
+	public int availableSlots() {
+		return Math.max(0, workerConcurrency - inFlight.get());
+	}
+
+	public void jobStarted() {
+		inFlight.incrementAndGet();
+	}
+
+	public void jobFinished() {
+		inFlight.decrementAndGet();
+	}
+
+	/**
+	 * CPU permit을 얻은 뒤 작업을 실행한다. permit 대기 시간과 실행 시간을 기록한다.
+	 */
+	public <T> T runCpuBound(Callable<T> task) throws Exception {
+		long waitStart = System.nanoTime();
+		cpuPermits.acquire();
+		waitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+		long start = System.nanoTime();
+		try {
+			return task.call();
+		} finally {
+			cpuPermits.release();
+			long elapsed = System.nanoTime() - start;
+			processingTimer.record(elapsed, TimeUnit.NANOSECONDS);
+			averageSeconds = EWMA_ALPHA * (elapsed / 1_000_000_000.0) + (1 - EWMA_ALPHA) * averageSeconds;
+		}
+	}
+
+	/**
+	 * 대기 중인 작업이 permit 수만큼 병렬로 처리된다고 보고 현재 밀린 작업을 소화하는 데 걸릴 시간을 추정
+	 */
+	private long estimateRetryAfterSeconds(long pendingJobs) {
+		long seconds = (long)Math.ceil(averageSeconds * pendingJobs / permits);
+		return Math.max(MIN_RETRY_AFTER_SECONDS, Math.min(MAX_RETRY_AFTER_SECONDS, seconds));
+	}
+}
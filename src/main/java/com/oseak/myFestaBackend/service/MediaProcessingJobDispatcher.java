@@ -0,0 +1,49 @@
+package com.oseak.myFestaBackend.service;
+
+import java.util.List;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import com.oseak.myFestaBackend.entity.MediaProcessingJob;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작업 큐에서 이 노드가 처리할 수 있는 만큼만 작업을 가져와 워커(MediaProcessingTask)에 넘김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaProcessingJobDispatcher {
+
+	private final MediaProcessingJobService mediaProcessingJobService;
+	private final MediaProcessingGovernor mediaProcessingGovernor;
+	private final MediaProcessingTask mediaProcessingTask;
+
+	/**
+	 * @return 가져온 작업 수
+	 */
+	public synchronized int poll() {
+		mediaProcessingJobService.touchNode();
+		int slots = mediaProcessingGovernor.availableSlots();
+		if (slots == 0) {
+			return 0;
+		}
+
+		List<MediaProcessingJob> jobs = mediaProcessingJobService.claim(slots);
+		for (MediaProcessingJob job : jobs) {
+			mediaProcessingGovernor.jobStarted();
+			try {
+				mediaProcessingTask.process(job);
+			} catch (TaskRejectedException e) {
+				// 실행 스레드를 얻지 못하면 backoff 후 다시 시도
+				mediaProcessingGovernor.jobFinished();
+				log.warn("Media processing job {} rejected by executor", job.getJobId());
+				mediaProcessingJobService.fail(job.getJobId(), String.valueOf(e), true);
+			}
+		}
+		return jobs.size();
+	}
+}
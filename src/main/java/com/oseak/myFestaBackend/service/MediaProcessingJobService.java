@@ -0,0 +1,369 @@
+package com.oseak.myFestaBackend.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.oseak.myFestaBackend.dto.SpooledMedia;
+import com.oseak.myFestaBackend.dto.StoredUpload;
+import com.oseak.myFestaBackend.entity.MediaObject;
+import com.oseak.myFestaBackend.entity.MediaProcessingJob;
+import com.oseak.myFestaBackend.entity.enums.ProcessingStatus;
+import com.oseak.myFestaBackend.event.MediaProcessingCompletedEvent;
+import com.oseak.myFestaBackend.repository.MediaProcessingJobRepository;
+import com.oseak.myFestaBackend.repository.MediaWorkerNodeRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 미디어 처리 작업 큐 (media_processing_job 테이블)
+ * - 업로드 트랜잭션 안에서 작업을 등록하므로 재시작/배포 중에도 작업이 사라지지 않음
+ * - 여러 노드의 워커가 SKIP LOCKED로 작업을 나눠 가져가고, 임대(lease) + heartbeat로 처리 중인 노드를 표시
+ * - 작업 완료/최종 실패와 스토리 상태 변경(MediaProcessingCompletedEvent 처리)을 한 트랜잭션에서 수행
+ * - 노드는 작업을 조회할 때마다 활동 시각(media_worker_node)을 남기고, spool을 공유하지 않으면
+ *   orphan-after-leases 동안 보이지 않은 노드의 spool 작업을 DEAD로 전환해 스토리가 처리 중으로 남지 않도록 함
+ *   (같은 노드 ID로 재시작했지만 spool 파일이 사라진 작업은 워커가 가져가 바로 실패 처리)
+ */
+@Slf4j
+@Service
+public class MediaProcessingJobService {
+
+	private final MediaProcessingJobRepository mediaProcessingJobRepository;
+	private final MediaWorkerNodeRepository mediaWorkerNodeRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final MediaObjectService mediaObjectService;
+	private final int maxAttempts;
+	private final Duration leaseDuration;
+	private final Duration retryBaseDelay;
+	private final Duration retryMaxDelay;
+	private final Duration completedRetention;
+	private final Duration orphanAfter;
+	private volatile LocalDateTime lastTouchedAt = LocalDateTime.MIN;
+	private final boolean sharedSpool;
+	private final String nodeId;
+	// 재시작 전후의 같은 노드를 구분하기 위해 프로세스마다 다른 임대 소유자 ID 사용
+	private final String leaseOwner;
+
+	private final Counter claimedCounter;
+	private final Counter completedCounter;
+	private final Counter reusedCounter;
+	private final Counter retriedCounter;
+	private final Counter deadCounter;
+
+	public MediaProcessingJobService(MediaProcessingJobRepository mediaProcessingJobRepository,
+		MediaWorkerNodeRepository mediaWorkerNodeRepository,
+		ApplicationEventPublisher eventPublisher,
+		MediaObjectService mediaObjectService,
+		MeterRegistry meterRegistry,
+		@Value("${app.media.job.max-attempts:5}") int maxAttempts,
+		@Value("${app.media.job.lease-seconds:120}") long leaseSeconds,
+		@Value("${app.media.job.retry-base-seconds:30}") long retryBaseSeconds,
+		@Value("${app.media.job.retry-max-seconds:1800}") long retryMaxSeconds,
+		@Value("${app.media.job.completed-retention-days:7}") long completedRetentionDays,
+		@Value("${app.media.job.orphan-after-leases:5}") long orphanAfterLeases,
+		@Value("${app.media.job.shared-spool:false}") boolean sharedSpool,
+		@Value("${app.media.job.node-id:}") String nodeId) {
+		this.mediaProcessingJobRepository = mediaProcessingJobRepository;
+		this.mediaWorkerNodeRepository = mediaWorkerNodeRepository;
+		this.eventPublisher = eventPublisher;
+		this.mediaObjectService = mediaObjectService;
+		this.maxAttempts = maxAttempts;
+		this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+		this.retryBaseDelay = Duration.ofSeconds(retryBaseSeconds);
+		this.retryMaxDelay = Duration.ofSeconds(retryMaxSeconds);
+		this.completedRetention = Duration.ofDays(completedRetentionDays);
+		this.orphanAfter = this.leaseDuration.multipliedBy(Math.max(1, orphanAfterLeases));
+		this.sharedSpool = sharedSpool;
+		this.nodeId = nodeId.isBlank() ? hostName() : nodeId;
+		this.leaseOwner = this.nodeId + "/" + UUID.randomUUID().toString().substring(0, 8);
+
+		this.claimedCounter = Counter.builder("media.job.claimed").register(meterRegistry);
+		this.completedCounter = Counter.builder("media.job.completed").register(meterRegistry);
+		this.reusedCounter = Counter.builder("media.job.reused")
+			.description("같은 내용의 기존 미디어를 재사용해 처리를 생략한 작업 수")
+			.register(meterRegistry);
+		this.retriedCounter = Counter.builder("media.job.retried").register(meterRegistry);
+		this.deadCounter = Counter.builder("media.job.dead")
+			.description("최대 시도 횟수를 넘겨 재시도를 중단한 작업 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 업로드된 미디어의 처리 작업을 등록한다. 호출 측 트랜잭션(스토리 저장)과 함께 커밋된다.
+	 */
+	@Transactional
+	public MediaProcessingJob enqueue(SpooledMedia media, Long storyId) {
+		return mediaProcessingJobRepository.save(MediaProcessingJob.of(media, storyId, nodeId));
+	}
+
+	/**
+	 * 저장소에 직접 올라온 미디어의 처리 작업을 등록한다. 어느 노드의 워커든 가져가 처리할 수 있다.
+	 */
+	@Transactional
+	public MediaProcessingJob enqueue(StoredUpload upload, Long storyId) {
+		return mediaProcessingJobRepository.save(MediaProcessingJob.of(upload, storyId, nodeId));
+	}
+
+	public boolean isEnqueued(String sourceKey) {
+		return mediaProcessingJobRepository.existsBySourceKey(sourceKey);
+	}
+
+	/**
+	 * 실행할 수 있는 작업을 최대 limit건 가져와 임대를 시작한다.
+	 * 최대 시도 횟수를 채운 채 임대가 만료된 작업(처리 중 노드 종료가 반복되는 작업)은 DEAD로 전환한다.
+	 */
+	@Transactional
+	public List<MediaProcessingJob> claim(int limit) {
+		LocalDateTime now = LocalDateTime.now();
+		List<MediaProcessingJob> claimed = new ArrayList<>();
+		for (MediaProcessingJob job : mediaProcessingJobRepository.findClaimableForUpdate(now, nodeId, sharedSpool,
+			limit)) {
+			if (job.getAttempts() >= maxAttempts) {
+				markDead(job, "Lease expired after " + job.getAttempts() + " attempts");
+				continue;
+			}
+			job.claim(leaseOwner, now.plus(leaseDuration));
+			claimed.add(job);
+		}
+		claimedCounter.increment(claimed.size());
+		return claimed;
+	}
+
+	/**
+	 * 처리 중인 작업의 임대를 연장한다.
+	 *
+	 * @return 임대를 여전히 가지고 있으면 true
+	 */
+	public boolean heartbeat(Long jobId) {
+		LocalDateTime now = LocalDateTime.now();
+		boolean extended = mediaProcessingJobRepository.extendLease(jobId, leaseOwner, now.plus(leaseDuration), now) > 0;
+		if (!extended) {
+			log.warn("Lost lease on media processing job {}", jobId);
+		}
+		return extended;
+	}
+
+	/**
+	 * 직접 업로드 원본을 내려받아 알게 된 내용 해시를 작업과 스토리에 기록한다.
+	 * 재사용 여부를 정하기 전에 스토리를 공유 미디어의 참조로 잡아 두어, 처리 중에 공유 객체가 해제되지 않도록 함
+	 *
+	 * @return 임대를 잃은 경우 false
+	 */
+	@Transactional
+	public boolean recordContentHash(Long jobId, String contentHash) {
+		MediaProcessingJob job = lockLeasedJob(jobId);
+		if (job == null) {
+			return false;
+		}
+		job.assignContentHash(contentHash);
+		mediaObjectService.addReference(job.getStoryId(), contentHash);
+		return true;
+	}
+
+	/**
+	 * 작업을 완료 처리하고 같은 트랜잭션에서 스토리에 처리 결과를 반영한다.
+	 *
+	 * @return 임대를 잃어 다른 워커가 작업을 가져간 경우 false (결과를 반영하지 않음)
+	 */
+	@Transactional
+	public boolean complete(Long jobId, String originalS3Url, Map<String, String> thumbnailUrls, String hlsUrl,
+		String previewUrl, String imageFormats) {
+		MediaProcessingJob job = lockLeasedJob(jobId);
+		if (job == null) {
+			return false;
+		}
+		completeJob(job, null, originalS3Url, thumbnailUrls, hlsUrl, previewUrl, imageFormats);
+		return true;
+	}
+
+	/**
+	 * 새로 처리해 내용 해시 키로 올린 미디어를 인덱스에 등록하고 작업을 완료한다.
+	 * 같은 내용을 다른 워커가 먼저 등록했으면 그 행의 URL을 사용 (키가 같으므로 같은 객체)
+	 */
+	@Transactional
+	public boolean complete(Long jobId, MediaObject processed) {
+		MediaProcessingJob job = lockLeasedJob(jobId);
+		if (job == null) {
+			return false;
+		}
+		MediaObject mediaObject = mediaObjectService.register(processed);
+		completeJob(job, mediaObject.getContentHash(), mediaObject.getOriginalUrl(), mediaObject.getThumbnailUrls(),
+			mediaObject.getHlsUrl(), mediaObject.getPreviewUrl(), mediaObject.getImageFormats());
+		return true;
+	}
+
+	/**
+	 * 같은 내용으로 이미 처리된 미디어를 재사용해 작업을 완료한다.
+	 *
+	 * @throws IllegalStateException 인덱스 행이 그사이 삭제된 경우 (재시도에서 새로 처리)
+	 */
+	@Transactional
+	public boolean completeWithExisting(Long jobId, String contentHash) {
+		MediaProcessingJob job = lockLeasedJob(jobId);
+		if (job == null) {
+			return false;
+		}
+		MediaObject mediaObject = mediaObjectService.lockExisting(contentHash)
+			.orElseThrow(() -> new IllegalStateException("Media object released: " + contentHash));
+		completeJob(job, contentHash, mediaObject.getOriginalUrl(), mediaObject.getThumbnailUrls(),
+			mediaObject.getHlsUrl(), mediaObject.getPreviewUrl(), mediaObject.getImageFormats());
+		reusedCounter.increment();
+		return true;
+	}
+
+	/**
+	 * 재사용할 미디어에 빠져 있던 산출물을 채운 뒤 그 미디어로 작업을 완료한다.
+	 * 다른 워커가 먼저 채운 항목은 그 값을 사용
+	 *
+	 * @return 채운 뒤의 인덱스 행 (임대를 잃었으면 null)
+	 * @throws IllegalStateException 인덱스 행이 그사이 삭제된 경우 (재시도에서 새로 처리)
+	 */
+	@Transactional
+	public MediaObject completeWithBackfill(Long jobId, String contentHash, String hlsUrl, String previewUrl,
+		List<String> addedFormats, List<String> formatOrder) {
+		MediaProcessingJob job = lockLeasedJob(jobId);
+		if (job == null) {
+			return null;
+		}
+		MediaObject mediaObject = mediaObjectService.backfill(contentHash, hlsUrl, previewUrl, addedFormats,
+			formatOrder);
+		completeJob(job, contentHash, mediaObject.getOriginalUrl(), mediaObject.getThumbnailUrls(),
+			mediaObject.getHlsUrl(), mediaObject.getPreviewUrl(), mediaObject.getImageFormats());
+		reusedCounter.increment();
+		return mediaObject;
+	}
+
+	private void completeJob(MediaProcessingJob job, String contentHash, String originalS3Url,
+		Map<String, String> thumbnailUrls, String hlsUrl, String previewUrl, String imageFormats) {
+		job.complete();
+		eventPublisher.publishEvent(new MediaProcessingCompletedEvent(job.getStoryId(), originalS3Url, thumbnailUrls,
+			hlsUrl, previewUrl, imageFormats, contentHash, ProcessingStatus.COMPLETED));
+		completedCounter.increment();
+	}
+
+	/**
+	 * 처리 실패를 기록한다. 재시도할 수 있으면 지수 backoff 후 다시 대기 상태로 두고,
+	 * 재시도할 수 없거나 최대 시도 횟수에 도달하면 DEAD로 전환하고 스토리를 실패 처리한다.
+	 *
+	 * @return 작업이 최종 종료(DEAD)되었으면 true
+	 */
+	@Transactional
+	public boolean fail(Long jobId, String error, boolean retryable) {
+		MediaProcessingJob job = lockLeasedJob(jobId);
+		if (job == null) {
+			return false;
+		}
+		if (retryable && job.getAttempts() < maxAttempts) {
+			LocalDateTime nextRunAt = LocalDateTime.now().plus(backoff(job.getAttempts()));
+			job.retryAt(nextRunAt, error);
+			retriedCounter.increment();
+			log.warn("Media processing job {} failed (attempt {}/{}), retrying at {}: {}",
+				jobId, job.getAttempts(), maxAttempts, nextRunAt, error);
+			return false;
+		}
+		markDead(job, error);
+		return true;
+	}
+
+	/**
+	 * 이 노드가 살아 있음을 기록한다. 처리 슬롯이 없어 작업을 가져가지 못하는 동안에도 호출되며, 임대 시간의 1/3마다 한 번만 기록
+	 */
+	public void touchNode() {
+		LocalDateTime now = LocalDateTime.now();
+		if (now.isBefore(lastTouchedAt.plus(leaseDuration.dividedBy(3)))) {
+			return;
+		}
+		mediaWorkerNodeRepository.touch(nodeId, now);
+		lastTouchedAt = now;
+	}
+
+	/**
+	 * 등록한 노드가 오래 보이지 않아 어느 노드도 처리할 수 없는 spool 작업을 DEAD로 전환하고 스토리를 실패 처리한다.
+	 * spool을 공유하면 어느 노드든 가져가므로 대상이 없다.
+	 *
+	 * @return DEAD로 전환한 작업 수
+	 */
+	@Transactional
+	public int reapOrphanedSpoolJobs(int limit) {
+		if (sharedSpool) {
+			return 0;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		List<MediaProcessingJob> orphaned = mediaProcessingJobRepository.findOrphanedSpoolJobsForUpdate(now,
+			now.minus(orphanAfter), limit);
+		for (MediaProcessingJob job : orphaned) {
+			markDead(job, "Spool node " + job.getSpoolNode() + " not seen for " + orphanAfter.toMinutes() + " minutes");
+		}
+		return orphaned.size();
+	}
+
+	public long countBacklog() {
+		return mediaProcessingJobRepository.countBacklog();
+	}
+
+	public Duration getLeaseDuration() {
+		return leaseDuration;
+	}
+
+	/**
+	 * 보관 기간이 지난 완료 작업을 배치 단위로 삭제한다.
+	 *
+	 * @return 삭제된 행 수
+	 */
+	public int purgeCompletedJobs(int batchSize) {
+		LocalDateTime threshold = LocalDateTime.now().minus(completedRetention);
+		int total = 0;
+		int deleted;
+		do {
+			deleted = mediaProcessingJobRepository.deleteCompletedBefore(threshold, batchSize);
+			total += deleted;
+		} while (deleted == batchSize);
+		return total;
+	}
+
+	private MediaProcessingJob lockLeasedJob(Long jobId) {
+		MediaProcessingJob job = mediaProcessingJobRepository.findByIdForUpdate(jobId).orElse(null);
+		if (job == null || !job.isLeasedBy(leaseOwner)) {
+			log.warn("Media processing job {} is no longer leased by {}", jobId, leaseOwner);
+			return null;
+		}
+		return job;
+	}
+
+	private void markDead(MediaProcessingJob job, String error) {
+		job.markDead(error);
+		eventPublisher.publishEvent(new MediaProcessingCompletedEvent(job.getStoryId(), null, null, null, null, null,
+			null, ProcessingStatus.FAILED));
+		deadCounter.increment();
+		log.error("Media processing job {} for storyId {} moved to dead-letter after {} attempts: {}",
+			job.getJobId(), job.getStoryId(), job.getAttempts(), error);
+	}
+
+	/**
+	 * retryBase * 2^(attempts-1), 최대 retryMax
+	 */
+	private Duration backoff(int attempts) {
+		Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+		return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+	}
+
+	private static String hostName() {
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			return "localhost";
+		}
+	}
+}
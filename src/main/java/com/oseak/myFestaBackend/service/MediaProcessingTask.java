@@ -1,95 +1,534 @@
 package com.oseak.myFestaBackend.service;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import com.oseak.myFestaBackend.common.exception.OsaekException;
+import com.oseak.myFestaBackend.dto.HlsPackage;
+import com.oseak.myFestaBackend.dto.ImageVariants;
+import com.oseak.myFestaBackend.dto.SpooledMedia;
 import com.oseak.myFestaBackend.dto.Thumbnail;
 import com.oseak.myFestaBackend.dto.ThumbnailResult;
-import com.oseak.myFestaBackend.entity.enums.ProcessingStatus;
-import com.oseak.myFestaBackend.event.MediaProcessingCompletedEvent;
-import com.oseak.myFestaBackend.event.MediaProcessingEvent;
+import com.oseak.myFestaBackend.entity.MediaObject;
+import com.oseak.myFestaBackend.entity.MediaProcessingJob;
+import com.oseak.myFestaBackend.entity.enums.MediaType;
+import com.oseak.myFestaBackend.entity.enums.ThumbnailSize;
+import com.oseak.myFestaBackend.generator.HlsPackager;
+import com.oseak.myFestaBackend.generator.ImageVariantEncoder;
 import com.oseak.myFestaBackend.generator.ThumbnailGenerator;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
+/**
+ * 작업 큐에서 가져온 미디어 처리 작업 실행
+ * - 처리 중에는 heartbeat로 임대를 연장 (전용 스레드를 써서 다른 스케줄 작업에 밀리지 않도록 함)
+ * - 성공 시 작업 완료와 스토리 반영을 한 트랜잭션으로 처리하고, 실패 시 재시도/DEAD 여부는 MediaProcessingJobService가 결정
+ * - spool 파일은 작업이 최종 종료(완료/DEAD)될 때만 삭제해 재시도에서 다시 사용
+ * - 같은 내용(SHA-256)이 이미 처리되어 있으면 ffmpeg/S3 업로드 없이 기존 객체를 재사용하고,
+ *   새 내용은 media/{hash}/{generation}/ 아래에 올림 (generation은 시도별 ID, 해시가 없는 이전 작업은 story/ 아래 시도별 키)
+ *   등록마다 키가 다르므로 해제 중인 이전 객체 삭제와 겹쳐도 새로 올린 객체가 지워지지 않고,
+ *   같은 내용을 동시에 처리해 등록 경쟁에서 진 시도는 자기 업로드만 정리
+ * - 직접 업로드는 내려받으며 계산한 해시를 재사용 여부를 정하기 전에 스토리에 기록해 공유 객체의 참조로 잡아 둠
+ * - 저장소에 직접 올라온 원본은 시도마다 spool로 내려받으며 시그니처 검사와 SHA-256 계산을 함께 하고,
+ *   내려받은 파일은 시도가 끝나면 지우며 incoming 객체는 작업이 최종 종료될 때 삭제
+ * - 재사용할 미디어에 HLS/미리보기/변환본이 빠져 있으면(기능 추가 전 등록, 당시 생성 실패) 빠진 것만 만들어 채움.
+ *   HLS/미리보기는 기존 prefix 아래 시도별 디렉토리에, 변환본은 기존 JPEG 키의 확장자만 바꾼 키에 올림
+ * - 비디오는 썸네일과 같은 단계에서 애니메이션 WebP 미리보기를 만들어 {prefix}/preview.webp로 올림
+ * - 비디오는 원본에서 HLS(화질별 렌디션)를 만들어 썸네일과 같은 prefix 아래 hls/로 올림.
+ *   패키징에 실패해도 MP4 원본으로 재생할 수 있으므로 HLS 없이 완료
+ * - 썸네일과 JPEG 원본은 AVIF/WebP 변환본을 같은 키의 확장자만 바꿔 함께 올리고, 만들어진 형식 목록을 스토리에 기록
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class MediaProcessingTask {
-    
+
     private final ThumbnailGenerator thumbnailGenerator;
+    private final HlsPackager hlsPackager;
+    private final ImageVariantEncoder imageVariantEncoder;
     private final S3Service s3Service;
-    private final ApplicationEventPublisher eventPublisher;
-    
-    @EventListener
+    private final UploadSpool uploadSpool;
+    private final MediaProcessingGovernor mediaProcessingGovernor;
+    private final MediaProcessingJobService mediaProcessingJobService;
+    private final MediaObjectService mediaObjectService;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    public MediaProcessingTask(ThumbnailGenerator thumbnailGenerator, HlsPackager hlsPackager,
+            ImageVariantEncoder imageVariantEncoder, S3Service s3Service, UploadSpool uploadSpool,
+            MediaProcessingGovernor mediaProcessingGovernor, MediaProcessingJobService mediaProcessingJobService,
+            MediaObjectService mediaObjectService) {
+        this.thumbnailGenerator = thumbnailGenerator;
+        this.hlsPackager = hlsPackager;
+        this.imageVariantEncoder = imageVariantEncoder;
+        this.s3Service = s3Service;
+        this.uploadSpool = uploadSpool;
+        this.mediaProcessingGovernor = mediaProcessingGovernor;
+        this.mediaProcessingJobService = mediaProcessingJobService;
+        this.mediaObjectService = mediaObjectService;
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MediaJobHeartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    /**
+     * 가져온(임대 중인) 작업을 처리한다. 호출 측에서 {@link MediaProcessingGovernor#jobStarted()}를 호출한 뒤 넘긴다.
+     */
     @Async("mediaProcessingExecutor")
-    public void handleMediaProcessing(MediaProcessingEvent event) {
+    public void process(MediaProcessingJob job) {
+        Long jobId = job.getJobId();
+        SpooledMedia media = null;
         String tempMediaId = UUID.randomUUID().toString();
-        
+        long heartbeatSeconds = Math.max(1, mediaProcessingJobService.getLeaseDuration().toSeconds() / 3);
+        ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleAtFixedRate(
+                () -> heartbeatQuietly(jobId), heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+        ThumbnailResult result = null;
+        HlsPackage hls = null;
+        ImageVariants variants = null;
+        List<String> uploadedUrls = new ArrayList<>();
+        boolean finished = false;
+
         try {
-            log.info("Starting async media processing for storyId: {}, mediaType: {}", 
-                    event.getStoryId(), event.getMediaType());
-            
-            // 1. 썸네일 생성
-            ThumbnailResult result = thumbnailGenerator.generateThumbnails(
-                    event.getFile(), tempMediaId, event.getMediaType());
-            
-            // 2. 결과 검증
-            if (result == null || result.getThumbnails() == null || result.getThumbnails().isEmpty()) {
-                log.error("Failed to generate thumbnails for storyId: {}", event.getStoryId());
-                publishCompletedEvent(event.getStoryId(), null, null, ProcessingStatus.FAILED);
-                return;
+            log.info("Starting media processing job {} (attempt {}) for storyId: {}, mediaType: {}",
+                    jobId, job.getAttempts(), job.getStoryId(), job.getMediaType());
+
+            // 0. 원본 준비 (spool 파일이 없거나 저장소 객체가 없거나 형식이 다르면 재시도해도 성공할 수 없음)
+            if (job.isStorageSourced()) {
+                try {
+                    media = fetchFromStorage(job);
+                } catch (NoSuchKeyException | OsaekException e) {
+                    finished = mediaProcessingJobService.fail(jobId,
+                            "Invalid source object " + job.getSourceKey() + ": " + e.getMessage(), false);
+                    return;
+                }
+            } else {
+                media = job.toSpooledMedia();
+                if (!Files.exists(media.getPath())) {
+                    finished = mediaProcessingJobService.fail(jobId, "Spool file missing: " + media.getPath(), false);
+                    return;
+                }
             }
-            
-            // 3. 첫 번째 썸네일 가져오기
-            Thumbnail firstThumbnail = result.getThumbnails().get(0);
-            if (firstThumbnail == null || firstThumbnail.getLocalPath() == null) {
-                log.error("Invalid thumbnail for storyId: {}", event.getStoryId());
-                publishCompletedEvent(event.getStoryId(), null, null, ProcessingStatus.FAILED);
+            SpooledMedia source = media;
+
+            // 0-1. 같은 내용이 이미 처리되어 있으면 재사용 (직접 업로드는 먼저 스토리를 해시의 참조로 기록)
+            String contentHash = media.getContentHash();
+            if (job.isStorageSourced() && contentHash != null
+                    && !mediaProcessingJobService.recordContentHash(jobId, contentHash)) {
                 return;
             }
-            
-            // 4. 파일 존재 확인
-            File thumbnailFile = new File(firstThumbnail.getLocalPath());
-            if (!thumbnailFile.exists() || thumbnailFile.length() == 0) {
-                log.error("Thumbnail file invalid for storyId: {}", event.getStoryId());
-                publishCompletedEvent(event.getStoryId(), null, null, ProcessingStatus.FAILED);
+            Optional<MediaObject> existing = contentHash == null
+                    ? Optional.empty() : mediaObjectService.find(contentHash);
+            if (existing.isPresent()) {
+                MissingArtifacts missing = missingArtifacts(job, existing.get());
+                if (missing.isEmpty()) {
+                    finished = mediaProcessingJobService.completeWithExisting(jobId, contentHash);
+                    log.info("Reused media object {} for storyId: {}", contentHash, job.getStoryId());
+                } else {
+                    finished = backfill(job, source, existing.get(), missing, tempMediaId, uploadedUrls);
+                }
                 return;
             }
-            
-            // 5. 원본 파일 S3 업로드 (있는 경우)
-            String originalS3Url = null;
+
+            // 1. 썸네일 생성 (CPU 예산 안에서만 동시 실행)
+            result = mediaProcessingGovernor.runCpuBound(
+                    () -> thumbnailGenerator.generateThumbnails(source, tempMediaId));
+
+            // 1-1. 비디오 HLS 패키징 (압축본이 아닌 원본에서 인코딩, CPU 예산 안에서 실행)
+            if (job.getMediaType() == MediaType.VIDEO && hlsPackager.isEnabled()) {
+                hls = packageHlsQuietly(source, tempMediaId);
+            }
+
+            // 2. 결과 검증 후 업로드 대상 정리 (키: {prefix}/original.ext, {prefix}/thumbnail_{size}.jpg)
+            if (result == null || result.getThumbnails() == null || result.getThumbnails().isEmpty()) {
+                throw new IllegalStateException("No thumbnails generated");
+            }
+            String keyPrefix = contentHash != null
+                    ? "media/" + contentHash + "/" + tempMediaId + "/"
+                    : "story/" + job.getStoryId() + "/" + tempMediaId + "/";
+            Map<String, File> files = new LinkedHashMap<>();
+            Map<String, String> thumbnailKeys = new LinkedHashMap<>();
+            for (Thumbnail thumbnail : result.getThumbnails()) {
+                File thumbnailFile = thumbnail == null || thumbnail.getLocalPath() == null
+                        ? null : new File(thumbnail.getLocalPath());
+                if (thumbnailFile == null || !thumbnailFile.exists() || thumbnailFile.length() == 0) {
+                    throw new IllegalStateException("Invalid thumbnail file");
+                }
+                String key = keyPrefix + "thumbnail_" + thumbnail.getSize() + "." + thumbnail.getFormat();
+                files.put(key, thumbnailFile);
+                thumbnailKeys.put(thumbnail.getSize(), key);
+            }
+
+            // 비디오 애니메이션 미리보기 ({prefix}/preview.webp)
+            String previewKey = null;
+            Thumbnail preview = result.getAnimatedPreview();
+            if (preview != null && preview.getLocalPath() != null) {
+                previewKey = keyPrefix + preview.getSize() + "." + preview.getFormat();
+                files.put(previewKey, new File(preview.getLocalPath()));
+            }
+
+            // 압축본이 있으면 압축본이 원본
+            String originalKey = null;
             String originalLocalPath = result.getOriginalLocalPath();
             if (originalLocalPath != null && !originalLocalPath.trim().isEmpty()) {
                 File originalFile = new File(originalLocalPath);
                 if (originalFile.exists() && originalFile.length() > 0) {
-                    originalS3Url = s3Service.uploadFile(originalFile);
-                    originalFile.delete();
-                    log.info("Uploaded original file to S3 for storyId: {}", event.getStoryId());
+                    originalKey = keyPrefix + "original" + extensionOf(originalFile.getName());
+                    files.put(originalKey, originalFile);
+                }
+            }
+
+            // 썸네일(+ JPEG 원본)의 AVIF/WebP 변환본 ({prefix}/thumbnail_{size}.avif, {prefix}/original.avif)
+            String imageFormats = null;
+            if (imageVariantEncoder.isEnabled()) {
+                List<Thumbnail> thumbnails = result.getThumbnails();
+                Path variantSource = originalKey != null && job.getMediaType() == MediaType.IMAGE
+                        && ImageVariants.isOriginalConvertible(originalKey) ? Paths.get(originalLocalPath) : null;
+                variants = mediaProcessingGovernor.runCpuBound(
+                        () -> imageVariantEncoder.encode(thumbnails, variantSource, tempMediaId));
+                for (String format : variants.getFormats()) {
+                    variants.getThumbnails().get(format).forEach((size, path) ->
+                            files.put(ImageVariants.withFormat(thumbnailKeys.get(size), format), path.toFile()));
+                    Path originalVariant = variants.getOriginals().get(format);
+                    if (originalVariant != null) {
+                        files.put(ImageVariants.withFormat(originalKey, format), originalVariant.toFile());
+                    }
                 }
+                imageFormats = ImageVariants.joinFormats(variants.getFormats());
             }
-            
-            // 6. 썸네일 S3 업로드
-            String thumbnailS3Url = s3Service.uploadFile(thumbnailFile);
-            thumbnailFile.delete();
-            log.info("Uploaded thumbnail to S3 for storyId: {}", event.getStoryId());
-            
-            // 7. 완료 이벤트 발행
-            publishCompletedEvent(event.getStoryId(), originalS3Url, thumbnailS3Url, ProcessingStatus.COMPLETED);
-            
+
+            // HLS는 플레이리스트가 상대 경로로 참조하므로 디렉토리 구조를 그대로 유지 ({prefix}/hls/...)
+            String hlsKey = null;
+            if (hls != null) {
+                for (Path file : hls.getFiles()) {
+                    files.put(keyPrefix + "hls/" + hls.relativeKey(file), file.toFile());
+                }
+                hlsKey = keyPrefix + "hls/" + hls.relativeKey(hls.getMasterPlaylist());
+            }
+
+            // 3. 원본 + 모든 썸네일(+ HLS, 변환본)을 동시에 S3 업로드 (큰 원본은 멀티파트 병렬 전송)
+            Map<String, String> urls = contentHash != null
+                    ? s3Service.uploadImmutableFiles(files)
+                    : s3Service.uploadFiles(files);
+            // 이번 시도의 generation 키는 등록되기 전까지 다른 스토리와 공유되지 않으므로 실패하면 정리
+            uploadedUrls.addAll(urls.values());
+
+            String originalS3Url = originalKey == null ? null : urls.get(originalKey);
+            Map<String, String> thumbnailUrls = new LinkedHashMap<>();
+            thumbnailKeys.forEach((size, key) -> thumbnailUrls.put(size, urls.get(key)));
+            String hlsUrl = hlsKey == null ? null : urls.get(hlsKey);
+            String previewUrl = previewKey == null ? null : urls.get(previewKey);
+
+            // 4. 작업 완료 + 스토리 반영 (임대를 잃었으면 다른 워커의 결과를 따르고 이번 업로드는 정리)
+            boolean completed = contentHash != null
+                    ? mediaProcessingJobService.complete(jobId,
+                            MediaObject.of(contentHash, job.getMediaType(), originalS3Url, thumbnailUrls, hlsUrl,
+                            previewUrl, imageFormats))
+                    : mediaProcessingJobService.complete(jobId, originalS3Url, thumbnailUrls, hlsUrl, previewUrl,
+                            imageFormats);
+            if (completed) {
+                finished = true;
+                // 완료가 커밋되면 스토리/media_object가 이번 업로드를 가리킬 수 있으므로 이후 예외로 지우지 않음
+                List<String> attemptUrls = new ArrayList<>(uploadedUrls);
+                uploadedUrls.clear();
+                log.info("Completed media processing job {} for storyId: {}", jobId, job.getStoryId());
+                afterCompleted(contentHash, thumbnailUrls, attemptUrls, variants);
+            } else {
+                deleteUploadedQuietly(uploadedUrls);
+            }
+
         } catch (Exception e) {
-            log.error("Error processing media for storyId: {}", event.getStoryId(), e);
-            publishCompletedEvent(event.getStoryId(), null, null, ProcessingStatus.FAILED);
+            log.error("Error processing media job {} for storyId: {}", jobId, job.getStoryId(), e);
+            deleteUploadedQuietly(uploadedUrls);
+            finished = failQuietly(jobId, e);
+        } finally {
+            heartbeat.cancel(false);
+            deleteLocalArtifacts(result, media);
+            hlsPackager.delete(hls);
+            if (variants != null) {
+                variants.files().forEach(path -> path.toFile().delete());
+            }
+            // 내려받은 파일은 다음 시도에서 다시 내려받으므로 항상 삭제
+            if (finished || job.isStorageSourced()) {
+                uploadSpool.release(media);
+            }
+            if (finished && job.isStorageSourced()) {
+                deleteSourceQuietly(job.getSourceKey());
+            }
+            mediaProcessingGovernor.jobFinished();
         }
     }
-    
-    private void publishCompletedEvent(Long storyId, String originalS3Url, String thumbnailS3Url, ProcessingStatus status) {
-        eventPublisher.publishEvent(new MediaProcessingCompletedEvent(storyId, originalS3Url, thumbnailS3Url, status));
+
+    /**
+     * 재사용할 행에 없는 산출물 (현재 설정으로 만들었어야 하는 것만)
+     */
+    private MissingArtifacts missingArtifacts(MediaProcessingJob job, MediaObject mediaObject) {
+        boolean video = job.getMediaType() == MediaType.VIDEO;
+        List<String> existingFormats = ImageVariants.parseFormats(mediaObject.getImageFormats());
+        return new MissingArtifacts(
+                video && hlsPackager.isEnabled() && mediaObject.getHlsUrl() == null,
+                video && thumbnailGenerator.isPreviewEnabled() && mediaObject.getPreviewUrl() == null,
+                imageVariantEncoder.getFormats().stream().filter(format -> !existingFormats.contains(format)).toList());
+    }
+
+    /**
+     * 재사용할 미디어에 빠진 산출물만 만들어 올리고 인덱스 행과 스토리에 채운 뒤 작업을 완료한다.
+     * - HLS/미리보기는 기존 prefix 아래 시도별 디렉토리에 올리므로, 채우기 경쟁에서 지거나 실패하면 자기 업로드만 정리
+     * - 변환본 키는 JPEG 키로 정해져 다른 워커와 겹칠 수 있으므로 지우지 않음 (행이 해제될 때 지원 형식 전체를 삭제)
+     * - 이번에도 아무것도 만들지 못하면 있는 그대로 재사용
+     *
+     * @param uploadedUrls 실패 시 호출 측에서 정리할 업로드 (시도별 키만 추가)
+     * @return 작업이 최종 종료되었으면 true
+     */
+    private boolean backfill(MediaProcessingJob job, SpooledMedia source, MediaObject existing,
+            MissingArtifacts missing, String tempMediaId, List<String> uploadedUrls) throws Exception {
+        Long jobId = job.getJobId();
+        String contentHash = existing.getContentHash();
+        String thumbnailKey = s3Service.extractKey(existing.getThumbnailUrl());
+        String basePrefix = thumbnailKey == null ? null : thumbnailKey.substring(0, thumbnailKey.lastIndexOf('/') + 1);
+        if (basePrefix == null) {
+            log.warn("Cannot backfill media object {} outside storage, reusing as is", contentHash);
+            return mediaProcessingJobService.completeWithExisting(jobId, contentHash);
+        }
+        String generationPrefix = basePrefix + tempMediaId + "/";
+
+        ThumbnailResult result = null;
+        HlsPackage hls = null;
+        ImageVariants variants = null;
+        try {
+            Map<String, File> generationFiles = new LinkedHashMap<>();
+            Map<String, File> variantFiles = new LinkedHashMap<>();
+
+            // 미리보기와 변환본은 썸네일 생성 단계의 결과물에서 만듦
+            if (missing.preview() || !missing.imageFormats().isEmpty()) {
+                result = mediaProcessingGovernor.runCpuBound(
+                        () -> thumbnailGenerator.generateThumbnails(source, tempMediaId));
+            }
+
+            String previewKey = null;
+            Thumbnail preview = result == null ? null : result.getAnimatedPreview();
+            if (missing.preview() && preview != null && preview.getLocalPath() != null) {
+                previewKey = generationPrefix + preview.getSize() + "." + preview.getFormat();
+                generationFiles.put(previewKey, new File(preview.getLocalPath()));
+            }
+
+            List<String> addedFormats = List.of();
+            if (!missing.imageFormats().isEmpty() && result != null && result.getThumbnails() != null) {
+                Map<String, String> jpegKeys = new LinkedHashMap<>();
+                existing.getThumbnailUrls().forEach((size, url) -> jpegKeys.put(size, s3Service.extractKey(url)));
+                String originalKey = s3Service.extractKey(existing.getOriginalUrl());
+                String originalLocalPath = result.getOriginalLocalPath();
+                Path variantSource = originalKey != null && originalLocalPath != null
+                        && job.getMediaType() == MediaType.IMAGE && ImageVariants.isOriginalConvertible(originalKey)
+                        ? Paths.get(originalLocalPath) : null;
+                List<Thumbnail> thumbnails = result.getThumbnails();
+                variants = mediaProcessingGovernor.runCpuBound(() -> imageVariantEncoder.encode(
+                        thumbnails, variantSource, tempMediaId, missing.imageFormats()));
+                for (String format : variants.getFormats()) {
+                    variants.getThumbnails().get(format).forEach((size, path) -> {
+                        String key = ImageVariants.withFormat(jpegKeys.get(size), format);
+                        if (key != null) {
+                            variantFiles.put(key, path.toFile());
+                        }
+                    });
+                    Path originalVariant = variants.getOriginals().get(format);
+                    if (originalVariant != null) {
+                        variantFiles.put(ImageVariants.withFormat(originalKey, format), originalVariant.toFile());
+                    }
+                }
+                addedFormats = variants.getFormats();
+            }
+
+            String hlsKey = null;
+            if (missing.hls()) {
+                hls = packageHlsQuietly(source, tempMediaId);
+                if (hls != null) {
+                    for (Path file : hls.getFiles()) {
+                        generationFiles.put(generationPrefix + "hls/" + hls.relativeKey(file), file.toFile());
+                    }
+                    hlsKey = generationPrefix + "hls/" + hls.relativeKey(hls.getMasterPlaylist());
+                }
+            }
+
+            if (generationFiles.isEmpty() && variantFiles.isEmpty()) {
+                log.warn("Could not create missing artifacts {} for media object {}, reusing as is", missing, contentHash);
+                return mediaProcessingJobService.completeWithExisting(jobId, contentHash);
+            }
+
+            Map<String, String> urls = s3Service.uploadImmutableFiles(generationFiles);
+            uploadedUrls.addAll(urls.values());
+            Map<String, String> variantUrls = s3Service.uploadSharedImmutableFiles(variantFiles);
+            String hlsUrl = hlsKey == null ? null : urls.get(hlsKey);
+            String previewUrl = previewKey == null ? null : urls.get(previewKey);
+
+            MediaObject backfilled;
+            try {
+                backfilled = mediaProcessingJobService.completeWithBackfill(jobId, contentHash, hlsUrl, previewUrl,
+                        addedFormats, imageVariantEncoder.getFormats());
+            } catch (IllegalStateException e) {
+                // 행이 그사이 해제되었으면 그 prefix는 다시 쓰이지 않으므로 변환본도 정리
+                deleteUploadedQuietly(new ArrayList<>(variantUrls.values()));
+                throw e;
+            }
+            if (backfilled == null) {
+                deleteUploadedQuietly(uploadedUrls);
+                return false;
+            }
+            // 커밋 이후에는 호출 측의 실패 처리가 이번 업로드를 지우지 않도록 넘겨받은 목록을 비움
+            List<String> unused = new ArrayList<>(uploadedUrls);
+            uploadedUrls.clear();
+            log.info("Backfilled media object {} for storyId: {} (hls: {}, preview: {}, formats: {})",
+                    contentHash, job.getStoryId(), hlsUrl != null, previewUrl != null, addedFormats);
+            // 다른 워커가 먼저 채웠으면 이번 HLS/미리보기는 사용되지 않음
+            unused.removeIf(url -> hlsUrl != null && hlsUrl.equals(backfilled.getHlsUrl())
+                    && url.startsWith(hlsUrl.substring(0, hlsUrl.lastIndexOf('/') + 1)));
+            unused.removeIf(url -> url.equals(backfilled.getPreviewUrl()));
+            deleteUploadedQuietly(unused);
+            return true;
+        } finally {
+            hlsPackager.delete(hls);
+            if (variants != null) {
+                variants.files().forEach(path -> path.toFile().delete());
+            }
+            deleteLocalArtifacts(result, source);
+        }
+    }
+
+    /**
+     * 완료 커밋 후 정리: 같은 내용을 다른 워커가 먼저 등록했으면 이번 업로드를 지우고, 아니면 변환본 크기를 집계한다.
+     * 작업은 이미 완료되었으므로 여기서의 실패는 로그만 남긴다. (지우지 못한 객체는 어떤 행도 가리키지 않는 고아 객체로 남음)
+     */
+    private void afterCompleted(String contentHash, Map<String, String> thumbnailUrls, List<String> attemptUrls,
+            ImageVariants variants) {
+        try {
+            if (contentHash != null && !isRegistered(contentHash, thumbnailUrls)) {
+                // 같은 내용을 다른 워커가 먼저 등록해 그 객체를 쓰게 되었으므로 이번 업로드는 사용되지 않음
+                deleteUploadedQuietly(attemptUrls);
+            } else {
+                // 실제로 제공되는 변환본만 집계 (임대를 잃었거나 업로드/완료에 실패한 시도는 제외)
+                imageVariantEncoder.recordBytes(variants);
+            }
+        } catch (Exception e) {
+            log.warn("Post-completion cleanup failed for media object {}", contentHash, e);
+        }
+    }
+
+    private boolean isRegistered(String contentHash, Map<String, String> thumbnailUrls) {
+        String thumbnailUrl = thumbnailUrls.get(ThumbnailSize.SMALL.getKey());
+        return mediaObjectService.find(contentHash)
+                .map(mediaObject -> mediaObject.getThumbnailUrl().equals(thumbnailUrl))
+                .orElse(true);
+    }
+
+    private HlsPackage packageHlsQuietly(SpooledMedia source, String tempMediaId) {
+        try {
+            return mediaProcessingGovernor.runCpuBound(() -> hlsPackager.packageVideo(source.getPath(), tempMediaId));
+        } catch (Exception e) {
+            log.warn("HLS packaging failed for {}, completing without HLS", tempMediaId, e);
+            return null;
+        }
+    }
+
+    private SpooledMedia fetchFromStorage(MediaProcessingJob job) throws IOException {
+        String filename = job.getOriginalFilename() != null ? job.getOriginalFilename() : job.getSourceKey();
+        try (ResponseInputStream<GetObjectResponse> in = s3Service.openObject(job.getSourceKey())) {
+            return uploadSpool.spool(in, filename, job.getMediaType());
+        }
+    }
+
+    private void deleteSourceQuietly(String sourceKey) {
+        try {
+            s3Service.deleteFile(sourceKey);
+        } catch (Exception e) {
+            // 남은 incoming 객체는 버킷 수명 주기 규칙으로 정리됨
+            log.warn("Failed to delete stored upload {}", sourceKey, e);
+        }
+    }
+
+    private void heartbeatQuietly(Long jobId) {
+        try {
+            mediaProcessingJobService.heartbeat(jobId);
+        } catch (Exception e) {
+            log.warn("Failed to extend lease on media processing job {}", jobId, e);
+        }
+    }
+
+    private boolean failQuietly(Long jobId, Exception cause) {
+        try {
+            return mediaProcessingJobService.fail(jobId, String.valueOf(cause), true);
+        } catch (Exception e) {
+            // 실패 기록도 못 하면 임대 만료 후 다른 워커가 다시 가져감
+            log.error("Failed to record failure of media processing job {}", jobId, e);
+            return false;
+        }
+    }
+
+    private void deleteUploadedQuietly(List<String> uploadedUrls) {
+        if (uploadedUrls.isEmpty()) {
+            return;
+        }
+        try {
+            s3Service.deleteFiles(uploadedUrls.stream().map(s3Service::extractKey).toList());
+        } catch (Exception e) {
+            log.warn("Failed to delete orphaned uploads {}", uploadedUrls, e);
+        }
+    }
+
+    private String extensionOf(String filename) {
+        int lastDot = filename.lastIndexOf('.');
+        return lastDot < 0 ? "" : filename.substring(lastDot).toLowerCase();
+    }
+
+    // 시도마다 새로 만드는 로컬 파일(썸네일, 압축 원본) 정리. spool 파일은 제외
+    private void deleteLocalArtifacts(ThumbnailResult result, SpooledMedia media) {
+        if (result == null || media == null) {
+            return;
+        }
+        if (result.getThumbnails() != null) {
+            for (Thumbnail thumbnail : result.getThumbnails()) {
+                if (thumbnail != null && thumbnail.getLocalPath() != null) {
+                    new File(thumbnail.getLocalPath()).delete();
+                }
+            }
+        }
+        if (result.getAnimatedPreview() != null && result.getAnimatedPreview().getLocalPath() != null) {
+            new File(result.getAnimatedPreview().getLocalPath()).delete();
+        }
+        String originalLocalPath = result.getOriginalLocalPath();
+        if (originalLocalPath != null && !originalLocalPath.equals(media.getPath().toString())) {
+            new File(originalLocalPath).delete();
+        }
+    }
+
+    private record MissingArtifacts(boolean hls, boolean preview, List<String> imageFormats) {
+
+        boolean isEmpty() {
+            return !hls && !preview && imageFormats.isEmpty();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+package com.oseak.myFestaBackend.service;
+
+import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.oseak.myFestaBackend.common.exception.OsaekException;
+import com.oseak.myFestaBackend.dto.member.MemberProfile;
+import com.oseak.myFestaBackend.entity.Member;
+import com.oseak.myFestaBackend.event.MemberProfileChangedEvent;
+import com.oseak.myFestaBackend.repository.MemberRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작성자 표시용 회원 정보(memberId → 닉네임, 프로필, 탈퇴 여부) 인메모리 캐시
+ * - 항목마다 TTL을 두고, 최대 크기를 넘으면 만료 항목 → 만료가 임박한 항목 순으로 정리
+ * - getAll은 캐시에 없는 ID만 모아 한 번의 쿼리로 조회
+ * - MemberProfileChangedEvent 수신 시(커밋 이후) 해당 회원 항목 무효화
+ */
+@Slf4j
+@Service
+public class MemberProfileDirectory {
+
+	private final MemberRepository memberRepository;
+	private final long ttlMillis;
+	private final int maxSize;
+
+	private final ConcurrentHashMap<Long, CachedProfile> cache = new ConcurrentHashMap<>();
+
+	public MemberProfileDirectory(MemberRepository memberRepository,
+		@Value("${app.member.profile-cache.ttl-seconds:300}") long ttlSeconds,
+		@Value("${app.member.profile-cache.max-size:10000}") int maxSize) {
+		this.memberRepository = memberRepository;
+		this.ttlMillis = ttlSeconds * 1000;
+		this.maxSize = maxSize;
+	}
+
+	public MemberProfile get(Long memberId) {
+		MemberProfile profile = getAll(List.of(memberId)).get(memberId);
+		if (profile == null) {
+			throw new OsaekException(USER_ID_NOT_FOUND);
+		}
+		return profile;
+	}
+
+	/**
+	 * 존재하지 않는 회원 ID는 결과 Map에서 빠진다.
+	 */
+	public Map<Long, MemberProfile> getAll(Collection<Long> memberIds) {
+		long now = System.currentTimeMillis();
+		Map<Long, MemberProfile> result = new HashMap<>();
+		Set<Long> misses = new HashSet<>();
+
+		for (Long memberId : memberIds) {
+			if (memberId == null) {
+				continue;
+			}
+			CachedProfile cached = cache.get(memberId);
+			if (cached != null && cached.expiresAt() > now) {
+				result.put(memberId, cached.profile());
+			} else {
+				misses.add(memberId);
+			}
+		}
+
+		if (!misses.isEmpty()) {
+			for (Member member : memberRepository.findAllById(misses)) {
+				MemberProfile profile = MemberProfile.from(member);
+				result.put(member.getId(), profile);
+				cache.put(member.getId(), new CachedProfile(profile, now + ttlMillis));
+			}
+			evictIfFull(now);
+		}
+
+		return result;
+	}
+
+	public void invalidate(Long memberId) {
+		cache.remove(memberId);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleMemberProfileChanged(MemberProfileChangedEvent event) {
+		invalidate(event.getMemberId());
+	}
+
+	private void evictIfFull(long now) {
+		if (cache.size() <= maxSize) {
+			return;
+		}
+
+		cache.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+
+		// 만료 항목을 정리해도 넘치면 최대 크기의 90%까지 줄여 매번 정렬하지 않도록 함
+		int overflow = cache.size() - maxSize * 9 / 10;
+		if (overflow > 0) {
+			cache.entrySet().stream()
+				.sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt()))
+				.limit(overflow)
+				.map(Map.Entry::getKey)
+				.toList()
+				.forEach(cache::remove);
+			log.debug("Member profile cache trimmed by {} entries", overflow);
+		}
+	}
+
+	private record CachedProfile(MemberProfile profile, long expiresAt) {
+	}
+}
@@ -2,6 +2,7 @@ package com.oseak.myFestaBackend.service;
 
 import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +16,7 @@ import com.oseak.myFestaBackend.dto.member.WithdrawMemberResponseDto;
 import com.oseak.myFestaBackend.entity.Member;
 import com.oseak.myFestaBackend.entity.MemberPassword;
 import com.oseak.myFestaBackend.entity.enums.Provider;
+import com.oseak.myFestaBackend.event.MemberProfileChangedEvent;
 import com.oseak.myFestaBackend.generator.NicknameGenerator;
 import com.oseak.myFestaBackend.generator.ProfileGenerator;
 import com.oseak.myFestaBackend.repository.MemberPasswordRepository;
@@ -33,6 +35,8 @@ public class MemberService {
 	private final PasswordEncoder passwordEncoder;
 	private final NicknameGenerator nicknameGenerator;
 	private final ProfileGenerator profileGenerator;
+	private final MemberProfileDirectory memberProfileDirectory;
+	private final ApplicationEventPublisher eventPublisher;
 
 	// 로컬 회원가입 로직
 	@Transactional
@@ -43,6 +47,9 @@ public class MemberService {
 			throw new OsaekException(USER_EMAIL_DUPLICATE);
 		}
 
+		// 해시 풀이 포화 상태면 회원 행을 만들기 전에 429로 거절
+		String encodedPassword = passwordEncoder.encode(request.getPassword());
+
 		String nickname = nicknameGenerator.generate("ko");
 		String profile = profileGenerator.getRandomProfileImagePath();
 
@@ -54,8 +61,6 @@ public class MemberService {
 			.build();
 		Member savedMember = memberRepository.save(member);
 
-		String encodedPassword = passwordEncoder.encode(request.getPassword());
-
 		MemberPassword memberPassword = MemberPassword.builder()
 			.memberId(savedMember.getId())
 			.password(encodedPassword)
@@ -75,6 +80,7 @@ public class MemberService {
 
 		member.withdraw();
 		memberRepository.save(member);
+		eventPublisher.publishEvent(new MemberProfileChangedEvent(memberId));
 
 		MemberPassword memberPassword = memberPasswordRepository.findByMemberId(memberId)
 			.orElseThrow(() -> new OsaekException(PASSWORD_NOT_FOUND));
@@ -110,8 +116,6 @@ public class MemberService {
 	}
 
 	public String getNicknameByMemberId(Long memberId) {
-		Member member = memberRepository.findById(memberId)
-			.orElseThrow(() -> new OsaekException(USER_ID_NOT_FOUND));
-		return member.getNickname();
+		return memberProfileDirectory.get(memberId).getNickname();
 	}
 }
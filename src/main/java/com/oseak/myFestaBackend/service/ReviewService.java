@@ -1,5 +1,10 @@
 package com.oseak.myFestaBackend.service;
 
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -10,9 +15,9 @@ import com.oseak.myFestaBackend.common.exception.OsaekException;
 import com.oseak.myFestaBackend.common.exception.code.ClientErrorCode;
 import com.oseak.myFestaBackend.common.exception.code.ServerErrorCode;
 import com.oseak.myFestaBackend.common.util.SecurityUtil;
+import com.oseak.myFestaBackend.dto.member.MemberProfile;
 import com.oseak.myFestaBackend.dto.response.ReviewListResponseDto;
 import com.oseak.myFestaBackend.dto.response.ReviewResponseDto;
-import com.oseak.myFestaBackend.entity.Festa;
 import com.oseak.myFestaBackend.entity.FestaStatistic;
 import com.oseak.myFestaBackend.entity.Member;
 import com.oseak.myFestaBackend.entity.Review;
@@ -29,45 +34,39 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReviewService {
 
+	// MySQL 오류 코드: PK/UNIQUE 중복, 참조 대상 없음(FK)
+	private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+	private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+
 	private final ReviewRepository reviewRepository;
 	private final FestaRepository festaRepository;
 	private final FestaStatisticRepository festaStatisticRepository;
 	private final MemberRepository memberRepository;
+	private final MemberProfileDirectory memberProfileDirectory;
 
+	/**
+	 * 리뷰 작성: 사전 존재 확인 없이 INSERT 한 번과 통계 UPDATE 한 번으로 처리
+	 * 중복/축제 없음은 DB 제약 조건 위반으로, 회원 없음은 삽입된 행 수로 판단한다.
+	 */
 	@Transactional
 	public void createReview(Long memberId, Long festaId, double score, String imageUrl, String description) {
-		ReviewId id = new ReviewId(memberId, festaId);
-		if (reviewRepository.existsById(id)) {
-			throw new OsaekException(ServerErrorCode.DUPLICATE_REQUEST);
+		int inserted;
+		try {
+			inserted = reviewRepository.insertReview(memberId, festaId, score, imageUrl, description);
+		} catch (DataIntegrityViolationException e) {
+			throw toReviewWriteException(e);
 		}
-
-		Festa festa = festaRepository.findById(festaId)
-			.orElseThrow(() -> new OsaekException(ServerErrorCode.FESTA_NOT_FOUND));
-
-		// Member 존재 여부만 확인
-		if (!memberRepository.existsById(memberId)) {
+		if (inserted == 0) {
 			throw new OsaekException(ClientErrorCode.USER_ID_NOT_FOUND);
 		}
 
-		Review review = Review.builder()
-			.memberId(memberId)
-			.festa(festa)
-			.score(score)
-			.imageUrl(imageUrl)
-			.description(description)
-			.build();
-		reviewRepository.save(review);
-
-		FestaStatistic stat = festaStatisticRepository.findById(festaId)
-			.orElseThrow(() -> new OsaekException(ServerErrorCode.FESTA_NOT_FOUND));
-		stat.addReview(score);
-		festaStatisticRepository.save(stat);
+		festaStatisticRepository.incrementReview(festaId, score, FestaStatistic.ratingBucket(score));
 	}
 
 	@Transactional
 	public void updateReview(Long memberId, Long festaId, Double newScore, String imageUrl, String description) {
 		ReviewId id = new ReviewId(memberId, festaId);
-		Review review = reviewRepository.findById(id)
+		Review review = reviewRepository.findByIdForUpdate(id)
 			.orElseThrow(() -> new OsaekException(ServerErrorCode.REVIEW_NOT_FOUND));
 
 		double oldScore = review.getScore() == null ? 0.0 : review.getScore();
@@ -76,26 +75,30 @@ public class ReviewService {
 		review.update(nextScore, imageUrl, description);
 		reviewRepository.save(review);
 
-		FestaStatistic stat = festaStatisticRepository.findById(festaId)
-			.orElseThrow(() -> new OsaekException(ServerErrorCode.FESTA_NOT_FOUND));
-		stat.updateReview(nextScore, oldScore);
-		festaStatisticRepository.save(stat);
+		double delta = nextScore - oldScore;
+		if (Math.abs(delta) < 1e-9) {
+			return;
+		}
+		int updated = festaStatisticRepository.applyReviewScoreChange(festaId, delta,
+			FestaStatistic.ratingBucket(oldScore), FestaStatistic.ratingBucket(nextScore));
+		if (updated == 0) {
+			throw new OsaekException(ServerErrorCode.FESTA_NOT_FOUND);
+		}
 	}
 
 	@Transactional
 	public void deleteReview(Long memberId, Long festaId) {
 		ReviewId id = new ReviewId(memberId, festaId);
-		Review review = reviewRepository.findById(id)
+		Review review = reviewRepository.findByIdForUpdate(id)
 			.orElseThrow(() -> new OsaekException(ServerErrorCode.REVIEW_NOT_FOUND));
 
 		double score = review.getScore() == null ? 0.0 : review.getScore();
 
 		reviewRepository.delete(review);
 
-		FestaStatistic stat = festaStatisticRepository.findById(festaId)
-			.orElseThrow(() -> new OsaekException(ServerErrorCode.FESTA_NOT_FOUND));
-		stat.removeReview(score);
-		festaStatisticRepository.save(stat);
+		if (festaStatisticRepository.decrementReview(festaId, score, FestaStatistic.ratingBucket(score)) == 0) {
+			throw new OsaekException(ServerErrorCode.FESTA_NOT_FOUND);
+		}
 	}
 
 	@Transactional
@@ -115,13 +118,18 @@ public class ReviewService {
 		size = Math.max(1, Math.min(size, 50));
 
 		Pageable pageable = PageRequest.of(page, size, sortSpec);
-		Page<ReviewResponseDto> reviewPage = reviewRepository.findByFesta_FestaId(festaId, pageable)
-			.map(review -> {
-				Long memberId = review.getId().getMemberId();
-				Member member = memberRepository.findById(memberId)
-					.orElseThrow(() -> new OsaekException(ClientErrorCode.USER_ID_NOT_FOUND));
-				return ReviewResponseDto.of(review, member.getNickname(), member.getProfile());
-			});
+		Page<Review> reviews = reviewRepository.findByFesta_FestaId(festaId, pageable);
+
+		// 페이지에 포함된 작성자를 한 번에 조회한 뒤 메모리에서 매핑
+		Map<Long, MemberProfile> authors = memberProfileDirectory.getAll(
+			reviews.getContent().stream().map(review -> review.getId().getMemberId()).collect(Collectors.toSet()));
+		Page<ReviewResponseDto> reviewPage = reviews.map(review -> {
+			MemberProfile author = authors.get(review.getId().getMemberId());
+			if (author == null) {
+				throw new OsaekException(ClientErrorCode.USER_ID_NOT_FOUND);
+			}
+			return ReviewResponseDto.of(review, author.getNickname(), author.getProfile());
+		});
 
 		return ReviewListResponseDto.from(reviewPage);
 	}
@@ -154,4 +162,17 @@ public class ReviewService {
 
 		return ReviewListResponseDto.from(reviewPage);
 	}
+
+	private OsaekException toReviewWriteException(DataIntegrityViolationException e) {
+		Throwable cause = e;
+		while (cause != null && !(cause instanceof SQLException)) {
+			cause = cause.getCause();
+		}
+		int errorCode = cause == null ? 0 : ((SQLException)cause).getErrorCode();
+		return switch (errorCode) {
+			case MYSQL_DUPLICATE_ENTRY -> new OsaekException(ServerErrorCode.DUPLICATE_REQUEST);
+			case MYSQL_NO_REFERENCED_ROW -> new OsaekException(ServerErrorCode.FESTA_NOT_FOUND);
+			default -> throw e;
+		};
+	}
 }
@@ -3,7 +3,19 @@ package com.oseak.myFestaBackend.service;
 import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
 
 import java.io.File;
+import java.net.URLConnection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -13,23 +25,54 @@ import com.oseak.myFestaBackend.common.exception.OsaekException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
+	private static final int MAX_DELETE_KEYS = 1000;
+	// 내용 해시 키는 내용이 바뀌지 않으므로 1년 캐시
+	private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+	// URLConnection이 모르는 미디어 형식 (HLS 플레이리스트/세그먼트, WebP, AVIF)
+	private static final Map<String, String> CONTENT_TYPES = Map.of(
+		"m3u8", "application/vnd.apple.mpegurl",
+		"ts", "video/mp2t",
+		"webp", "image/webp",
+		"avif", "image/avif");
+
 	private final S3Client s3Client;
+	private final S3AsyncClient s3AsyncClient;
+	private final S3Presigner s3Presigner;
 	private final Region awsRegion;
 
 	@Value("${aws.s3.bucket}")
 	private String bucket;
 
+	@Value("${aws.s3.endpoint:}")
+	private String endpoint;
+
 	public String uploadFile(MultipartFile file) {
 		String fileName = generateFileName(file.getOriginalFilename(), "tmp");
 
@@ -66,6 +109,111 @@ public class S3Service {
 		}
 	}
 
+	/**
+	 * 여러 파일을 지정한 키로 동시에 업로드 (큰 파일은 비동기 클라이언트가 멀티파트로 파트를 병렬 전송)
+	 * 하나라도 실패하면 이미 올라간 객체를 지우고 예외를 던지므로 호출 측은 부분 업로드를 신경 쓰지 않아도 됨
+	 *
+	 * @param files 객체 키 → 로컬 파일
+	 * @return 객체 키 → URL (입력 순서 유지)
+	 */
+	public Map<String, String> uploadFiles(Map<String, File> files) {
+		return uploadFiles(files, null, true);
+	}
+
+	/**
+	 * 내용이 바뀌지 않는 키(media/{hash}/{generation}/...)로 동시에 업로드하고 장기 캐시 헤더를 붙인다.
+	 * generation 키는 이번 시도만 쓰므로 하나라도 실패하면 uploadFiles와 같이 이미 올라간 객체를 지운다.
+	 */
+	public Map<String, String> uploadImmutableFiles(Map<String, File> files) {
+		return uploadFiles(files, IMMUTABLE_CACHE_CONTROL, true);
+	}
+
+	/**
+	 * 여러 워커가 같은 키에 같은 내용을 쓸 수 있는 공유 키(기존 객체 옆의 변환본 등)로 업로드한다.
+	 * 다른 워커가 올린 객체일 수 있으므로 실패해도 이미 올라간 객체는 지우지 않음 (같은 내용이 다시 올라오면 덮어씀)
+	 */
+	public Map<String, String> uploadSharedImmutableFiles(Map<String, File> files) {
+		return uploadFiles(files, IMMUTABLE_CACHE_CONTROL, false);
+	}
+
+	private Map<String, String> uploadFiles(Map<String, File> files, String cacheControl, boolean deleteOnFailure) {
+		Map<String, CompletableFuture<?>> uploads = new LinkedHashMap<>();
+		files.forEach((key, file) -> {
+			PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.contentType(contentTypeOf(file.getName()))
+				.cacheControl(cacheControl)
+				.build();
+			uploads.put(key, s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromFile(file)));
+		});
+
+		Map<String, String> urls = new LinkedHashMap<>();
+		Throwable failure = null;
+		for (Map.Entry<String, CompletableFuture<?>> upload : uploads.entrySet()) {
+			try {
+				upload.getValue().join();
+				urls.put(upload.getKey(), getFileUrl(upload.getKey()));
+			} catch (CompletionException e) {
+				log.error("S3 업로드 실패: key={}, {}", upload.getKey(), e.getCause().getMessage());
+				failure = e.getCause();
+			}
+		}
+
+		if (failure != null) {
+			if (deleteOnFailure) {
+				deleteFiles(urls.keySet());
+			}
+			throw new OsaekException(S3_UPLOAD_FAIL, failure);
+		}
+		return urls;
+	}
+
+	/**
+	 * 클라이언트가 지정한 키로 직접 업로드할 수 있는 PUT URL을 만든다.
+	 * Content-Type과 Content-Length가 서명에 포함되므로 선언한 형식/크기와 다른 파일은 S3가 거절함
+	 */
+	public PresignedPutObjectRequest presignUpload(String key, String contentType, long contentLength,
+		Duration expiry) {
+		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+			.bucket(bucket)
+			.key(key)
+			.contentType(contentType)
+			.contentLength(contentLength)
+			.build();
+
+		return s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+			.signatureDuration(expiry)
+			.putObjectRequest(putObjectRequest)
+			.build());
+	}
+
+	/**
+	 * 객체 메타데이터 조회 (없으면 empty)
+	 */
+	public Optional<HeadObjectResponse> headObject(String key) {
+		try {
+			return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.build()));
+		} catch (NoSuchKeyException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 객체 내용을 스트림으로 연다. 호출 측에서 닫아야 함
+	 *
+	 * @throws NoSuchKeyException 객체가 없는 경우
+	 */
+	public ResponseInputStream<GetObjectResponse> openObject(String key) {
+		return s3Client.getObject(GetObjectRequest.builder()
+			.bucket(bucket)
+			.key(key)
+			.build());
+	}
+
 	public void deleteFile(String fileName) {
 		try {
 			DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
@@ -80,6 +228,69 @@ public class S3Service {
 		}
 	}
 
+	/**
+	 * 여러 객체를 DeleteObjects 요청으로 한 번에 삭제 (요청당 최대 1000개)
+	 * 존재하지 않는 키는 성공으로 처리되므로 같은 키로 다시 호출해도 안전함
+	 *
+	 * @return 삭제에 실패한 키 목록
+	 */
+	public Set<String> deleteFiles(Collection<String> keys) {
+		List<String> keyList = new ArrayList<>(keys);
+		Set<String> failed = new HashSet<>();
+		for (int from = 0; from < keyList.size(); from += MAX_DELETE_KEYS) {
+			List<String> chunk = keyList.subList(from, Math.min(from + MAX_DELETE_KEYS, keyList.size()));
+			try {
+				DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+					.bucket(bucket)
+					.delete(Delete.builder()
+						.objects(chunk.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+						.quiet(true)
+						.build())
+					.build();
+
+				DeleteObjectsResponse response = s3Client.deleteObjects(request);
+				response.errors().forEach(error -> {
+					log.warn("S3 파일 삭제 실패: key={}, code={}", error.key(), error.code());
+					failed.add(error.key());
+				});
+			} catch (Exception e) {
+				log.error("S3 일괄 삭제 실패: {}건, {}", chunk.size(), e.getMessage());
+				failed.addAll(chunk);
+			}
+		}
+		return failed;
+	}
+
+	/**
+	 * prefix 아래 모든 객체 키 (HLS 패키지처럼 여러 객체를 한 디렉토리로 묶어 올린 경우 삭제 대상 조회용)
+	 */
+	public List<String> listKeys(String prefix) {
+		ListObjectsV2Request request = ListObjectsV2Request.builder()
+			.bucket(bucket)
+			.prefix(prefix)
+			.build();
+		return s3Client.listObjectsV2Paginator(request).contents().stream()
+			.map(object -> object.key())
+			.toList();
+	}
+
+	/**
+	 * uploadFile이 반환한 URL에서 객체 키를 추출 (이 버킷의 URL이 아니면 null)
+	 */
+	public String extractKey(String fileUrl) {
+		String prefix = getFileUrl("");
+		if (fileUrl == null || !fileUrl.startsWith(prefix) || fileUrl.length() == prefix.length()) {
+			return null;
+		}
+		return fileUrl.substring(prefix.length());
+	}
+
+	private String contentTypeOf(String filename) {
+		int lastDot = filename.lastIndexOf('.');
+		String known = lastDot < 0 ? null : CONTENT_TYPES.get(filename.substring(lastDot + 1).toLowerCase());
+		return known != null ? known : URLConnection.guessContentTypeFromName(filename);
+	}
+
 	private String generateFileName(String originalFilename, String folder) {
 		String extension = originalFilename.substring(originalFilename.lastIndexOf('.'));
 		String uuid = UUID.randomUUID().toString();
@@ -87,6 +298,10 @@ public class S3Service {
 	}
 
 	private String getFileUrl(String fileName) {
+		if (!endpoint.isBlank()) {
+			// S3 호환 저장소는 경로 방식 URL 사용
+			return String.format("%s/%s/%s", endpoint.replaceAll("/+$", ""), bucket, fileName);
+		}
 		return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, awsRegion.id(),
 			fileName);
 	}
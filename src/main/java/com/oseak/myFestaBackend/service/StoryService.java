@@ -3,33 +3,53 @@ package com.oseak.myFestaBackend.service;
 import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.oseak.myFestaBackend.common.exception.OsaekException;
+import com.oseak.myFestaBackend.common.util.KeysetCursorUtil;
 import com.oseak.myFestaBackend.common.util.ShortCodeUtil;
+import com.oseak.myFestaBackend.dto.ImageVariants;
+import com.oseak.myFestaBackend.dto.SpooledMedia;
+import com.oseak.myFestaBackend.dto.StoredUpload;
 import com.oseak.myFestaBackend.dto.Thumbnail;
 import com.oseak.myFestaBackend.dto.ThumbnailResult;
 import com.oseak.myFestaBackend.dto.request.StorySearchRequestDto;
+import com.oseak.myFestaBackend.dto.request.StoryUploadCompleteRequestDto;
 import com.oseak.myFestaBackend.dto.request.StoryUploadRequestDto;
+import com.oseak.myFestaBackend.dto.request.StoryUploadUrlRequestDto;
 import com.oseak.myFestaBackend.dto.request.StoryVisibilityUpdateRequestDto;
 import com.oseak.myFestaBackend.dto.response.StoryItem;
+import com.oseak.myFestaBackend.dto.response.StoryUploadUrlResponseDto;
 import com.oseak.myFestaBackend.entity.Story;
+import com.oseak.myFestaBackend.entity.enums.FestaCounter;
 import com.oseak.myFestaBackend.entity.enums.MediaType;
 import com.oseak.myFestaBackend.entity.enums.ProcessingStatus;
+import com.oseak.myFestaBackend.entity.enums.ThumbnailSize;
+import com.oseak.myFestaBackend.event.FestaCounterChangedEvent;
 import com.oseak.myFestaBackend.event.MediaProcessingCompletedEvent;
-import com.oseak.myFestaBackend.event.MediaProcessingEvent;
+import com.oseak.myFestaBackend.generator.HlsPackager;
 import com.oseak.myFestaBackend.generator.ThumbnailGenerator;
 import com.oseak.myFestaBackend.repository.StoryRepository;
 import com.oseak.myFestaBackend.repository.StorySpecification;
@@ -43,10 +63,22 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class StoryService {
 
+	private static final Sort FEED_SORT = Sort.by("createdAt").descending()
+		.and(Sort.by("storyId").descending());
+
 	private final StoryRepository storyRepository;
 	private final ThumbnailGenerator thumbnailGenerator;
 	private final S3Service s3Service;
 	private final ApplicationEventPublisher eventPublisher;
+	private final UploadSpool uploadSpool;
+	private final MediaProcessingGovernor mediaProcessingGovernor;
+	private final MediaProcessingJobService mediaProcessingJobService;
+	private final MediaObjectService mediaObjectService;
+	private final DirectUploadService directUploadService;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${app.story.purge.chunk-size:500}")
+	private int purgeChunkSize;
 
 	@Transactional
 	public Page<Story> searchStories(StorySearchRequestDto request, Long viewerMemberId) {
@@ -56,13 +88,28 @@ public class StoryService {
 			PageRequest.of(
 				request.getValidPage(),
 				request.getValidSize(),
-				Sort.by("createdAt").descending()
-					.and(Sort.by("storyId").descending())
+				FEED_SORT
 			);
 
 		return storyRepository.findAll(spec, pageable);
 	}
 
+	/**
+	 * 커서 기반 스토리 조회. OFFSET/COUNT 없이 커서 위치부터 size + 1건만 읽는다.
+	 * 다음 페이지 존재 여부 확인을 위해 한 건을 더 조회하므로 호출 측에서 잘라서 사용한다.
+	 */
+	public List<Story> searchStoriesByCursor(StorySearchRequestDto request, Long viewerMemberId) {
+		KeysetCursorUtil.Cursor cursor = (request.getCursor() == null || request.getCursor().isBlank())
+			? null
+			: KeysetCursorUtil.decode(request.getCursor());
+		Specification<Story> spec = StorySpecification.createCursorSpecification(request, viewerMemberId, cursor);
+
+		return storyRepository.findBy(spec, query -> query
+			.sortBy(FEED_SORT)
+			.limit(request.getValidSize() + 1)
+			.all());
+	}
+
 	public Story getStoryEntity(String storyCode, Long requesterMemberId) {
 		final long storyId;
 		try {
@@ -103,7 +150,7 @@ public class StoryService {
 			throw new OsaekException(SHORT_CODE_INVALID);
 		}
 		log.debug("storyId: {}", storyId);
-		Story story = storyRepository.findById(storyId)
+		Story story = storyRepository.findByIdForUpdate(storyId)
 			.orElseThrow(() -> new OsaekException(STORY_NOT_FOUND));
 
 		// 삭제된 스토리는 변경 불가
@@ -122,11 +169,13 @@ public class StoryService {
 			return story;
 		}
 
+		boolean counted = story.isCounted();
 		if (Boolean.TRUE.equals(target)) {
 			story.openStory();
 		} else {
 			story.hideStory();
 		}
+		publishStoryCountChange(story, counted);
 
 		return story;
 	}
@@ -144,7 +193,7 @@ public class StoryService {
 			throw new OsaekException(SHORT_CODE_INVALID);
 		}
 
-		Story story = storyRepository.findById(storyId)
+		Story story = storyRepository.findByIdForUpdate(storyId)
 			.orElseThrow(() -> new OsaekException(STORY_NOT_FOUND));
 
 		// 이미 삭제된 경우: 멱등 처리
@@ -158,25 +207,121 @@ public class StoryService {
 		}
 
 		// 논리 삭제
+		boolean counted = story.isCounted();
 		story.softDelete();
+		publishStoryCountChange(story, counted);
 	}
 
-	public void deleteStory() {
-		List<Story> deletedStories = storyRepository.findAllByIsDeletedTrue();
+	/**
+	 * 논리 삭제된 스토리를 story_id 순으로 청크 단위 하드 삭제
+	 * - 청크마다 S3 객체(원본/썸네일)를 일괄 삭제한 뒤 행을 IN 조건 DELETE 한 번으로 삭제
+	 * - 객체 삭제에 실패한 스토리는 행을 남겨 다음 실행에서 다시 시도 (S3 삭제는 멱등)
+	 * - 진행 상태는 DB에 남은 행 자체이므로 중간에 중단되어도 다음 실행에서 이어서 처리됨
+	 * - 내용 해시로 공유되는 객체(media_object)는 행 삭제 후 더 이상 참조하는 스토리가 없을 때만 삭제
+	 *
+	 * @return 삭제된 스토리 수
+	 */
+	public int deleteStory() {
+		long afterStoryId = 0L;
+		int purged = 0;
+		int deferred = 0;
+		int deletedObjects = 0;
+
+		while (true) {
+			List<Story> chunk = storyRepository.findDeletedAfter(afterStoryId, Limit.of(purgeChunkSize));
+			if (chunk.isEmpty()) {
+				break;
+			}
+			afterStoryId = chunk.get(chunk.size() - 1).getStoryId();
+
+			Map<Long, List<String>> keysByStory = new HashMap<>();
+			Set<String> contentHashes = new HashSet<>();
+			for (Story story : chunk) {
+				List<String> keys = new ArrayList<>(4);
+				if (story.getContentHash() != null) {
+					contentHashes.add(story.getContentHash());
+				} else {
+					addKey(keys, story.getStoryS3Url());
+					addKey(keys, story.getThumbnailUrl());
+					addKey(keys, story.getThumbnailMediumUrl());
+					addKey(keys, story.getThumbnailLargeUrl());
+					addKey(keys, story.getPreviewUrl());
+					addHlsKeys(keys, story.getHlsUrl());
+					ImageVariants.allUrls(story.getThumbnailUrls(), story.getStoryS3Url(), story.getImageFormats())
+						.forEach(url -> addKey(keys, url));
+				}
+				keysByStory.put(story.getStoryId(), keys);
+			}
 
-		if (deletedStories.isEmpty()) {
-			log.info("삭제할 스토리가 없습니다.");
-			return;
+			Set<String> failedKeys = s3Service.deleteFiles(
+				keysByStory.values().stream().flatMap(List::stream).collect(Collectors.toSet()));
+
+			List<Long> deletableIds = keysByStory.entrySet().stream()
+				.filter(entry -> entry.getValue().stream().noneMatch(failedKeys::contains))
+				.map(Map.Entry::getKey)
+				.toList();
+			deletedObjects += (int)keysByStory.values().stream()
+				.flatMap(List::stream).filter(key -> !failedKeys.contains(key)).distinct().count();
+			deferred += chunk.size() - deletableIds.size();
+
+			if (!deletableIds.isEmpty()) {
+				purged += storyRepository.deleteDeletedByIds(deletableIds);
+			}
+			deletedObjects += releaseSharedMedia(contentHashes);
+			log.info("스토리 하드 삭제 진행: 누적 {}건 삭제, 보류 {}건, S3 객체 {}개 삭제 (마지막 story_id={})",
+				purged, deferred, deletedObjects, afterStoryId);
+
+			if (chunk.size() < purgeChunkSize) {
+				break;
+			}
 		}
 
-		int totalCount = deletedStories.size();
-		List<Long> storyIds = deletedStories.stream()
-			.map(Story::getStoryId)
-			.toList();
+		log.info("스토리 하드 삭제 완료: {}건 삭제, S3 삭제 실패로 보류 {}건", purged, deferred);
+		return purged;
+	}
+
+	/**
+	 * 참조하는 스토리가 남지 않은 공유 미디어의 인덱스 행과 S3 객체 삭제
+	 * 해제한 행의 generation 키만 지우므로 그사이 같은 내용이 다시 등록되어도 새 객체는 지워지지 않음
+	 *
+	 * @return 삭제된 S3 객체 수
+	 */
+	private int releaseSharedMedia(Set<String> contentHashes) {
+		List<String> keys = new ArrayList<>();
+		for (String contentHash : contentHashes) {
+			for (String url : mediaObjectService.releaseIfUnreferenced(contentHash)) {
+				if (url.endsWith(HlsPackager.MASTER_PLAYLIST)) {
+					addHlsKeys(keys, url);
+				} else {
+					addKey(keys, url);
+				}
+			}
+		}
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		Set<String> failedKeys = s3Service.deleteFiles(keys);
+		if (!failedKeys.isEmpty()) {
+			log.warn("공유 미디어 S3 객체 삭제 실패: {}개", failedKeys.size());
+		}
+		return keys.size() - failedKeys.size();
+	}
 
-		storyRepository.deleteAll(deletedStories);
+	private void addKey(List<String> keys, String fileUrl) {
+		String key = s3Service.extractKey(fileUrl);
+		if (key != null) {
+			keys.add(key);
+		}
+	}
 
-		log.info("총 {}건 삭제 완료. 삭제 ID 목록={}", totalCount, storyIds);
+	/**
+	 * HLS는 마스터 플레이리스트가 있는 디렉토리 아래 렌디션 플레이리스트/세그먼트까지 모두 삭제 대상
+	 */
+	private void addHlsKeys(List<String> keys, String hlsUrl) {
+		String masterKey = s3Service.extractKey(hlsUrl);
+		if (masterKey != null) {
+			keys.addAll(s3Service.listKeys(masterKey.substring(0, masterKey.lastIndexOf('/') + 1)));
+		}
 	}
 
 	public Story uploadStory(MultipartFile file, Long memberId) {
@@ -312,32 +457,100 @@ public class StoryService {
 
 	}
 
+	/**
+	 * 파일 본문을 받은 업로드 등록. 파일 이동과 해시 계산(최대 수백 MB 디스크 I/O)은 트랜잭션 밖에서 하고,
+	 * 스토리 저장과 작업 등록만 짧은 트랜잭션으로 묶어 DB 커넥션을 오래 잡지 않는다.
+	 */
 	public Story uploadStoryAsyncEntity(StoryUploadRequestDto requestDto, Long memberId) {
-		// 1. 미디어 타입 확인
-		MediaType mediaType = MediaType.detectFromFile(requestDto.getFile());
-		log.debug("Starting story upload for mediaType: {}", mediaType);
+		// 0. 작업 큐에 밀린 작업이 상한이면 파일을 옮기기 전에 429로 거절
+		//    (본문을 받기 전 MediaUploadAdmissionInterceptor에서 한 번 확인하지만, 본문을 받는 동안 작업이 밀렸을 수 있음)
+		mediaProcessingGovernor.admit(mediaProcessingJobService.countBacklog());
+
+		// 1. 크기/형식 검사, 내용 해시 계산 후 spool 디렉토리로 이동 (잘못된 업로드는 스토리 저장 전에 거절)
+		SpooledMedia media = uploadSpool.spool(requestDto.getFile());
+		MediaType mediaType = media.getMediaType();
+		log.debug("Starting story upload for mediaType: {}, size: {}", mediaType, media.getSize());
 
-		// 2. 스토리 저장
-		Story story = Story.builder()
+		// 2. 스토리 저장 + 처리 작업 등록 (같은 트랜잭션으로 커밋되어 재시작 후에도 작업이 남음)
+		Story savedStory;
+		try {
+			Story story = processingStory(memberId, mediaType, requestDto.getFestaId(), requestDto.getFestaName(),
+				requestDto.getIsOpen())
+				.contentHash(media.getContentHash())
+				.build();
+
+			savedStory = transactionTemplate.execute(status -> {
+				Story saved = storyRepository.save(story);
+				mediaProcessingJobService.enqueue(media, saved.getStoryId());
+				return saved;
+			});
+		} catch (RuntimeException e) {
+			// 커밋 실패를 포함해 등록되지 않았으면 spool 파일 정리
+			uploadSpool.release(media);
+			throw e;
+		}
+
+		// 3. 반환
+		return savedStory;
+	}
+
+	/**
+	 * 저장소 직접 업로드 URL 발급. 처리 대기열이 포화면 클라이언트가 파일을 올리기 전에 429로 거절
+	 */
+	public StoryUploadUrlResponseDto issueUploadUrl(StoryUploadUrlRequestDto requestDto, Long memberId) {
+		mediaProcessingGovernor.admit(mediaProcessingJobService.countBacklog());
+		return directUploadService.issueUploadUrl(requestDto, memberId);
+	}
+
+	/**
+	 * 저장소 직접 업로드 완료 처리. API 서버는 파일 본문을 받지 않고 메타데이터만 확인한 뒤
+	 * 스토리와 처리 작업을 등록하며, 워커가 저장소에서 객체를 내려받아 처리한다.
+	 * 저장소 확인(HEAD)은 트랜잭션 밖에서 하고, 스토리 저장과 작업 등록만 짧은 트랜잭션으로 묶는다.
+	 */
+	public Story uploadStoryFromStorage(StoryUploadCompleteRequestDto requestDto, Long memberId) {
+		// 0. 이미 완료된 업로드는 저장소를 확인하기 전에 거절 (동시 요청은 3단계의 유일 제약으로 판단)
+		String uploadKey = requestDto.getUploadKey();
+		if (mediaProcessingJobService.isEnqueued(uploadKey)) {
+			throw new OsaekException(UPLOAD_ALREADY_COMPLETED);
+		}
+
+		// 1. 업로드 키 소유자, 객체 존재 여부와 크기 확인
+		StoredUpload upload = directUploadService.verify(uploadKey, memberId);
+
+		// 2. 작업 큐에 밀린 작업이 상한이면 429로 거절 (객체는 남아 있으므로 나중에 다시 완료 요청 가능)
+		mediaProcessingGovernor.admit(mediaProcessingJobService.countBacklog());
+
+		// 3. 스토리 저장 + 처리 작업 등록 (내용 해시는 처리 완료 시 기록)
+		//    같은 업로드 키의 완료 요청이 동시에 들어오면 source_key 유일 제약으로 하나만 커밋됨
+		Story savedStory;
+		try {
+			savedStory = transactionTemplate.execute(status -> {
+				Story story = storyRepository.save(
+					processingStory(memberId, upload.getMediaType(), requestDto.getFestaId(),
+						requestDto.getFestaName(), requestDto.getIsOpen()).build());
+				mediaProcessingJobService.enqueue(upload, story.getStoryId());
+				return story;
+			});
+		} catch (DataIntegrityViolationException e) {
+			if (mediaProcessingJobService.isEnqueued(uploadKey)) {
+				throw new OsaekException(UPLOAD_ALREADY_COMPLETED);
+			}
+			throw e;
+		}
+		log.debug("Registered direct upload {} as storyId: {}", upload.getKey(), savedStory.getStoryId());
+
+		return savedStory;
+	}
+
+	private Story.StoryBuilder processingStory(Long memberId, MediaType mediaType, Long festaId, String festaName,
+		Boolean isOpen) {
+		return Story.builder()
 			.memberId(memberId)
 			.storyType(String.valueOf(mediaType))
-			.festaId(requestDto.getFestaId())
-			.festaName(requestDto.getFestaName())
-			.isOpen(requestDto.getIsOpen())
-			.processingStatus(ProcessingStatus.PROCESSING.name())
-			.build();
-
-		Story savedStory = storyRepository.save(story);
-
-		// 3. 비동기 처리 이벤트 발행
-		eventPublisher.publishEvent(new MediaProcessingEvent(
-			requestDto.getFile(),
-			savedStory.getStoryId(),
-			mediaType
-		));
-
-		// 4. 반환
-		return savedStory;
+			.festaId(festaId)
+			.festaName(festaName)
+			.isOpen(isOpen)
+			.processingStatus(ProcessingStatus.PROCESSING.name());
 	}
 
 	@EventListener
@@ -346,11 +559,36 @@ public class StoryService {
 		log.debug("Handling media processing completion for storyId: {}, status: {}",
 			event.getStoryId(), event.getStatus());
 
-		Story story = storyRepository.findById(event.getStoryId())
+		Story story = storyRepository.findByIdForUpdate(event.getStoryId())
 			.orElseThrow(() -> new OsaekException(STORY_NOT_FOUND));
 
-		story.completeMediaProcessing(event.getOriginalS3Url(), event.getThumbnailS3Url(), event.getStatus().name());
+		boolean counted = story.isCounted();
+		if (event.getContentHash() != null) {
+			story.assignContentHash(event.getContentHash());
+		}
+		story.completeMediaProcessing(event.getOriginalS3Url(),
+			event.getThumbnailUrl(ThumbnailSize.SMALL),
+			event.getThumbnailUrl(ThumbnailSize.MEDIUM),
+			event.getThumbnailUrl(ThumbnailSize.LARGE),
+			event.getHlsUrl(),
+			event.getPreviewUrl(),
+			event.getImageFormats(),
+			event.getStatus().name());
 		storyRepository.save(story);
+		publishStoryCountChange(story, counted);
 		log.debug("Updated story {} with URLs and status: {}", event.getStoryId(), event.getStatus());
 	}
+
+	/**
+	 * 상태 변경 전후로 집계 대상 여부가 바뀌었으면 축제 스토리 수 증감분을 발행 (커밋 후 버퍼에 누적)
+	 * 하드 삭제는 이미 논리 삭제되어 집계에서 빠진 스토리만 대상이므로 증감이 없음
+	 */
+	private void publishStoryCountChange(Story story, boolean countedBefore) {
+		boolean countedAfter = story.isCounted();
+		if (countedBefore == countedAfter) {
+			return;
+		}
+		eventPublisher.publishEvent(
+			new FestaCounterChangedEvent(FestaCounter.STORY, story.getFestaId(), countedAfter ? 1 : -1));
+	}
 }
@@ -0,0 +1,280 @@
+package com.oseak.myFestaBackend.service;
+
+import static com.oseak.myFestaBackend.common.exception.code.ClientErrorCode.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.oseak.myFestaBackend.common.exception.OsaekException;
+import com.oseak.myFestaBackend.dto.SpooledMedia;
+import com.oseak.myFestaBackend.entity.enums.MediaType;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 수신 단계
+ * - 컨테이너가 요청 본문을 디스크(spring.servlet.multipart.location)에 바로 기록하므로 업로드 크기와 무관하게 메모리 사용량이 일정
+ * - 크기/빈 파일 검사와 파일 시그니처(매직 바이트) 검사를 먼저 수행해 잘못된 업로드는 DB/비동기 처리 전에 거절
+ * - 시그니처 검사와 같은 읽기에서 파일 내용의 SHA-256을 계산 (중복 업로드 재사용용)
+ * - 검사를 통과한 파일은 같은 파일시스템의 spool 디렉토리로 옮겨(rename) 비동기 처리에 파일 핸들로 넘김
+ * - 저장소(S3)에 직접 올라온 업로드는 워커가 내려받으면서 같은 검사와 해시 계산을 수행
+ */
+@Slf4j
+@Service
+public class UploadSpool {
+
+	private static final int SIGNATURE_LENGTH = 16;
+	private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+	private final Path spoolDir;
+	private final Path incomingDir;
+	private final long maxImageSize;
+	private final long maxVideoSize;
+	private final Duration staleAfter;
+
+	public UploadSpool(
+		@Value("${app.media.spool.dir:${java.io.tmpdir}/osaek-spool}") String spoolDir,
+		@Value("${spring.servlet.multipart.location:${java.io.tmpdir}/osaek-spool/incoming}") String incomingDir,
+		@Value("${app.media.upload.max-image-size:31457280}") long maxImageSize,
+		@Value("${app.media.upload.max-video-size:524288000}") long maxVideoSize,
+		@Value("${app.media.spool.stale-after-hours:6}") long staleAfterHours) {
+		this.spoolDir = Paths.get(spoolDir).toAbsolutePath();
+		this.incomingDir = Paths.get(incomingDir).toAbsolutePath();
+		this.maxImageSize = maxImageSize;
+		this.maxVideoSize = maxVideoSize;
+		this.staleAfter = Duration.ofHours(staleAfterHours);
+	}
+
+	@PostConstruct
+	void createDirectories() throws IOException {
+		Files.createDirectories(spoolDir);
+		// 멀티파트 임시 디렉토리가 없으면 컨테이너가 업로드를 받지 못하므로 기동 시 생성
+		Files.createDirectories(incomingDir);
+	}
+
+	/**
+	 * 업로드 파일을 검사한 뒤 spool 디렉토리로 옮긴다.
+	 *
+	 * @return 비동기 처리에 넘길 파일 핸들
+	 */
+	public SpooledMedia spool(MultipartFile file) {
+		if (file == null || file.isEmpty()) {
+			throw new OsaekException(FILE_EMPTY);
+		}
+
+		MediaType mediaType = MediaType.detectFromFile(file);
+		long limit = maxSizeOf(mediaType);
+		if (file.getSize() > limit) {
+			log.warn("Upload rejected - size {} exceeds {} limit {}", file.getSize(), mediaType, limit);
+			throw new OsaekException(FILE_SIZE_EXCEED);
+		}
+
+		String contentHash = inspect(file, mediaType);
+
+		String extension = extensionOf(file.getOriginalFilename());
+		Path target = spoolDir.resolve(UUID.randomUUID() + extension);
+		try {
+			// 절대 경로 File로 넘기면 컨테이너가 임시 파일을 복사하지 않고 이동(rename)함
+			file.transferTo(target.toFile());
+		} catch (IOException e) {
+			log.error("Failed to spool upload to {}", target, e);
+			deleteQuietly(target);
+			throw new OsaekException(TEMPFILE_CANT_CREATE);
+		}
+
+		return SpooledMedia.builder()
+			.path(target)
+			.mediaType(mediaType)
+			.size(file.getSize())
+			.originalFilename(file.getOriginalFilename())
+			.extension(extension)
+			.contentHash(contentHash)
+			.build();
+	}
+
+	/**
+	 * 저장소에서 읽은 스트림을 spool 디렉토리에 기록한다.
+	 * 앞부분으로 파일 시그니처를 검사하고, 기록하는 같은 읽기에서 SHA-256을 계산
+	 *
+	 * @throws OsaekException 내용이 선언한 미디어 종류가 아닌 경우 (UNSUPPORTED_MEDIA_TYPE)
+	 * @throws IOException 읽기/기록 실패 (기록 중이던 파일은 삭제)
+	 */
+	public SpooledMedia spool(InputStream source, String filename, MediaType mediaType) throws IOException {
+		String extension = extensionOf(filename);
+		Path target = spoolDir.resolve(UUID.randomUUID() + extension);
+		MessageDigest digest = sha256();
+		long size;
+		try (InputStream in = new DigestInputStream(source, digest);
+			OutputStream out = Files.newOutputStream(target)) {
+			byte[] header = in.readNBytes(SIGNATURE_LENGTH);
+			if (!matchesSignature(header, mediaType)) {
+				log.warn("Stored upload rejected - content does not look like {} (name: {})", mediaType, filename);
+				throw new OsaekException(UNSUPPORTED_MEDIA_TYPE);
+			}
+			out.write(header);
+			size = header.length + in.transferTo(out);
+		} catch (IOException | RuntimeException e) {
+			deleteQuietly(target);
+			throw e;
+		}
+
+		return SpooledMedia.builder()
+			.path(target)
+			.mediaType(mediaType)
+			.size(size)
+			.originalFilename(filename)
+			.extension(extension)
+			.contentHash(HexFormat.of().formatHex(digest.digest()))
+			.build();
+	}
+
+	/**
+	 * 미디어 종류별 최대 업로드 크기
+	 */
+	public long maxSizeOf(MediaType mediaType) {
+		return mediaType == MediaType.VIDEO ? maxVideoSize : maxImageSize;
+	}
+
+	public void release(SpooledMedia media) {
+		if (media != null) {
+			deleteQuietly(media.getPath());
+		}
+	}
+
+	/**
+	 * 처리 중 비정상 종료 등으로 남은 오래된 spool 파일 정리
+	 *
+	 * @return 삭제된 파일 수
+	 */
+	public int purgeStaleFiles() {
+		Instant threshold = Instant.now().minus(staleAfter);
+		int deleted = 0;
+		try (Stream<Path> files = Files.list(spoolDir)) {
+			for (Path path : (Iterable<Path>)files::iterator) {
+				if (Files.isRegularFile(path) && Files.getLastModifiedTime(path).toInstant().isBefore(threshold)) {
+					deleteQuietly(path);
+					deleted++;
+				}
+			}
+		} catch (IOException e) {
+			log.error("Failed to list spool directory {}", spoolDir, e);
+		}
+		return deleted;
+	}
+
+	/**
+	 * 파일 시그니처를 검사하고, 통과하면 같은 스트림을 끝까지 읽어 SHA-256을 계산한다.
+	 * 시그니처가 맞지 않으면 나머지는 읽지 않고 거절
+	 *
+	 * @return 파일 내용의 SHA-256 (16진수 소문자)
+	 */
+	private String inspect(MultipartFile file, MediaType mediaType) {
+		MessageDigest digest = sha256();
+		try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+			byte[] header = in.readNBytes(SIGNATURE_LENGTH);
+			if (!matchesSignature(header, mediaType)) {
+				log.warn("Upload rejected - content does not look like {} (name: {}, contentType: {})",
+					mediaType, file.getOriginalFilename(), file.getContentType());
+				throw new OsaekException(UNSUPPORTED_MEDIA_TYPE);
+			}
+
+			byte[] buffer = new byte[HASH_BUFFER_SIZE];
+			while (in.read(buffer) != -1) {
+				// DigestInputStream이 읽은 내용을 digest에 반영
+			}
+		} catch (IOException e) {
+			log.error("Failed to read upload content", e);
+			throw new OsaekException(TEMPFILE_CANT_CREATE);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private boolean matchesSignature(byte[] header, MediaType mediaType) {
+		return switch (mediaType) {
+			case IMAGE -> isImage(header);
+			case VIDEO -> isVideo(header);
+		};
+	}
+
+	private MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	private boolean isImage(byte[] h) {
+		return startsWith(h, 0, 0xFF, 0xD8, 0xFF)                          // JPEG
+			|| startsWith(h, 0, 0x89, 'P', 'N', 'G')                       // PNG
+			|| startsWith(h, 0, 'G', 'I', 'F', '8')                        // GIF
+			|| startsWith(h, 0, 'B', 'M')                                  // BMP
+			|| (startsWith(h, 0, 'R', 'I', 'F', 'F') && startsWith(h, 8, 'W', 'E', 'B', 'P'))
+			|| startsWith(h, 0, 'I', 'I', 0x2A, 0x00)                      // TIFF (little endian)
+			|| startsWith(h, 0, 'M', 'M', 0x00, 0x2A);                     // TIFF (big endian)
+	}
+
+	private boolean isVideo(byte[] h) {
+		return startsWith(h, 4, 'f', 't', 'y', 'p')                        // MP4 / MOV / M4V
+			|| startsWith(h, 0, 0x1A, 0x45, 0xDF, 0xA3)                    // WebM / MKV
+			|| (startsWith(h, 0, 'R', 'I', 'F', 'F') && startsWith(h, 8, 'A', 'V', 'I', ' '))
+			|| startsWith(h, 0, 0x30, 0x26, 0xB2, 0x75)                    // WMV (ASF)
+			|| startsWith(h, 0, 'F', 'L', 'V')                             // FLV
+			|| startsWith(h, 4, 'm', 'o', 'o', 'v')                        // 구형 QuickTime
+			|| startsWith(h, 4, 'w', 'i', 'd', 'e')
+			|| startsWith(h, 4, 'm', 'd', 'a', 't');
+	}
+
+	private boolean startsWith(byte[] header, int offset, int... signature) {
+		if (header.length < offset + signature.length) {
+			return false;
+		}
+		for (int i = 0; i < signature.length; i++) {
+			if ((header[offset + i] & 0xFF) != signature[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 파일명의 확장자 (소문자, 점 포함). 없거나 안전하지 않으면 빈 문자열
+	 */
+	public String extensionOf(String filename) {
+		if (filename == null) {
+			return "";
+		}
+		int lastDot = filename.lastIndexOf('.');
+		if (lastDot <= 0 || lastDot == filename.length() - 1) {
+			return "";
+		}
+		String extension = filename.substring(lastDot).toLowerCase();
+		// 경로 구분자 등이 섞인 확장자는 사용하지 않음
+		return extension.chars().allMatch(c -> c == '.' || Character.isLetterOrDigit(c)) ? extension : "";
+	}
+
+	private void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("Failed to delete spool file {}", path, e);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.oseak.myFestaBackend.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.oseak.myFestaBackend.common.exception.OsaekThrottleException;
+import com.oseak.myFestaBackend.common.exception.code.ClientErrorCode;
+import com.oseak.myFestaBackend.config.interceptor.MediaUploadAdmissionInterceptor;
+import com.oseak.myFestaBackend.service.MediaProcessingGovernor;
+import com.oseak.myFestaBackend.service.MediaProcessingJobService;
+
+class MediaUploadAdmissionInterceptorTest {
+
+	private MediaProcessingGovernor governor;
+	private MediaProcessingJobService jobService;
+	private MediaUploadAdmissionInterceptor interceptor;
+
+	@BeforeEach
+	void setUp() {
+		governor = mock(MediaProcessingGovernor.class);
+		jobService = mock(MediaProcessingJobService.class);
+		interceptor = new MediaUploadAdmissionInterceptor(governor, jobService);
+	}
+
+	@Test
+	@DisplayName("작업 큐가 포화면 컨트롤러로 넘기지 않고 429 예외로 거절")
+	void preHandle_rejectsWhenSaturated() {
+		when(jobService.countBacklog()).thenReturn(20L);
+		doThrow(new OsaekThrottleException(ClientErrorCode.MEDIA_PROCESSING_BUSY, 3)).when(governor).admit(20L);
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/stories/upload");
+		request.setContentType("multipart/form-data; boundary=test");
+
+		assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), new Object()))
+			.isInstanceOfSatisfying(OsaekThrottleException.class,
+				e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(3));
+	}
+
+	@Test
+	@DisplayName("여유가 있으면 요청을 통과시키고, POST가 아니면 확인하지 않음")
+	void preHandle_passesWhenAdmitted() {
+		when(jobService.countBacklog()).thenReturn(0L);
+
+		assertThat(interceptor.preHandle(new MockHttpServletRequest("POST", "/stories/upload"),
+			new MockHttpServletResponse(), new Object())).isTrue();
+		assertThat(interceptor.preHandle(new MockHttpServletRequest("OPTIONS", "/stories/upload"),
+			new MockHttpServletResponse(), new Object())).isTrue();
+		verify(governor, times(1)).admit(0L);
+	}
+}
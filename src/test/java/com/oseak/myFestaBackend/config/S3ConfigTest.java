@@ -0,0 +1,44 @@
+package com.oseak.myFestaBackend.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+class S3ConfigTest {
+
+	@Test
+	@DisplayName("S3 호환 저장소 엔드포인트를 지정하면 해당 엔드포인트의 경로 방식 presigned URL이 발급된다")
+	void presignAgainstLocalEndpoint() {
+		S3Config config = new S3Config();
+		ReflectionTestUtils.setField(config, "accessKey", "minioadmin");
+		ReflectionTestUtils.setField(config, "secretKey", "minioadmin");
+		ReflectionTestUtils.setField(config, "region", "ap-northeast-2");
+		ReflectionTestUtils.setField(config, "endpoint", "http://localhost:9000");
+		ReflectionTestUtils.setField(config, "pathStyleAccess", true);
+
+		try (S3Presigner presigner = config.s3Presigner()) {
+			PresignedPutObjectRequest presigned = presigner.presignPutObject(PutObjectPresignRequest.builder()
+				.signatureDuration(Duration.ofMinutes(15))
+				.putObjectRequest(PutObjectRequest.builder()
+					.bucket("osaek-test")
+					.key("incoming/1/story.mp4")
+					.contentType("video/mp4")
+					.contentLength(1024L)
+					.build())
+				.build());
+
+			assertThat(presigned.url().toString()).startsWith("http://localhost:9000/osaek-test/incoming/1/story.mp4?");
+			assertThat(presigned.httpRequest().method().name()).isEqualTo("PUT");
+			assertThat(presigned.signedHeaders()).containsKeys("content-type", "content-length");
+		}
+	}
+}
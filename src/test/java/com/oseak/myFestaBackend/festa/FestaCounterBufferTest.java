@@ -0,0 +1,96 @@
+package com.oseak.myFestaBackend.festa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.oseak.myFestaBackend.entity.enums.FestaCounter;
+import com.oseak.myFestaBackend.service.FestaCounterBuffer;
+
+class FestaCounterBufferTest {
+
+	private static final int FESTAS = 600;
+
+	private JdbcTemplate jdbcTemplate;
+	private FestaCounterBuffer buffer;
+	private final List<Object[]> updates = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		buffer = new FestaCounterBuffer(jdbcTemplate, 10_000);
+
+		// 통계 행은 모두 있다고 가정 (조회한 ID를 그대로 돌려줌)
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenAnswer(invocation ->
+			Arrays.stream((Object[])invocation.getRawArguments()[2]).map(Long.class::cast).toList());
+	}
+
+	@Test
+	@DisplayName("두 번째 묶음 반영이 실패하면 그 묶음만 되돌려 다음 주기에 반영하고 커밋된 묶음은 다시 더하지 않는다")
+	void flush_requeuesOnlyUncommittedChunks() {
+		when(jdbcTemplate.update(anyString(), any(Object[].class)))
+			.thenAnswer(invocation -> record(invocation.getRawArguments()[1]))
+			.thenThrow(new DataAccessResourceFailureException("connection lost"))
+			.thenAnswer(invocation -> record(invocation.getRawArguments()[1]));
+		for (long festaId = 1; festaId <= FESTAS; festaId++) {
+			buffer.increment(FestaCounter.LIKE, festaId);
+		}
+
+		assertThat(buffer.flush()).isEqualTo(500);
+		assertThat(buffer.flush()).isEqualTo(100);
+		assertThat(buffer.flush()).isZero();
+
+		// 묶음마다 (축제 ID, 증감분) 쌍 + IN 절 ID → 축제 수 * 3개의 파라미터
+		assertThat(updates).extracting(args -> args.length / 3).containsExactly(500, 100);
+	}
+
+	@Test
+	@DisplayName("DB 변경 시작부터 통계 UPDATE 커밋까지 미반영으로 보이고, 반영에 실패하면 계속 미반영으로 남는다")
+	void hasUnapplied_coversChangeBufferAndFlush() {
+		when(jdbcTemplate.update(anyString(), any(Object[].class)))
+			.thenThrow(new DataAccessResourceFailureException("connection lost"))
+			.thenReturn(1);
+
+		buffer.recordChange(FestaCounter.LIKE, 1L, () -> {
+			// 좋아요 행은 커밋되었지만 증감분은 아직 누적되지 않은 순간
+			assertThat(buffer.hasUnapplied(FestaCounter.LIKE, 1L)).isTrue();
+			return 1;
+		});
+		assertThat(buffer.hasUnapplied(FestaCounter.LIKE, 1L)).isTrue();
+
+		buffer.flush();
+		assertThat(buffer.hasUnapplied(FestaCounter.LIKE, 1L)).isTrue();
+
+		buffer.flush();
+		assertThat(buffer.hasUnapplied(FestaCounter.LIKE, 1L)).isFalse();
+		assertThat(buffer.hasUnapplied(FestaCounter.STORY, 1L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("변경이 없거나 변경 중 예외가 나면 미반영 표시를 남기지 않는다")
+	void recordChange_clearsMarkerWithoutDelta() {
+		buffer.recordChange(FestaCounter.LIKE, 1L, () -> 0);
+		assertThatThrownBy(() -> buffer.recordChange(FestaCounter.LIKE, 2L, () -> {
+			throw new IllegalStateException("insert failed");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(buffer.hasUnapplied(FestaCounter.LIKE, 1L)).isFalse();
+		assertThat(buffer.hasUnapplied(FestaCounter.LIKE, 2L)).isFalse();
+	}
+
+	private int record(Object args) {
+		Object[] values = (Object[])args;
+		updates.add(values);
+		return values.length / 3;
+	}
+}
@@ -0,0 +1,113 @@
+package com.oseak.myFestaBackend.generator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.oseak.myFestaBackend.generator.HlsPackager.Rendition;
+
+class HlsPackagerTest {
+
+	@TempDir
+	Path workDir;
+
+	private HlsPackager packager;
+
+	@BeforeEach
+	void setUp() {
+		packager = new HlsPackager(true, 2, "720:2500,360:800,1080:5000", workDir.toString());
+	}
+
+	@Test
+	@DisplayName("원본이 가장 낮은 렌디션보다 작으면 업스케일하지 않고 원본 크기로 두 가지 비트레이트를 만든다")
+	void selectRenditions_smallSource() {
+		List<Rendition> selected = packager.selectRenditions(240);
+
+		assertThat(selected).extracting(Rendition::shortSide).containsExactly(240, 240);
+		assertThat(selected).extracting(Rendition::videoKbps).containsExactly(178, 356);
+	}
+
+	@Test
+	@DisplayName("원본이 가장 낮은 렌디션과 같으면 같은 해상도의 저비트레이트 렌디션을 추가한다")
+	void selectRenditions_lowestRungSource() {
+		List<Rendition> selected = packager.selectRenditions(360);
+
+		assertThat(selected).extracting(Rendition::shortSide).containsExactly(360, 360);
+		assertThat(selected).extracting(Rendition::videoKbps).containsExactly(400, 800);
+	}
+
+	@Test
+	@DisplayName("원본이 렌디션 사이 크기면 원본 크기 렌디션을 보간한 비트레이트로 추가한다")
+	void selectRenditions_betweenRungs() {
+		List<Rendition> selected = packager.selectRenditions(541);
+
+		assertThat(selected).extracting(Rendition::shortSide).containsExactly(360, 540);
+		assertThat(selected).extracting(Rendition::videoKbps).containsExactly(800, 1650);
+	}
+
+	@Test
+	@DisplayName("원본이 가장 높은 렌디션 이상이면 설정된 렌디션을 모두 사용한다")
+	void selectRenditions_largeSource() {
+		assertThat(packager.selectRenditions(2160)).extracting(Rendition::shortSide).containsExactly(360, 720, 1080);
+		assertThat(packager.selectRenditions(0)).extracting(Rendition::shortSide).containsExactly(360, 720, 1080);
+	}
+
+	@Test
+	@DisplayName("렌디션마다 split 출력 하나를 짧은 변 기준으로 스케일한다")
+	void buildCommand_filterGraph() {
+		String[] command = packager.buildCommand(workDir.resolve("in.mp4"), workDir.resolve("out"),
+			List.of(new Rendition(360, 800), new Rendition(720, 2500)), true);
+
+		assertThat(valueAfter(command, "-filter_complex")).isEqualTo("[0:v]split=2[s0][s1]"
+			+ ";[s0]scale=w='if(gt(iw,ih),-2,360)':h='if(gt(iw,ih),360,-2)'[v0]"
+			+ ";[s1]scale=w='if(gt(iw,ih),-2,720)':h='if(gt(iw,ih),720,-2)'[v1]");
+		assertThat(valueAfter(command, "-b:v:1")).isEqualTo("2500k");
+		assertThat(valueAfter(command, "-maxrate:v:1")).isEqualTo("2675k");
+		assertThat(valueAfter(command, "-bufsize:v:1")).isEqualTo("3750k");
+	}
+
+	@Test
+	@DisplayName("오디오가 있으면 렌디션마다 오디오를 묶어 -var_stream_map을 만든다")
+	void buildCommand_streamMapWithAudio() {
+		String[] command = packager.buildCommand(workDir.resolve("in.mp4"), workDir.resolve("out"),
+			List.of(new Rendition(360, 800), new Rendition(720, 2500)), true);
+
+		assertThat(valueAfter(command, "-var_stream_map")).isEqualTo("v:0,a:0 v:1,a:1");
+		assertThat(Arrays.stream(command).filter("0:a:0"::equals)).hasSize(2);
+		assertThat(command).contains("-c:a");
+	}
+
+	@Test
+	@DisplayName("오디오가 없으면 비디오 스트림만 -var_stream_map에 넣는다")
+	void buildCommand_streamMapWithoutAudio() {
+		String[] command = packager.buildCommand(workDir.resolve("in.mp4"), workDir.resolve("out"),
+			List.of(new Rendition(360, 800), new Rendition(720, 2500)), false);
+
+		assertThat(valueAfter(command, "-var_stream_map")).isEqualTo("v:0 v:1");
+		assertThat(command).doesNotContain("0:a:0", "-c:a");
+	}
+
+	@Test
+	@DisplayName("세그먼트 길이마다 키프레임을 강제하고 장면 전환 키프레임은 끈다")
+	void buildCommand_forceKeyFrames() {
+		String[] command = packager.buildCommand(workDir.resolve("in.mp4"), workDir.resolve("out"),
+			List.of(new Rendition(360, 800)), true);
+
+		assertThat(valueAfter(command, "-force_key_frames")).isEqualTo("expr:gte(t,n_forced*2)");
+		assertThat(valueAfter(command, "-hls_time")).isEqualTo("2");
+		assertThat(valueAfter(command, "-sc_threshold")).isEqualTo("0");
+	}
+
+	private static String valueAfter(String[] command, String option) {
+		int index = Arrays.asList(command).indexOf(option);
+		assertThat(index).as(option).isNotNegative().isLessThan(command.length - 1);
+		return command[index + 1];
+	}
+}
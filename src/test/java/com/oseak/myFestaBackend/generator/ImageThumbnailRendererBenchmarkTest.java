@@ -0,0 +1,94 @@
+package com.oseak.myFestaBackend.generator;
+
+import static com.oseak.myFestaBackend.support.BenchmarkSupport.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.oseak.myFestaBackend.dto.ImageSize;
+import com.oseak.myFestaBackend.service.MediaProcessingGovernor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 정지 이미지 썸네일: JVM 내부 처리(ImageThumbnailRenderer) vs ffmpeg 단일 실행 비교
+ * 업로드 1건(3개 사이즈)당 벽시계 시간과 CPU 시간(JVM은 프로세스 CPU 증가분, ffmpeg는 -benchmark utime+stime)을 리포트
+ * 실행: ./gradlew benchmark (ffmpeg가 없으면 JVM 측정만 수행)
+ */
+@Tag("benchmark")
+class ImageThumbnailRendererBenchmarkTest {
+
+	private static final int WARMUP = 20;
+	private static final int ITERATIONS = 50;
+
+	@TempDir
+	static Path workDir;
+
+	private static ImageThumbnailRenderer renderer;
+	private static List<ImageSize> sizes;
+
+	@BeforeAll
+	static void setUp() throws IOException {
+		renderer = new ImageThumbnailRenderer(
+			new MediaProcessingGovernor(new SimpleMeterRegistry(), 0, 20, 10, 5));
+		sizes = new ArrayList<>(ThumbnailGenerator.THUMBNAIL_SIZES.values());
+
+		// 휴대폰 사진 크기와 일반 사진 크기 샘플
+		writeSampleImage(workDir.resolve("large.jpg"), 4032, 3024, "jpeg");
+		writeSampleImage(workDir.resolve("small.jpg"), 1280, 960, "jpeg");
+		writeSampleImage(workDir.resolve("large.png"), 2048, 1536, "png");
+	}
+
+	@AfterAll
+	static void tearDown() {
+		renderer.shutdown();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"large.jpg", "small.jpg", "large.png"})
+	@DisplayName("JVM 내부 처리와 ffmpeg 처리 시간 비교")
+	void compare(String sample, TestReporter reporter) throws Exception {
+		String input = workDir.resolve(sample).toString();
+
+		Measurement jvm = measure(WARMUP, ITERATIONS, () -> {
+			long before = processCpuNanos();
+			assertThat(renderer.render(input, sizes, outputs("jvm"))).isTrue();
+			return (processCpuNanos() - before) / 1_000_000.0;
+		});
+		reporter.publishEntry(sample + ".in-jvm", jvm.format() + " / upload");
+
+		if (!ffmpegAvailable()) {
+			reporter.publishEntry(sample + ".ffmpeg", "skipped (not installed)");
+			return;
+		}
+		Measurement ffmpeg = measure(WARMUP, ITERATIONS, () -> runFfmpegThumbnails(input));
+		reporter.publishEntry(sample + ".ffmpeg", ffmpeg.format() + " / upload");
+	}
+
+	private double runFfmpegThumbnails(String input) throws Exception {
+		List<String> command = new ArrayList<>(List.of(ThumbnailGenerator.buildMultiSizeThumbnailCommand(
+			input, outputs("ffmpeg"), ThumbnailGenerator.IMAGE_THUMBNAIL_FILTER)));
+		command.add(1, "-benchmark");
+		return runFfmpeg(command);
+	}
+
+	private List<String> outputs(String prefix) {
+		List<String> outputs = new ArrayList<>();
+		for (String sizeKey : ThumbnailGenerator.THUMBNAIL_SIZES.keySet()) {
+			outputs.add(workDir.resolve(prefix + "_" + sizeKey + ".jpg").toString());
+		}
+		return outputs;
+	}
+}
@@ -0,0 +1,110 @@
+package com.oseak.myFestaBackend.generator;
+
+import static com.oseak.myFestaBackend.support.BenchmarkSupport.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.oseak.myFestaBackend.dto.ImageSize;
+import com.oseak.myFestaBackend.dto.ImageVariants;
+import com.oseak.myFestaBackend.dto.Thumbnail;
+import com.oseak.myFestaBackend.service.MediaProcessingGovernor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 스토리 1건(JPEG 썸네일 3개 + JPEG 원본)의 평균 바이트: JPEG vs WebP vs AVIF 비교 리포트
+ * 운영에서 기록하는 media.image.bytes 메트릭과 같은 방식으로 집계하며, 형식별 인코딩 시간도 함께 리포트
+ * 실행: ./gradlew benchmark (libwebp/libaom이 포함된 ffmpeg가 없으면 건너뜀)
+ */
+@Tag("benchmark")
+class ImageVariantEncoderBenchmarkTest {
+
+	private static final List<String> SAMPLES = List.of("large.jpg", "medium.jpg", "small.jpg");
+
+	@TempDir
+	static Path workDir;
+
+	private static ImageThumbnailRenderer renderer;
+
+	@BeforeAll
+	static void setUp() throws IOException {
+		renderer = new ImageThumbnailRenderer(
+			new MediaProcessingGovernor(new SimpleMeterRegistry(), 0, 20, 10, 5));
+
+		// 휴대폰 사진, 압축된 사진, 작은 사진 크기 샘플
+		writeSampleImage(workDir.resolve("large.jpg"), 4032, 3024, "jpeg");
+		writeSampleImage(workDir.resolve("medium.jpg"), 2048, 1536, "jpeg");
+		writeSampleImage(workDir.resolve("small.jpg"), 1280, 960, "jpeg");
+	}
+
+	@AfterAll
+	static void tearDown() {
+		renderer.shutdown();
+	}
+
+	@Test
+	@DisplayName("형식별 스토리당 평균 바이트 비교")
+	void report(TestReporter reporter) throws Exception {
+		assumeTrue(ffmpegEncoderAvailable("libwebp") && ffmpegEncoderAvailable("libaom-av1"),
+			"ffmpeg with libwebp/libaom required");
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		ImageVariantEncoder encoder = new ImageVariantEncoder(registry, "avif,webp", 75, 32, 6, workDir.toString());
+
+		long start = System.nanoTime();
+		for (String sample : SAMPLES) {
+			Path original = workDir.resolve(sample);
+			String mediaId = sample.substring(0, sample.indexOf('.'));
+			ImageVariants variants = encoder.encode(thumbnails(original, mediaId), original, mediaId);
+			assertThat(variants.getFormats()).containsExactly(ImageVariantEncoder.AVIF, ImageVariantEncoder.WEBP);
+			encoder.recordBytes(variants);
+		}
+		double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+
+		double jpeg = meanBytes(registry, ImageVariantEncoder.JPEG);
+		double webp = meanBytes(registry, ImageVariantEncoder.WEBP);
+		double avif = meanBytes(registry, ImageVariantEncoder.AVIF);
+		reporter.publishEntry(Map.of(
+			"stories", String.valueOf(SAMPLES.size()),
+			"encode-ms-per-story", String.format("%.0f", elapsedMs / SAMPLES.size()),
+			"jpeg-bytes-per-story", String.format("%,.0f", jpeg),
+			"webp-bytes-per-story", String.format("%,.0f (%.1f%% of jpeg)", webp, webp / jpeg * 100),
+			"avif-bytes-per-story", String.format("%,.0f (%.1f%% of jpeg)", avif, avif / jpeg * 100)));
+
+		assertThat(webp).isLessThan(jpeg);
+		assertThat(avif).isLessThan(jpeg);
+	}
+
+	private List<Thumbnail> thumbnails(Path original, String mediaId) throws Exception {
+		List<String> outputs = new ArrayList<>();
+		List<Thumbnail> thumbnails = new ArrayList<>();
+		for (Map.Entry<String, ImageSize> entry : ThumbnailGenerator.THUMBNAIL_SIZES.entrySet()) {
+			String output = workDir.resolve(mediaId + "_" + entry.getKey() + ".jpg").toString();
+			outputs.add(output);
+			thumbnails.add(Thumbnail.builder().size(entry.getKey()).localPath(output).format("jpg").build());
+		}
+		assertThat(renderer.render(original.toString(),
+			new ArrayList<>(ThumbnailGenerator.THUMBNAIL_SIZES.values()), outputs)).isTrue();
+		return thumbnails;
+	}
+
+	private static double meanBytes(SimpleMeterRegistry registry, String format) {
+		DistributionSummary summary = registry.get("media.image.bytes").tag("format", format).summary();
+		return summary.mean();
+	}
+}
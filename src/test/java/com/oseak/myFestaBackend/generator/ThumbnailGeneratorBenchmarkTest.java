@@ -0,0 +1,91 @@
+package com.oseak.myFestaBackend.generator;
+
+import static com.oseak.myFestaBackend.support.BenchmarkSupport.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.oseak.myFestaBackend.dto.ImageSize;
+
+/**
+ * 사이즈별 ffmpeg 실행(기존) vs split 필터 단일 실행 비교
+ * ffmpeg -benchmark 출력(utime/stime)으로 업로드 1건당 CPU 시간과 벽시계 시간을 측정해 리포트
+ * 실행: ./gradlew benchmark (ffmpeg가 없으면 건너뜀)
+ */
+@Tag("benchmark")
+class ThumbnailGeneratorBenchmarkTest {
+
+	private static final int WARMUP = 1;
+	private static final int ITERATIONS = 5;
+
+	@TempDir
+	static Path workDir;
+
+	private static Path image;
+	private static Path video;
+
+	@BeforeAll
+	static void prepareSamples() throws Exception {
+		assumeTrue(ffmpegAvailable(), "ffmpeg not installed");
+
+		// 휴대폰 사진 크기의 이미지, 1080p 10초 영상
+		image = workDir.resolve("sample.jpg");
+		runFfmpeg(List.of("ffmpeg", "-y", "-f", "lavfi", "-i", "testsrc2=size=4032x3024",
+			"-frames:v", "1", "-q:v", "2", image.toString()));
+		video = workDir.resolve("sample.mp4");
+		runFfmpeg(List.of("ffmpeg", "-y", "-f", "lavfi", "-i", "testsrc2=size=1920x1080:rate=30", "-t", "10",
+			"-c:v", "libx264", "-pix_fmt", "yuv420p", video.toString()));
+	}
+
+	@Test
+	@DisplayName("이미지: 사이즈별 실행과 단일 실행 처리 시간 비교")
+	void imageThumbnails(TestReporter reporter) throws Exception {
+		compare(reporter, "image", image, ThumbnailGenerator.IMAGE_THUMBNAIL_FILTER);
+	}
+
+	@Test
+	@DisplayName("비디오: 사이즈별 실행과 단일 실행 처리 시간 비교")
+	void videoThumbnails(TestReporter reporter) throws Exception {
+		compare(reporter, "video", video, ThumbnailGenerator.VIDEO_THUMBNAIL_FILTER);
+	}
+
+	private void compare(TestReporter reporter, String label, Path input, String filter) throws Exception {
+		Measurement perSize = measure(WARMUP, ITERATIONS, () -> runPerSize(input, filter));
+		Measurement singlePass = measure(WARMUP, ITERATIONS, () -> runSinglePass(input, filter));
+
+		reporter.publishEntry(label + ".per-size", perSize.format() + " / upload");
+		reporter.publishEntry(label + ".single-pass", singlePass.format() + " / upload");
+	}
+
+	// 기존 방식: 사이즈마다 ffmpeg 프로세스를 따로 실행
+	private double runPerSize(Path input, String filter) throws Exception {
+		double cpuMs = 0;
+		for (ImageSize size : ThumbnailGenerator.THUMBNAIL_SIZES.values()) {
+			Path output = workDir.resolve("per_size_" + size.getWidth() + ".jpg");
+			cpuMs += runFfmpeg(List.of("ffmpeg", "-benchmark", "-y", "-i", input.toString(),
+				"-vf", String.format(filter, size.getWidth(), size.getHeight(), size.getWidth(), size.getHeight()),
+				"-frames:v", "1", "-q:v", "2", output.toString()));
+		}
+		return cpuMs;
+	}
+
+	private double runSinglePass(Path input, String filter) throws Exception {
+		List<String> outputs = new ArrayList<>();
+		for (String sizeKey : ThumbnailGenerator.THUMBNAIL_SIZES.keySet()) {
+			outputs.add(workDir.resolve("single_" + sizeKey + ".jpg").toString());
+		}
+		List<String> command = new ArrayList<>(
+			List.of(ThumbnailGenerator.buildMultiSizeThumbnailCommand(input.toString(), outputs, filter)));
+		command.add(1, "-benchmark");
+		return runFfmpeg(command);
+	}
+}
@@ -0,0 +1,54 @@
+package com.oseak.myFestaBackend.generator;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ThumbnailGeneratorTest {
+
+	private ThumbnailGenerator generator;
+
+	@BeforeEach
+	void setUp() {
+		generator = new ThumbnailGenerator(mock(ImageThumbnailRenderer.class));
+		ReflectionTestUtils.setField(generator, "previewDurationSeconds", 3.0);
+		ReflectionTestUtils.setField(generator, "previewFps", 12);
+		ReflectionTestUtils.setField(generator, "previewSize", 320);
+		ReflectionTestUtils.setField(generator, "previewQuality", 60);
+	}
+
+	@Test
+	@DisplayName("미리보기 명령은 -ss/-t를 -i 앞에 두어 입력 탐색으로 앞부분 디코딩을 건너뛴다")
+	void buildAnimatedPreviewCommand_seeksBeforeInput() {
+		List<String> command = Arrays.asList(
+			generator.buildAnimatedPreviewCommand("/tmp/in.mp4", "/tmp/out.webp", 1.0));
+
+		int input = command.indexOf("-i");
+		assertThat(command.indexOf("-ss")).isPositive().isLessThan(input);
+		assertThat(command.indexOf("-t")).isPositive().isLessThan(input);
+		assertThat(command.get(command.indexOf("-ss") + 1)).isEqualTo("1.0");
+		assertThat(command.get(command.indexOf("-t") + 1)).isEqualTo("3.0");
+		assertThat(command.get(input + 1)).isEqualTo("/tmp/in.mp4");
+		assertThat(command.lastIndexOf("-ss")).isEqualTo(command.indexOf("-ss"));
+	}
+
+	@Test
+	@DisplayName("미리보기 명령은 오디오 없이 반복 재생되는 WebP를 출력한다")
+	void buildAnimatedPreviewCommand_outputsLoopingWebp() {
+		List<String> command = Arrays.asList(
+			generator.buildAnimatedPreviewCommand("/tmp/in.mp4", "/tmp/out.webp", 0));
+
+		assertThat(command).contains("-an");
+		assertThat(command.get(command.indexOf("-c:v") + 1)).isEqualTo("libwebp");
+		assertThat(command.get(command.indexOf("-loop") + 1)).isEqualTo("0");
+		assertThat(command.get(command.indexOf("-vf") + 1)).startsWith("fps=12,scale=320:320");
+		assertThat(command.get(command.size() - 1)).isEqualTo("/tmp/out.webp");
+	}
+}
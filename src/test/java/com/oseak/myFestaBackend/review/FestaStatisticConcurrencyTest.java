@@ -0,0 +1,150 @@
+package com.oseak.myFestaBackend.review;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.oseak.myFestaBackend.entity.Festa;
+import com.oseak.myFestaBackend.entity.FestaStatistic;
+import com.oseak.myFestaBackend.entity.Member;
+import com.oseak.myFestaBackend.entity.ReviewId;
+import com.oseak.myFestaBackend.entity.enums.FestaStatus;
+import com.oseak.myFestaBackend.entity.enums.Provider;
+import com.oseak.myFestaBackend.repository.FestaRepository;
+import com.oseak.myFestaBackend.repository.FestaStatisticRepository;
+import com.oseak.myFestaBackend.repository.MemberRepository;
+import com.oseak.myFestaBackend.repository.ReviewRepository;
+import com.oseak.myFestaBackend.service.ReviewService;
+import com.oseak.myFestaBackend.support.MySqlContainerConfig;
+
+/**
+ * 여러 스레드가 같은 축제에 동시에 리뷰를 작성/수정/삭제해도 통계 갱신이 유실되지 않는지 검증
+ * 테스트 전용 MySQL 컨테이너에서 실행 (실행: ./gradlew integrationTest, Docker 필요)
+ */
+@Tag("integration")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(MySqlContainerConfig.class)
+class FestaStatisticConcurrencyTest {
+
+	// 컨테이너 DB는 테스트 전용이므로 다른 데이터와 겹칠 일이 없음
+	private static final Long FESTA_ID = 1L;
+	private static final int THREADS = 16;
+	private static final int REVIEWERS = 64;
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private FestaRepository festaRepository;
+
+	@Autowired
+	private FestaStatisticRepository festaStatisticRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	private final List<Long> memberIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		festaRepository.save(Festa.builder()
+			.festaId(FESTA_ID)
+			.festaName("동시성 테스트 축제")
+			.festaStatus(FestaStatus.ONGOING)
+			.build());
+		festaStatisticRepository.save(FestaStatistic.builder().festaId(FESTA_ID).build());
+
+		for (int i = 0; i < REVIEWERS; i++) {
+			Member member = memberRepository.save(Member.builder()
+				.email("stat-concurrency-" + i + "@test.com")
+				.nickname("동시성" + i)
+				.provider(Provider.LOCAL)
+				.build());
+			memberIds.add(member.getId());
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		memberIds.forEach(memberId -> reviewRepository.findById(new ReviewId(memberId, FESTA_ID))
+			.ifPresent(reviewRepository::delete));
+		festaStatisticRepository.deleteById(FESTA_ID);
+		festaRepository.deleteById(FESTA_ID);
+		memberRepository.deleteAllById(memberIds);
+		memberIds.clear();
+	}
+
+	@Test
+	@DisplayName("동시 리뷰 작성/수정/삭제 후 리뷰 수와 누적 점수가 정확히 일치")
+	void concurrentReviewWrites_NoLostUpdates() throws Exception {
+		// When: 모든 회원이 동시에 3점 리뷰 작성
+		runConcurrently(memberIds, memberId -> reviewService.createReview(memberId, FESTA_ID, 3.0, null, "작성"));
+
+		// Then
+		FestaStatistic afterCreate = festaStatisticRepository.findById(FESTA_ID).orElseThrow();
+		assertThat(afterCreate.getReviewCount()).isEqualTo(REVIEWERS);
+		assertThat(afterCreate.getTotalScore()).isEqualTo(3.0 * REVIEWERS);
+
+		// When: 모든 리뷰를 동시에 5점으로 수정
+		runConcurrently(memberIds, memberId -> reviewService.updateReview(memberId, FESTA_ID, 5.0, null, "수정"));
+
+		// Then
+		FestaStatistic afterUpdate = festaStatisticRepository.findById(FESTA_ID).orElseThrow();
+		assertThat(afterUpdate.getReviewCount()).isEqualTo(REVIEWERS);
+		assertThat(afterUpdate.getTotalScore()).isEqualTo(5.0 * REVIEWERS);
+
+		// When: 절반의 리뷰를 동시에 삭제
+		List<Long> deleted = memberIds.subList(0, REVIEWERS / 2);
+		runConcurrently(deleted, memberId -> reviewService.deleteReview(memberId, FESTA_ID));
+
+		// Then
+		FestaStatistic afterDelete = festaStatisticRepository.findById(FESTA_ID).orElseThrow();
+		int remaining = REVIEWERS - deleted.size();
+		assertThat(afterDelete.getReviewCount()).isEqualTo(remaining);
+		assertThat(afterDelete.getTotalScore()).isEqualTo(5.0 * remaining);
+	}
+
+	private void runConcurrently(List<Long> ids, Consumer<Long> action) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Void>> futures = new ArrayList<>();
+			for (Long id : ids) {
+				Callable<Void> task = () -> {
+					start.await();
+					action.accept(id);
+					return null;
+				};
+				futures.add(pool.submit(task));
+			}
+			start.countDown();
+			for (Future<Void> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package com.oseak.myFestaBackend.review;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.oseak.myFestaBackend.dto.response.ReviewListResponseDto;
+import com.oseak.myFestaBackend.entity.CustomUserDetails;
+import com.oseak.myFestaBackend.entity.Festa;
+import com.oseak.myFestaBackend.entity.FestaStatistic;
+import com.oseak.myFestaBackend.entity.Member;
+import com.oseak.myFestaBackend.entity.ReviewId;
+import com.oseak.myFestaBackend.entity.enums.FestaStatus;
+import com.oseak.myFestaBackend.entity.enums.Provider;
+import com.oseak.myFestaBackend.repository.FestaRepository;
+import com.oseak.myFestaBackend.repository.FestaStatisticRepository;
+import com.oseak.myFestaBackend.repository.MemberRepository;
+import com.oseak.myFestaBackend.repository.ReviewRepository;
+import com.oseak.myFestaBackend.service.MemberProfileDirectory;
+import com.oseak.myFestaBackend.service.ReviewService;
+import com.oseak.myFestaBackend.support.MySqlContainerConfig;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 리뷰 목록 조회가 페이지 크기와 관계없이 고정된 개수의 SQL만 실행하는지 Hibernate 통계로 검증
+ * 테스트 전용 MySQL 컨테이너에서 실행 (실행: ./gradlew integrationTest, Docker 필요)
+ */
+@Tag("integration")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(MySqlContainerConfig.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReviewQueryCountTest {
+
+	// 첫 축제에는 모든 회원이, 첫 회원은 모든 축제에 리뷰를 작성 (페이지 크기보다 많게 두어 COUNT 쿼리까지 실행)
+	private static final long FIRST_FESTA_ID = 201L;
+	private static final int FESTAS = 12;
+	private static final int MEMBERS = 12;
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private MemberProfileDirectory memberProfileDirectory;
+
+	@Autowired
+	private FestaRepository festaRepository;
+
+	@Autowired
+	private FestaStatisticRepository festaStatisticRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final List<Long> festaIds = new ArrayList<>();
+	private final List<Member> members = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < FESTAS; i++) {
+			Long festaId = FIRST_FESTA_ID + i;
+			festaRepository.save(Festa.builder()
+				.festaId(festaId)
+				.festaName("쿼리 수 테스트 축제" + i)
+				.festaStatus(FestaStatus.ONGOING)
+				.build());
+			festaStatisticRepository.save(FestaStatistic.builder().festaId(festaId).build());
+			festaIds.add(festaId);
+		}
+
+		for (int i = 0; i < MEMBERS; i++) {
+			members.add(memberRepository.save(Member.builder()
+				.email("review-query-" + i + "@test.com")
+				.nickname("쿼리수" + i)
+				.provider(Provider.LOCAL)
+				.build()));
+		}
+
+		for (Member member : members) {
+			reviewService.createReview(member.getId(), FIRST_FESTA_ID, 4.0, null, "축제별");
+		}
+		for (Long festaId : festaIds.subList(1, festaIds.size())) {
+			reviewService.createReview(members.get(0).getId(), festaId, 4.0, null, "내 리뷰");
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		for (Member member : members) {
+			festaIds.forEach(festaId -> reviewRepository.findById(new ReviewId(member.getId(), festaId))
+				.ifPresent(reviewRepository::delete));
+		}
+		festaStatisticRepository.deleteAllById(festaIds);
+		festaRepository.deleteAllById(festaIds);
+		memberRepository.deleteAll(members);
+		festaIds.clear();
+		members.clear();
+	}
+
+	@Test
+	@DisplayName("축제별 리뷰 조회는 페이지 크기와 관계없이 축제 확인/목록/COUNT/작성자 조회 4개의 SQL만 실행")
+	void getReviewsByFesta_ConstantStatementCount() {
+		for (int size : new int[] {5, 10}) {
+			// 작성자 캐시를 비워 작성자 일괄 조회까지 포함해 측정
+			members.forEach(member -> memberProfileDirectory.invalidate(member.getId()));
+
+			long statements = countStatements(() -> {
+				ReviewListResponseDto result = reviewService.getReviewsByFesta(FIRST_FESTA_ID, 0, size, "latest");
+				assertThat(result.getReviews()).hasSize(size)
+					.allSatisfy(review -> assertThat(review.getMemberNickname()).isNotNull());
+			});
+
+			assertThat(statements).as("page size %d", size).isEqualTo(4);
+		}
+	}
+
+	@Test
+	@DisplayName("내 리뷰 조회는 페이지 크기와 관계없이 회원/목록/COUNT 3개의 SQL만 실행")
+	void getMyReviews_ConstantStatementCount() {
+		Member me = members.get(0);
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(new CustomUserDetails(me, null), null, Set.of()));
+
+		for (int size : new int[] {5, 10}) {
+			long statements = countStatements(() -> {
+				ReviewListResponseDto result = reviewService.getMyReviews(me.getId(), 0, size, "latest");
+				assertThat(result.getReviews()).hasSize(size)
+					.allSatisfy(review -> assertThat(review.getFestaName()).isNotNull());
+			});
+
+			assertThat(statements).as("page size %d", size).isEqualTo(3);
+		}
+	}
+
+	private long countStatements(Runnable query) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		query.run();
+		return statistics.getPrepareStatementCount();
+	}
+}
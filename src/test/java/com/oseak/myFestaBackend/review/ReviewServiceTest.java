@@ -0,0 +1,174 @@
+package com.oseak.myFestaBackend.review;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.oseak.myFestaBackend.dto.response.ReviewListResponseDto;
+import com.oseak.myFestaBackend.entity.CustomUserDetails;
+import com.oseak.myFestaBackend.entity.Festa;
+import com.oseak.myFestaBackend.entity.Member;
+import com.oseak.myFestaBackend.entity.Review;
+import com.oseak.myFestaBackend.entity.enums.Provider;
+import com.oseak.myFestaBackend.repository.FestaRepository;
+import com.oseak.myFestaBackend.repository.FestaStatisticRepository;
+import com.oseak.myFestaBackend.repository.MemberRepository;
+import com.oseak.myFestaBackend.repository.ReviewRepository;
+import com.oseak.myFestaBackend.service.MemberProfileDirectory;
+import com.oseak.myFestaBackend.service.ReviewService;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewServiceTest {
+	@Mock
+	private ReviewRepository reviewRepository;
+
+	@Mock
+	private FestaRepository festaRepository;
+
+	@Mock
+	private FestaStatisticRepository festaStatisticRepository;
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	private ReviewService reviewService;
+
+	private Festa festa;
+
+	@BeforeEach
+	void setUp() {
+		// 작성자 조회는 실제 캐시를 거쳐 MemberRepository 호출 횟수로 검증
+		MemberProfileDirectory memberProfileDirectory = new MemberProfileDirectory(memberRepository, 300, 1000);
+		reviewService = new ReviewService(reviewRepository, festaRepository, festaStatisticRepository,
+			memberRepository, memberProfileDirectory);
+		festa = Festa.builder().festaId(2612919L).festaName("테스트 축제").build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("축제 리뷰 목록 조회 시 작성자는 페이지 크기와 무관하게 한 번에 조회")
+	void getReviewsByFesta_LoadsAuthorsInSingleQuery() {
+		// Given
+		int pageSize = 50;
+		List<Review> reviews = new ArrayList<>();
+		List<Member> members = new ArrayList<>();
+		for (long memberId = 1; memberId <= pageSize; memberId++) {
+			reviews.add(review(memberId));
+			members.add(member(memberId));
+		}
+		Pageable pageable = PageRequest.of(0, pageSize);
+		when(festaRepository.existsById(festa.getFestaId())).thenReturn(true);
+		when(reviewRepository.findByFesta_FestaId(eq(festa.getFestaId()), any(Pageable.class)))
+			.thenReturn(new PageImpl<>(reviews, pageable, reviews.size()));
+		when(memberRepository.findAllById(anyIterable())).thenReturn(members);
+
+		// When
+		ReviewListResponseDto result = reviewService.getReviewsByFesta(festa.getFestaId(), 0, pageSize, "latest");
+
+		// Then
+		assertThat(result.getReviews()).hasSize(pageSize);
+		assertThat(result.getReviews().get(49).getMemberNickname()).isEqualTo("닉네임50");
+		verify(reviewRepository, times(1)).findByFesta_FestaId(eq(festa.getFestaId()), any(Pageable.class));
+		verify(memberRepository, times(1)).findAllById(anyIterable());
+		verify(memberRepository, never()).findById(anyLong());
+		verifyNoMoreInteractions(memberRepository);
+	}
+
+	@Test
+	@DisplayName("같은 작성자의 리뷰를 다시 조회하면 캐시를 사용해 회원 조회를 생략")
+	void getReviewsByFesta_SecondPageUsesCachedAuthors() {
+		// Given
+		List<Review> reviews = List.of(review(1L), review(2L));
+		when(festaRepository.existsById(festa.getFestaId())).thenReturn(true);
+		when(reviewRepository.findByFesta_FestaId(eq(festa.getFestaId()), any(Pageable.class)))
+			.thenReturn(new PageImpl<>(reviews));
+		when(memberRepository.findAllById(anyIterable())).thenReturn(List.of(member(1L), member(2L)));
+
+		// When
+		reviewService.getReviewsByFesta(festa.getFestaId(), 0, 10, "latest");
+		reviewService.getReviewsByFesta(festa.getFestaId(), 0, 10, "latest");
+
+		// Then
+		verify(memberRepository, times(1)).findAllById(anyIterable());
+	}
+
+	@Test
+	@DisplayName("리뷰가 없는 페이지는 작성자 조회 쿼리를 실행하지 않음")
+	void getReviewsByFesta_EmptyPage_SkipsAuthorQuery() {
+		// Given
+		when(festaRepository.existsById(festa.getFestaId())).thenReturn(true);
+		when(reviewRepository.findByFesta_FestaId(eq(festa.getFestaId()), any(Pageable.class)))
+			.thenReturn(new PageImpl<>(List.of()));
+
+		// When
+		ReviewListResponseDto result = reviewService.getReviewsByFesta(festa.getFestaId(), 0, 10, "latest");
+
+		// Then
+		assertThat(result.getReviews()).isEmpty();
+		verifyNoInteractions(memberRepository);
+	}
+
+	@Test
+	@DisplayName("내 리뷰 목록 조회 시 회원 조회는 한 번만 실행")
+	void getMyReviews_LoadsMemberOnce() {
+		// Given
+		Long memberId = 1L;
+		Member me = member(memberId);
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(new CustomUserDetails(me, null), null, Set.of()));
+
+		List<Review> reviews = List.of(review(memberId), review(memberId), review(memberId));
+		when(memberRepository.findById(memberId)).thenReturn(Optional.of(me));
+		when(reviewRepository.findById_MemberId(eq(memberId), any(Pageable.class)))
+			.thenReturn(new PageImpl<>(reviews));
+
+		// When
+		ReviewListResponseDto result = reviewService.getMyReviews(memberId, 0, 10, "latest");
+
+		// Then
+		assertThat(result.getReviews()).hasSize(3);
+		verify(memberRepository, times(1)).findById(memberId);
+		verifyNoMoreInteractions(memberRepository);
+	}
+
+	private Review review(Long memberId) {
+		return Review.builder()
+			.memberId(memberId)
+			.festa(festa)
+			.score(4.0)
+			.description("리뷰" + memberId)
+			.build();
+	}
+
+	private Member member(Long memberId) {
+		return Member.builder()
+			.id(memberId)
+			.email("user" + memberId + "@test.com")
+			.nickname("닉네임" + memberId)
+			.provider(Provider.LOCAL)
+			.profile("/images/profile/" + memberId + ".png")
+			.build();
+	}
+}
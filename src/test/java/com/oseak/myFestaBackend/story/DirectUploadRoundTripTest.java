@@ -0,0 +1,181 @@
+package com.oseak.myFestaBackend.story;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.oseak.myFestaBackend.common.exception.OsaekException;
+import com.oseak.myFestaBackend.common.exception.code.ClientErrorCode;
+import com.oseak.myFestaBackend.dto.request.StoryUploadCompleteRequestDto;
+import com.oseak.myFestaBackend.dto.request.StoryUploadUrlRequestDto;
+import com.oseak.myFestaBackend.dto.response.StoryUploadUrlResponseDto;
+import com.oseak.myFestaBackend.entity.Story;
+import com.oseak.myFestaBackend.entity.enums.ProcessingStatus;
+import com.oseak.myFestaBackend.service.MediaProcessingJobService;
+import com.oseak.myFestaBackend.service.StoryService;
+import com.oseak.myFestaBackend.support.MySqlContainerConfig;
+
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * presigned URL 발급 → 클라이언트 PUT → 완료 요청까지 S3 호환 저장소(MinIO)를 거쳐 검증
+ * 테스트 전용 MySQL/MinIO 컨테이너에서 실행 (실행: ./gradlew integrationTest, Docker 필요)
+ */
+@Tag("integration")
+@Testcontainers
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(MySqlContainerConfig.class)
+class DirectUploadRoundTripTest {
+
+	// 스토리의 회원/축제 ID는 외래 키가 없으므로 테스트 전용 값을 그대로 사용
+	private static final Long MEMBER_ID = 1L;
+	private static final Long FESTA_ID = 1L;
+	private static final int THREADS = 4;
+	private static final HttpClient HTTP = HttpClient.newHttpClient();
+
+	@Container
+	static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2024-10-13T13-34-11Z");
+
+	@DynamicPropertySource
+	static void storageProperties(DynamicPropertyRegistry registry) {
+		registry.add("aws.s3.endpoint", MINIO::getS3URL);
+		registry.add("aws.s3.access-key", MINIO::getUserName);
+		registry.add("aws.s3.secret-key", MINIO::getPassword);
+		registry.add("aws.s3.path-style-access", () -> "true");
+	}
+
+	@Autowired
+	private StoryService storyService;
+
+	@Autowired
+	private MediaProcessingJobService mediaProcessingJobService;
+
+	@Autowired
+	private S3Client s3Client;
+
+	@Value("${aws.s3.bucket}")
+	private String bucket;
+
+	@Test
+	@DisplayName("presigned URL로 올린 객체를 완료 처리하면 처리 중 스토리와 작업이 등록되고, 다시 완료하면 거절")
+	void presignPutComplete() throws Exception {
+		createBucketIfMissing();
+		byte[] image = sampleJpeg();
+		String uploadKey = presignAndPut(image);
+
+		Story story = storyService.uploadStoryFromStorage(completeRequest(uploadKey), MEMBER_ID);
+
+		assertThat(story.getStoryId()).isNotNull();
+		assertThat(story.getProcessingStatus()).isEqualTo(ProcessingStatus.PROCESSING.name());
+		assertThat(mediaProcessingJobService.isEnqueued(uploadKey)).isTrue();
+		assertThatThrownBy(() -> storyService.uploadStoryFromStorage(completeRequest(uploadKey), MEMBER_ID))
+			.isInstanceOfSatisfying(OsaekException.class,
+				e -> assertThat(e.getErrorCode()).isEqualTo(ClientErrorCode.UPLOAD_ALREADY_COMPLETED));
+	}
+
+	@Test
+	@DisplayName("같은 업로드 키로 완료 요청이 동시에 들어와도 스토리는 하나만 등록되고 나머지는 이미 완료로 거절")
+	void concurrentCompletion_registersOnce() throws Exception {
+		createBucketIfMissing();
+		String uploadKey = presignAndPut(sampleJpeg());
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Story>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < THREADS; i++) {
+				Callable<Story> complete = () -> {
+					start.await();
+					return storyService.uploadStoryFromStorage(completeRequest(uploadKey), MEMBER_ID);
+				};
+				futures.add(executor.submit(complete));
+			}
+			start.countDown();
+
+			int registered = 0;
+			for (Future<Story> future : futures) {
+				try {
+					future.get(30, TimeUnit.SECONDS);
+					registered++;
+				} catch (ExecutionException e) {
+					assertThat(e.getCause()).isInstanceOfSatisfying(OsaekException.class,
+						cause -> assertThat(cause.getErrorCode()).isEqualTo(ClientErrorCode.UPLOAD_ALREADY_COMPLETED));
+				}
+			}
+			assertThat(registered).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	// 클라이언트처럼 URL을 발급받아 응답에 담긴 헤더 그대로 저장소에 PUT
+	private String presignAndPut(byte[] body) throws IOException, InterruptedException {
+		StoryUploadUrlResponseDto issued = storyService.issueUploadUrl(StoryUploadUrlRequestDto.builder()
+			.fileName("photo.jpg")
+			.contentType("image/jpeg")
+			.fileSize((long)body.length)
+			.build(), MEMBER_ID);
+		assertThat(issued.getMethod()).isEqualTo("PUT");
+
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(issued.getUploadUrl()))
+			.PUT(HttpRequest.BodyPublishers.ofByteArray(body));
+		issued.getHeaders().forEach(request::header);
+		HttpResponse<String> response = HTTP.send(request.build(), HttpResponse.BodyHandlers.ofString());
+		assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+		return issued.getUploadKey();
+	}
+
+	private StoryUploadCompleteRequestDto completeRequest(String uploadKey) {
+		return StoryUploadCompleteRequestDto.builder()
+			.uploadKey(uploadKey)
+			.festaId(FESTA_ID)
+			.festaName("직접 업로드 테스트 축제")
+			.isOpen(true)
+			.build();
+	}
+
+	private void createBucketIfMissing() {
+		if (s3Client.listBuckets().buckets().stream().noneMatch(b -> b.name().equals(bucket))) {
+			s3Client.createBucket(b -> b.bucket(bucket));
+		}
+	}
+
+	private static byte[] sampleJpeg() throws IOException {
+		BufferedImage image = new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "jpeg", out);
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,131 @@
+package com.oseak.myFestaBackend.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+
+/**
+ * 벤치마크 테스트(@Tag("benchmark")) 공용 도구
+ * - 워밍업 후 반복 실행해 1회당 벽시계 시간과 CPU 시간을 측정
+ * - ffmpeg 설치/인코더 확인, -benchmark 출력(utime + stime)에서 CPU 시간 추출
+ * - 실제 사진과 비슷한 압축률의 샘플 이미지 생성
+ * 측정값은 환경마다 크게 달라지므로 결과는 TestReporter로 남기고 시간 비교 단언은 하지 않는다.
+ */
+public final class BenchmarkSupport {
+
+	private static final Pattern FFMPEG_BENCH = Pattern.compile("bench: utime=([\\d.]+)s stime=([\\d.]+)s");
+
+	private BenchmarkSupport() {
+	}
+
+	/**
+	 * 1회 실행하고 CPU 시간(ms)을 돌려주는 작업
+	 */
+	@FunctionalInterface
+	public interface CpuTask {
+		double run() throws Exception;
+	}
+
+	/**
+	 * 1회당 평균 벽시계 시간 / CPU 시간 (ms)
+	 */
+	public record Measurement(double wallMs, double cpuMs) {
+
+		public String format() {
+			return String.format("wall %.1f ms, cpu %.1f ms", wallMs, cpuMs);
+		}
+	}
+
+	public static Measurement measure(int warmup, int iterations, CpuTask task) throws Exception {
+		for (int i = 0; i < warmup; i++) {
+			task.run();
+		}
+		double cpuMs = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			cpuMs += task.run();
+		}
+		long elapsed = System.nanoTime() - start;
+		return new Measurement(elapsed / 1_000_000.0 / iterations, cpuMs / iterations);
+	}
+
+	/**
+	 * 현재 JVM 프로세스가 사용한 CPU 시간 (측정 전후 차이로 JVM 내부 작업의 CPU 시간을 계산)
+	 */
+	public static long processCpuNanos() {
+		return ((com.sun.management.OperatingSystemMXBean)ManagementFactory.getOperatingSystemMXBean())
+			.getProcessCpuTime();
+	}
+
+	public static boolean ffmpegAvailable() {
+		return ffmpegOutput(List.of("ffmpeg", "-version")) != null;
+	}
+
+	/**
+	 * ffmpeg에 해당 인코더(libwebp, libaom-av1 등)가 포함되어 있는지 확인
+	 */
+	public static boolean ffmpegEncoderAvailable(String encoder) {
+		String output = ffmpegOutput(List.of("ffmpeg", "-hide_banner", "-encoders"));
+		return output != null && output.contains(encoder);
+	}
+
+	/**
+	 * ffmpeg 명령을 실행한다. 실패하면 출력과 함께 테스트를 실패시킨다.
+	 *
+	 * @return -benchmark 옵션이 있으면 프로세스 CPU 시간(utime + stime, ms), 없으면 0
+	 */
+	public static double runFfmpeg(List<String> command) throws IOException, InterruptedException {
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+		assertThat(process.waitFor()).as(output).isZero();
+
+		Matcher matcher = FFMPEG_BENCH.matcher(output);
+		return matcher.find() ? (Double.parseDouble(matcher.group(1)) + Double.parseDouble(matcher.group(2))) * 1000 : 0;
+	}
+
+	/**
+	 * 그라데이션에 고정 시드 노이즈를 섞은 샘플 이미지 (단색 이미지보다 실제 사진에 가까운 압축률)
+	 */
+	public static void writeSampleImage(Path path, int width, int height, String format) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		g.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+		g.fillRect(0, 0, width, height);
+		g.dispose();
+
+		Random random = new Random(42);
+		for (int y = 0; y < height; y += 2) {
+			for (int x = 0; x < width; x += 2) {
+				int noise = random.nextInt(32);
+				image.setRGB(x, y, image.getRGB(x, y) ^ (noise << 16 | noise << 8 | noise));
+			}
+		}
+		ImageIO.write(image, format, path.toFile());
+	}
+
+	private static String ffmpegOutput(List<String> command) {
+		try {
+			Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+			String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+			return process.waitFor() == 0 ? output : null;
+		} catch (IOException e) {
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+}
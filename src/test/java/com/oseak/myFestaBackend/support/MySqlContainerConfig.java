@@ -0,0 +1,20 @@
+package com.oseak.myFestaBackend.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * 통합 테스트 전용 MySQL 컨테이너 (애플리케이션 설정의 데이터소스 대신 연결)
+ * 같은 설정을 쓰는 테스트끼리는 Spring 컨텍스트 캐시로 컨테이너 하나를 공유
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class MySqlContainerConfig {
+
+	@Bean
+	@ServiceConnection
+	MySQLContainer<?> mysqlContainer() {
+		return new MySQLContainer<>("mysql:8.0");
+	}
+}